@@ -0,0 +1,69 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.entity.Translation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic translations shared by the benchmarks, shaped like the seeded dataset.
+ */
+final class BenchmarkData {
+
+    static final String[] LOCALES = {"en", "fr", "de", "es", "pt-BR"};
+    static final String[] TAGS = {"web", "mobile", "desktop", "admin", "checkout", "onboarding"};
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static Translation entity(long id) {
+        Translation translation = new Translation(key(id), locale(id), content(id), tags(id));
+        translation.setId(id);
+        translation.setCreatedAt(CREATED_AT);
+        translation.setUpdatedAt(CREATED_AT.plusSeconds(id));
+        translation.setVersion(0L);
+        return translation;
+    }
+
+    static TranslationResponseDto dto(long id) {
+        TranslationResponseDto translation = new TranslationResponseDto(id, key(id), locale(id), content(id), tags(id),
+                CREATED_AT, CREATED_AT.plusSeconds(id));
+        translation.setVersion(0L);
+        return translation;
+    }
+
+    static List<TranslationResponseDto> dtos(int count) {
+        List<TranslationResponseDto> translations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            translations.add(dto(id));
+        }
+        return translations;
+    }
+
+    static String key(long id) {
+        return "app.section" + (id % 100) + ".label" + id;
+    }
+
+    static String locale(long id) {
+        return LOCALES[(int) (id % LOCALES.length)];
+    }
+
+    private static String content(long id) {
+        Random random = new Random(id);
+        StringBuilder content = new StringBuilder("Translated text ").append(id);
+        for (int i = 0; i < 4 + random.nextInt(8); i++) {
+            content.append(" word").append(random.nextInt(1000));
+        }
+        return content.toString();
+    }
+
+    private static Set<String> tags(long id) {
+        return new HashSet<>(List.of(TAGS[(int) (id % TAGS.length)], TAGS[(int) ((id / TAGS.length) % TAGS.length)]));
+    }
+}
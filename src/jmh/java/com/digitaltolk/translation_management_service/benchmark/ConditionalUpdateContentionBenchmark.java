@@ -0,0 +1,100 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.TranslationManagementServiceApplication;
+import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.exception.TranslationVersionConflictException;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conditional updates (read the version, then update with it as If-Match) from four threads
+ * over a pool of rows. With one hot row most writes lose the race and fail with a version
+ * conflict; {@code conflicts} against {@code updated} shows how many, and the throughput
+ * what a failed attempt costs compared with a successful one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConditionalUpdateContentionBenchmark {
+
+    @Param({"1", "64"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TranslationService translationService;
+    private final List<Long> ids = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TranslationManagementServiceApplication.class)
+                .run("--server.port=0",
+                        "--translation.seed.records=0",
+                        "--logging.level.com.digitaltolk.translation_management_service=WARN",
+                        "--management.tracing.enabled=false");
+        translationService = context.getBean(TranslationService.class);
+        for (int i = 0; i < rows; i++) {
+            ids.add(translationService.createTranslation(
+                    new TranslationRequestDto("contention.row" + i, "en", "Row " + i, Set.of("web"))).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+
+        public long updated;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updated = 0;
+            conflicts = 0;
+        }
+    }
+
+    @Benchmark
+    public void conditionalUpdate(Outcomes outcomes) {
+        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        TranslationResponseDto current = translationService.getTranslationById(id);
+        TranslationRequestDto update = new TranslationRequestDto(current.getTranslationKey(), current.getLocale(),
+                "Row " + ThreadLocalRandom.current().nextInt(), current.getTags());
+        try {
+            translationService.updateTranslation(id, update, current.getVersion());
+            outcomes.updated++;
+        } catch (TranslationVersionConflictException e) {
+            outcomes.conflicts++;
+        }
+    }
+}
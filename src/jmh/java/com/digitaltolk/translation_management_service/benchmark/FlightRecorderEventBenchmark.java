@@ -0,0 +1,88 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.cache.CompressedPayloadCache;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheMetrics;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.jfr.FlightRecorderService;
+import com.digitaltolk.translation_management_service.jfr.RepositoryQueryEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the custom Flight Recorder events with no recording ({@code off}) and with the
+ * service's recording profile running ({@code on}). The query threshold is 0 ms, so every
+ * repository event is committed, which is the worst case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FlightRecorderEventBenchmark {
+
+    private static final int CACHED_TRANSLATIONS = 1000;
+
+    @Param({"off", "on"})
+    public String recording;
+
+    private FlightRecorderService flightRecorderService;
+    private TranslationCacheManager cacheManager;
+    private long nextId;
+
+    @Setup
+    public void setUp() throws Exception {
+        ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager();
+        CompressedPayloadCache compressedPayloadCache = new CompressedPayloadCache(1024);
+        cacheManager = new TranslationCacheManager(caches, compressedPayloadCache,
+                new TranslationCacheMetrics(new SimpleMeterRegistry(), caches, compressedPayloadCache));
+        BenchmarkData.dtos(CACHED_TRANSLATIONS).forEach(translation -> cacheManager.cacheTranslationById(translation.getId(), translation));
+
+        flightRecorderService = new FlightRecorderService(Files.createTempDirectory("jfr-benchmark").toString(),
+                Duration.ofMinutes(1), DataSize.ofMegabytes(64), false, true, "0 ms");
+        if ("on".equals(recording)) {
+            flightRecorderService.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        flightRecorderService.close();
+    }
+
+    @Benchmark
+    public TranslationResponseDto cacheHit() {
+        nextId = nextId % CACHED_TRANSLATIONS + 1;
+        return cacheManager.getCachedTranslationById(nextId);
+    }
+
+    @Benchmark
+    public void repositoryQueryEvent() {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setQuery("findByLocale");
+            event.setRows(50);
+            event.commit();
+        }
+    }
+}
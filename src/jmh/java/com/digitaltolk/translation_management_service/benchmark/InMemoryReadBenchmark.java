@@ -0,0 +1,68 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.readmodel.TranslationSnapshot;
+import com.digitaltolk.translation_management_service.store.ColumnarTranslationStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads served from the in-memory structures instead of the database: the read model
+ * snapshot and the columnar store, both filled the way the service's change events fill them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InMemoryReadBenchmark {
+
+    @Param({"100000"})
+    public int translations;
+
+    private TranslationSnapshot snapshot;
+    private ColumnarTranslationStore columnarStore;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        snapshot = TranslationSnapshot.empty();
+        columnarStore = new ColumnarTranslationStore(null, null);
+        for (long id = 1; id <= translations; id++) {
+            TranslationResponseDto translation = BenchmarkData.dto(id);
+            snapshot = snapshot.with(translation);
+            columnarStore.onTranslationChanged(TranslationChangedEvent.created(translation));
+        }
+    }
+
+    @Benchmark
+    public TranslationResponseDto snapshotGetById() {
+        nextId = nextId % translations + 1;
+        return snapshot.get(nextId);
+    }
+
+    @Benchmark
+    public TranslationResponseDto snapshotGetByKey() {
+        nextId = nextId % translations + 1;
+        return snapshot.get(BenchmarkData.key(nextId), BenchmarkData.locale(nextId));
+    }
+
+    @Benchmark
+    public TranslationResponseDto columnarGetById() {
+        nextId = nextId % translations + 1;
+        return columnarStore.get(nextId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.readmodel.TranslationReadModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Readers of the read model while a writer keeps publishing updates, against the same
+ * readers with no writer. Reads take the current snapshot without locking, so the gap
+ * between the two groups is what the writer's allocation and cache traffic cost them.
+ * Read the groups' reader scores on a machine with at least four cores; on fewer the
+ * threads time-share and the comparison says little.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class ReadModelContentionBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"100000"})
+    public int translations;
+
+    private TranslationReadModel readModel;
+    private final AtomicLong updates = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        readModel = new TranslationReadModel(null, true);
+        for (long id = 1; id <= translations; id++) {
+            readModel.onTranslationChanged(TranslationChangedEvent.created(BenchmarkData.dto(id)));
+        }
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(3)
+    public TranslationResponseDto readWhileWritingGetById() {
+        return readModel.current().get(ThreadLocalRandom.current().nextLong(1, translations + 1));
+    }
+
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(1)
+    public void readWhileWritingUpdate() {
+        long update = updates.incrementAndGet();
+        TranslationResponseDto translation = BenchmarkData.dto(update % translations + 1);
+        translation.setUpdatedAt(translation.getUpdatedAt().plusSeconds(translations + update));
+        readModel.onTranslationChanged(TranslationChangedEvent.updated(translation));
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(3)
+    public TranslationResponseDto readOnlyGetById() {
+        return readModel.current().get(ThreadLocalRandom.current().nextLong(1, translations + 1));
+    }
+
+    @Benchmark
+    @Group("pageWhileWriting")
+    @GroupThreads(3)
+    public List<TranslationResponseDto> pageWhileWritingByUpdatedAt() {
+        String locale = BenchmarkData.LOCALES[ThreadLocalRandom.current().nextInt(BenchmarkData.LOCALES.length)];
+        return readModel.current().inLocaleByUpdatedAt(locale).descendingMap().values().stream().limit(PAGE_SIZE).toList();
+    }
+
+    @Benchmark
+    @Group("pageWhileWriting")
+    @GroupThreads(1)
+    public void pageWhileWritingUpdate() {
+        readWhileWritingUpdate();
+    }
+}
@@ -0,0 +1,106 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.TranslationManagementServiceApplication;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.index.TagBitmapIndex;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tag-filtered search over the seeded dataset: the first page of matching ids plus the
+ * total, resolved from the tag bitmap index and by the database queries it replaces.
+ * Boots the application against an H2 file database under {@code target/benchmark} with a
+ * cache large enough to hold it. The first fork seeds it, which takes minutes at 1M rows, and
+ * later forks reuse it. H2's query result cache is off, or the database runs would repeat one
+ * cached result instead of running the query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class TagSearchBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000000"})
+    public int translations;
+
+    @Param({"any", "all"})
+    public String match;
+
+    private final List<String> tags = List.of("web", "mobile");
+
+    private ConfigurableApplicationContext context;
+    private TagBitmapIndex tagBitmapIndex;
+    private TranslationRepository translationRepository;
+    private TagMatch tagMatch;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TranslationManagementServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:file:./target/benchmark/tag-search-" + translations + ";CACHE_SIZE=1048576;QUERY_CACHE_SIZE=0",
+                        "--translation.seed.records=" + translations,
+                        "--logging.level.com.digitaltolk.translation_management_service=WARN",
+                        "--management.tracing.enabled=false");
+        tagBitmapIndex = context.getBean(TagBitmapIndex.class);
+        translationRepository = context.getBean(TranslationRepository.class);
+        tagMatch = TagMatch.fromValue(match);
+        if (!tagBitmapIndex.isReady()) {
+            throw new IllegalStateException("Tag bitmap index was not built");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Long> bitmapById() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id").descending());
+        RoaringBitmap matches = tagBitmapIndex.resolve(tags, tagMatch);
+        return new PageImpl<>(TagBitmapIndex.selectPage(matches, 0, PAGE_SIZE, true), pageable, matches.getLongCardinality());
+    }
+
+    @Benchmark
+    public Page<Long> databaseById() {
+        return databasePage(Sort.by("id").descending());
+    }
+
+    @Benchmark
+    public Page<Long> databaseByUpdatedAt() {
+        return databasePage(Sort.by("updatedAt").descending());
+    }
+
+    private Page<Long> databasePage(Sort sort) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, sort);
+        return tagMatch == TagMatch.ALL
+                ? translationRepository.findIdsByAllTags(tags, tags.size(), pageable)
+                : translationRepository.findIdsByAnyTag(tags, pageable);
+    }
+}
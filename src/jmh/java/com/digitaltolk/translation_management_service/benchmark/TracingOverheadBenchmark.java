@@ -0,0 +1,150 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.cache.CompressedPayloadCache;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheAspect;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheMetrics;
+import com.digitaltolk.translation_management_service.converter.ObservedJsonHttpMessageConverter;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the tracing instrumentation on its two cheapest hot paths, a cache hit through
+ * the aspect and a JSON page write, with observations off ({@code noop}) and with every
+ * observation recorded as metrics plus a sampled OpenTelemetry span ({@code tracing}), and with
+ * the shipped default of sampling one trace in ten ({@code sampled10}). Spans go through the
+ * same batch processor as in production, to an exporter that drops them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TracingOverheadBenchmark {
+
+    private static final int CACHED_TRANSLATIONS = 1000;
+
+    @Param({"noop", "sampled10", "tracing"})
+    public String mode;
+
+    private SdkTracerProvider tracerProvider;
+    private TranslationService service;
+    private ObservedJsonHttpMessageConverter converter;
+    private List<TranslationResponseDto> page;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        ObservationRegistry observationRegistry = switch (mode) {
+            case "tracing" -> tracingRegistry(Sampler.alwaysOn());
+            case "sampled10" -> tracingRegistry(Sampler.parentBased(Sampler.traceIdRatioBased(0.1)));
+            default -> ObservationRegistry.NOOP;
+        };
+
+        ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager();
+        CompressedPayloadCache compressedPayloadCache = new CompressedPayloadCache(1024);
+        TranslationCacheManager cacheManager = new TranslationCacheManager(caches, compressedPayloadCache,
+                new TranslationCacheMetrics(new SimpleMeterRegistry(), caches, compressedPayloadCache));
+        BenchmarkData.dtos(CACHED_TRANSLATIONS).forEach(translation -> cacheManager.cacheTranslationById(translation.getId(), translation));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                new TranslationServiceImpl(null, null, null, null, null, null, null));
+        proxyFactory.addAspect(new TranslationCacheAspect(cacheManager, observationRegistry));
+        service = proxyFactory.getProxy();
+
+        converter = new ObservedJsonHttpMessageConverter(new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS), observationRegistry);
+        page = BenchmarkData.dtos(50);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (Objects.nonNull(tracerProvider)) {
+            tracerProvider.shutdown();
+        }
+    }
+
+    @Benchmark
+    public TranslationResponseDto getTranslationById_Hit() {
+        nextId = nextId % CACHED_TRANSLATIONS + 1;
+        return service.getTranslationById(nextId);
+    }
+
+    @Benchmark
+    public byte[] writeJsonPage() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(page, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    private ObservationRegistry tracingRegistry(Sampler sampler) {
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(sampler)
+                .addSpanProcessor(BatchSpanProcessor.builder(new DiscardingSpanExporter()).build())
+                .build();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("benchmark"), new OtelCurrentTraceContext(), event -> { });
+
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig()
+                .observationHandler(new DefaultMeterObservationHandler(new SimpleMeterRegistry()))
+                .observationHandler(new DefaultTracingObservationHandler(tracer));
+        return registry;
+    }
+
+    private static final class DiscardingSpanExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
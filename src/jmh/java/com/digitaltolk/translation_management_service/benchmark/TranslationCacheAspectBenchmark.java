@@ -0,0 +1,84 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.cache.CompressedPayloadCache;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheAspect;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheMetrics;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache hits through the proxied service, i.e. the cost of the aspect itself. The service
+ * behind the proxy has no dependencies, so a miss would fail; only hit paths are measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TranslationCacheAspectBenchmark {
+
+    private static final int CACHED_TRANSLATIONS = 1000;
+
+    private TranslationCacheManager cacheManager;
+    private TranslationService service;
+    private List<Long> pageIds;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager();
+        CompressedPayloadCache compressedPayloadCache = new CompressedPayloadCache(1024);
+        cacheManager = new TranslationCacheManager(caches, compressedPayloadCache,
+                new TranslationCacheMetrics(new SimpleMeterRegistry(), caches, compressedPayloadCache));
+        BenchmarkData.dtos(CACHED_TRANSLATIONS).forEach(translation -> cacheManager.cacheTranslationById(translation.getId(), translation));
+        cacheManager.cacheTranslationsByLocale("en", 0, 50, "id", "asc", BenchmarkData.dtos(50));
+        pageIds = BenchmarkData.dtos(50).stream().map(TranslationResponseDto::getId).toList();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+                new TranslationServiceImpl(null, null, null, null, null, null, null));
+        proxyFactory.addAspect(new TranslationCacheAspect(cacheManager, ObservationRegistry.NOOP));
+        service = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public TranslationResponseDto getTranslationById_Hit() {
+        nextId = nextId % CACHED_TRANSLATIONS + 1;
+        return service.getTranslationById(nextId);
+    }
+
+    @Benchmark
+    public List<TranslationResponseDto> getTranslationsByIds_Hit() {
+        return service.getTranslationsByIds(pageIds);
+    }
+
+    @Benchmark
+    public List<TranslationResponseDto> getTranslationsByLocale_Hit() {
+        return service.getTranslationsByLocale("en", 0, 50, "id", "asc");
+    }
+
+    @Benchmark
+    public TranslationResponseDto directCacheLookup_Baseline() {
+        nextId = nextId % CACHED_TRANSLATIONS + 1;
+        return cacheManager.getCachedTranslationById(nextId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.cache.CompressedPayloadCache;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.cache.TranslationCacheMetrics;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache manager operations over the default Spring Boot cache provider.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TranslationCacheManagerBenchmark {
+
+    @Param({"10000"})
+    public int cachedTranslations;
+
+    private TranslationCacheManager cacheManager;
+    private TranslationResponseDto written;
+    private List<TranslationResponseDto> localePage;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager();
+        CompressedPayloadCache compressedPayloadCache = new CompressedPayloadCache(1024);
+        cacheManager = new TranslationCacheManager(caches, compressedPayloadCache,
+                new TranslationCacheMetrics(new SimpleMeterRegistry(), caches, compressedPayloadCache));
+        BenchmarkData.dtos(cachedTranslations).forEach(translation -> cacheManager.cacheTranslationById(translation.getId(), translation));
+        localePage = BenchmarkData.dtos(50);
+        cacheManager.cacheTranslationsByLocale("en", 0, 50, "id", "asc", localePage);
+        written = BenchmarkData.dto(cachedTranslations / 2);
+    }
+
+    @Benchmark
+    public TranslationResponseDto getById_Hit() {
+        nextId = nextId % cachedTranslations + 1;
+        return cacheManager.getCachedTranslationById(nextId);
+    }
+
+    @Benchmark
+    public TranslationResponseDto getById_Miss() {
+        return cacheManager.getCachedTranslationById(-1L);
+    }
+
+    @Benchmark
+    public List<TranslationResponseDto> getByLocale_Hit() {
+        return cacheManager.getCachedTranslationsByLocale("en", 0, 50, "id", "asc");
+    }
+
+    @Benchmark
+    public void put() {
+        cacheManager.cacheTranslationById(written.getId(), written);
+    }
+
+    @Benchmark
+    public void update_InvalidatesLocaleAndSearch() {
+        cacheManager.updateCachedTranslation(written.getId(), written, written.getLocale(), written.getTags());
+    }
+}
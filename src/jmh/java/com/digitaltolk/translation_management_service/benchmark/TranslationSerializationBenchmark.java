@@ -0,0 +1,71 @@
+package com.digitaltolk.translation_management_service.benchmark;
+
+import com.digitaltolk.translation_management_service.converter.CompactTranslationWriter;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a page of translations as the controller does: JSON through the default
+ * mapper, and the compact columnar layout over CBOR.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TranslationSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    private final CompactTranslationWriter compactWriter = new CompactTranslationWriter();
+    private final CBORFactory cborFactory = new CBORFactory(new ObjectMapper());
+    private ObjectWriter jsonWriter;
+    private Page<TranslationResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        jsonWriter = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writer();
+        page = new PageImpl<>(BenchmarkData.dtos(pageSize), PageRequest.of(0, pageSize), 100_000);
+    }
+
+    @Benchmark
+    public byte[] jsonPage() throws IOException {
+        return jsonWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] compactCborPage() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pageSize * 128);
+        try (JsonGenerator generator = cborFactory.createGenerator(out)) {
+            compactWriter.writePage(generator, page);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,101 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Translations sampled from the running application, so requests hit rows that exist
+ * whatever seed and scale the application was started with. Rows created by the load test
+ * are tracked separately and are the only ones it deletes.
+ */
+final class Dataset {
+
+    record Row(long id, String key, String locale, String content) { }
+
+    private static final int SAMPLE_PAGE_SIZE = 500;
+
+    private final List<Row> rows;
+    private final List<String> locales;
+    private final List<String> tags;
+    private final ConcurrentLinkedDeque<Long> createdIds = new ConcurrentLinkedDeque<>();
+
+    private Dataset(List<Row> rows, List<String> locales, List<String> tags) {
+        this.rows = rows;
+        this.locales = locales;
+        this.tags = tags;
+    }
+
+    static Dataset sample(HttpClient client, ObjectMapper objectMapper, LoadTestConfig config, String token)
+            throws IOException, InterruptedException {
+        List<Row> rows = new ArrayList<>();
+        Set<String> tags = new TreeSet<>();
+        for (int page = 0; rows.size() < config.sampleSize(); page++) {
+            JsonNode body = get(client, objectMapper, config, token,
+                    "/api/v1/translations?sortBy=id&sortDir=asc&size=" + SAMPLE_PAGE_SIZE + "&page=" + page);
+            JsonNode content = body.path("content");
+            if (content.isEmpty()) {
+                break;
+            }
+            for (JsonNode translation : content) {
+                rows.add(new Row(translation.path("id").asLong(), translation.path("key").asText(),
+                        translation.path("locale").asText(), translation.path("content").asText()));
+                translation.path("tags").forEach(tag -> tags.add(tag.asText()));
+            }
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("No translations to sample, start the application with translation.seed.records > 0");
+        }
+
+        List<String> locales = new ArrayList<>();
+        get(client, objectMapper, config, token, "/api/v1/translations/locales").forEach(locale -> locales.add(locale.asText()));
+        return new Dataset(List.copyOf(rows), List.copyOf(locales), List.copyOf(tags));
+    }
+
+    private static JsonNode get(HttpClient client, ObjectMapper objectMapper, LoadTestConfig config, String token, String path)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(config.requestTimeout())
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Sampling " + path + " failed with status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    List<Row> rows() {
+        return rows;
+    }
+
+    List<String> locales() {
+        return locales;
+    }
+
+    List<String> tags() {
+        return tags;
+    }
+
+    void created(long id) {
+        createdIds.add(id);
+    }
+
+    /**
+     * A translation created by this run, or null when there is none left to delete.
+     */
+    Long pollCreated() {
+        return createdIds.pollFirst();
+    }
+}
@@ -0,0 +1,79 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param baseUrl       application under test
+ * @param rate          target arrivals per second, independent of response times
+ * @param poisson       exponential inter-arrival times instead of a fixed interval
+ * @param warmup        run before recording starts
+ * @param duration      recorded run
+ * @param mix           relative weight per operation group
+ * @param maxInFlight   arrivals beyond this many outstanding requests are dropped and counted
+ * @param requestTimeout per-request timeout, counted as an error when hit
+ * @param sampleSize    translations sampled from the dataset to build requests from
+ * @param randomSeed    seed for arrivals and request parameters
+ */
+record LoadTestConfig(String baseUrl,
+                      String username,
+                      String password,
+                      double rate,
+                      boolean poisson,
+                      Duration warmup,
+                      Duration duration,
+                      Map<Operation.Group, Integer> mix,
+                      int maxInFlight,
+                      Duration requestTimeout,
+                      int sampleSize,
+                      long randomSeed,
+                      Path reportDirectory) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                property("base-url", "http://localhost:8080"),
+                property("username", "loadtest"),
+                property("password", "loadtest-password"),
+                Double.parseDouble(property("rate", "200")),
+                "poisson".equalsIgnoreCase(property("arrival", "poisson")),
+                Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "120"))),
+                parseMix(property("mix", "read:70,search:20,write:10")),
+                Integer.parseInt(property("max-in-flight", "2000")),
+                Duration.ofMillis(Long.parseLong(property("timeout-ms", "10000"))),
+                Integer.parseInt(property("sample-size", "2000")),
+                Long.parseLong(property("random-seed", "42")),
+                Paths.get(property("report-dir", "target/loadtest")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    /**
+     * Parse {@code group:weight} pairs, e.g. {@code read:70,search:20,write:10}.
+     */
+    static Map<Operation.Group, Integer> parseMix(String value) {
+        Map<Operation.Group, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries must be group:weight, got: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + part);
+            }
+            mix.put(Operation.Group.valueOf(pair[0].trim().toUpperCase()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix needs at least one positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,136 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a recording as {@code report.json} and a self-contained {@code report.html}.
+ * Latencies are reported in milliseconds.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final ObjectMapper objectMapper;
+
+    LoadTestReport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    Path write(LoadTestConfig config, Recording recording, Instant startedAt) throws IOException {
+        Path directory = Files.createDirectories(config.reportDirectory()
+                .resolve(startedAt.toString().replace(':', '-')));
+        Map<String, Object> summary = summary(config, recording, startedAt);
+        objectMapper.writeValue(directory.resolve("report.json").toFile(), summary);
+        Files.writeString(directory.resolve("report.html"), html(summary, recording), StandardCharsets.UTF_8);
+        return directory;
+    }
+
+    Map<String, Object> summary(LoadTestConfig config, Recording recording, Instant startedAt) {
+        double seconds = recording.elapsedNanos() / 1e9;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("started_at", startedAt.toString());
+        summary.put("base_url", config.baseUrl());
+        summary.put("target_rate", config.rate());
+        summary.put("arrival", config.poisson() ? "poisson" : "constant");
+        summary.put("duration_seconds", seconds);
+        summary.put("mix", config.mix());
+        summary.put("random_seed", config.randomSeed());
+        summary.put("achieved_rate", seconds > 0 ? recording.total().responseTime.getTotalCount() / seconds : 0);
+        summary.put("total", stats(recording.total(), seconds));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        recording.operations().forEach((operation, stats) -> {
+            if (stats.responseTime.getTotalCount() > 0 || stats.dropped.sum() > 0) {
+                operations.put(operation.name().toLowerCase(), stats(stats, seconds));
+            }
+        });
+        summary.put("operations", operations);
+        return summary;
+    }
+
+    private Map<String, Object> stats(Recording.OperationStats stats, double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", stats.responseTime.getTotalCount());
+        result.put("rate", seconds > 0 ? stats.responseTime.getTotalCount() / seconds : 0);
+        result.put("errors", stats.errors.sum());
+        result.put("dropped", stats.dropped.sum());
+        result.put("statuses", stats.statusCounts());
+        result.put("response_time_ms", percentiles(stats.responseTime));
+        result.put("service_time_ms", percentiles(stats.serviceTime));
+        return result;
+    }
+
+    private Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (histogram.getTotalCount() == 0) {
+            return result;
+        }
+        result.put("mean", millis(histogram.getMean()));
+        for (double percentile : PERCENTILES) {
+            result.put("p" + (percentile % 1 == 0 ? Long.toString((long) percentile) : Double.toString(percentile)),
+                    millis(histogram.getValueAtPercentile(percentile)));
+        }
+        result.put("max", millis(histogram.getMaxValue()));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String html(Map<String, Object> summary, Recording recording) {
+        StringBuilder html = new StringBuilder()
+                .append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Load test ")
+                .append(summary.get("started_at"))
+                .append("</title><style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}th:first-child,td:first-child{text-align:left}")
+                .append("pre{font-size:12px;background:#f6f6f6;padding:1em}</style></head><body>")
+                .append("<h1>Load test ").append(summary.get("started_at")).append("</h1><p>")
+                .append(summary.get("base_url")).append(", target ").append(summary.get("target_rate"))
+                .append(" req/s (").append(summary.get("arrival")).append("), achieved ")
+                .append(String.format("%.1f", (double) summary.get("achieved_rate"))).append(" req/s over ")
+                .append(String.format("%.0f", (double) summary.get("duration_seconds"))).append(" s, mix ")
+                .append(summary.get("mix")).append(", seed ").append(summary.get("random_seed")).append("</p>")
+                .append("<p>Response time is measured from the intended arrival time; service time from when the request was sent.</p>")
+                .append("<table><tr><th>Operation</th><th>Count</th><th>Errors</th><th>Dropped</th>")
+                .append("<th>p50</th><th>p90</th><th>p99</th><th>p99.9</th><th>max</th><th>Service p99</th><th>Statuses</th></tr>");
+
+        Map<String, Object> rows = new LinkedHashMap<>();
+        rows.put("total", summary.get("total"));
+        rows.putAll((Map<String, Object>) summary.get("operations"));
+        rows.forEach((name, value) -> {
+            Map<String, Object> stats = (Map<String, Object>) value;
+            Map<String, Object> response = (Map<String, Object>) stats.get("response_time_ms");
+            Map<String, Object> service = (Map<String, Object>) stats.get("service_time_ms");
+            html.append("<tr><td>").append(name).append("</td><td>").append(stats.get("count"))
+                    .append("</td><td>").append(stats.get("errors")).append("</td><td>").append(stats.get("dropped"));
+            for (String percentile : new String[]{"p50", "p90", "p99", "p99.9", "max"}) {
+                html.append("</td><td>").append(response.getOrDefault(percentile, "-"));
+            }
+            html.append("</td><td>").append(service.getOrDefault("p99", "-"))
+                    .append("</td><td>").append(stats.get("statuses")).append("</td></tr>");
+        });
+        html.append("</table><h2>Response time distribution (ms)</h2>");
+
+        ByteArrayOutputStream distribution = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(distribution, true, StandardCharsets.UTF_8)) {
+            recording.total().responseTime.outputPercentileDistribution(out, (double) TimeUnit.MILLISECONDS.toMicros(1));
+        }
+        html.append("<pre>").append(distribution.toString(StandardCharsets.UTF_8)).append("</pre></body></html>");
+        return html.toString();
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
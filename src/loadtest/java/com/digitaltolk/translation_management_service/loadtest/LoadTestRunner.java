@@ -0,0 +1,157 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for a locally running instance.
+ * <p>
+ * Arrivals follow the configured rate regardless of how fast responses come back; each
+ * request runs on its own virtual thread. Run with
+ * {@code mvn -Ploadtest test-compile exec:java -Dloadtest.rate=500}, see the README for
+ * all {@code loadtest.*} properties.
+ */
+public final class LoadTestRunner {
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.requestTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        new LoadTestRunner(config).run();
+    }
+
+    private void run() throws Exception {
+        String token = authenticate();
+        Dataset dataset = Dataset.sample(client, objectMapper, config, token);
+        System.out.printf("Sampled %d translations, %d locales, %d tags from %s%n",
+                dataset.rows().size(), dataset.locales().size(), dataset.tags().size(), config.baseUrl());
+
+        Random random = new Random(config.randomSeed());
+        RequestFactory requests = new RequestFactory(config, dataset, token, random, objectMapper);
+
+        System.out.printf("Warming up for %ds at %.0f req/s%n", config.warmup().toSeconds(), config.rate());
+        drive(requests, random, config.warmup().toNanos());
+
+        System.out.printf("Recording for %ds at %.0f req/s%n", config.duration().toSeconds(), config.rate());
+        Instant startedAt = Instant.now();
+        Recording recording = drive(requests, random, config.duration().toNanos());
+
+        Path report = new LoadTestReport(objectMapper).write(config, recording, startedAt);
+        Recording.OperationStats total = recording.total();
+        System.out.printf("%d requests, %d errors, %d dropped; p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms%n",
+                total.responseTime.getTotalCount(), total.errors.sum(), total.dropped.sum(),
+                total.responseTime.getValueAtPercentile(50) / 1000.0,
+                total.responseTime.getValueAtPercentile(99) / 1000.0,
+                total.responseTime.getValueAtPercentile(99.9) / 1000.0);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    /**
+     * Issue arrivals for the given time and wait for the outstanding requests.
+     */
+    private Recording drive(RequestFactory requests, Random random, long durationNanos) throws InterruptedException {
+        Recording recording = new Recording();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        double nextArrival = start;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (nextArrival < end) {
+                long intendedStart = (long) nextArrival;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                RequestFactory.PreparedRequest request = requests.next();
+                if (inFlight.tryAcquire()) {
+                    executor.execute(() -> {
+                        try {
+                            send(request, intendedStart, recording);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } else {
+                    recording.dropped(request.operation());
+                }
+
+                nextArrival += config.poisson()
+                        ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                        : meanIntervalNanos;
+            }
+        }
+        recording.finish(System.nanoTime() - start);
+        return recording;
+    }
+
+    private void send(RequestFactory.PreparedRequest request, long intendedStart, Recording recording) {
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.request(), RequestFactory.bodyHandler(request));
+            recording.response(request.operation(), response.statusCode(), intendedStart, sent, System.nanoTime());
+            if (Objects.nonNull(request.onSuccess()) && response.statusCode() / 100 == 2) {
+                request.onSuccess().accept(response.body());
+            }
+        } catch (IOException e) {
+            recording.failure(request.operation(), intendedStart, System.nanoTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recording.failure(request.operation(), intendedStart, System.nanoTime());
+        }
+    }
+
+    /**
+     * Log in as the load test user, registering it first when it does not exist yet.
+     */
+    private String authenticate() throws IOException, InterruptedException {
+        HttpResponse<String> login = postAuth("/api/auth/login");
+        if (login.statusCode() != 200) {
+            HttpResponse<String> register = postAuth("/api/auth/register");
+            if (register.statusCode() != 200) {
+                throw new IllegalStateException("Could not log in or register " + config.username()
+                        + ": " + register.statusCode() + " " + register.body());
+            }
+            return objectMapper.readTree(register.body()).path("token").asText();
+        }
+        return objectMapper.readTree(login.body()).path("token").asText();
+    }
+
+    private HttpResponse<String> postAuth(String path) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", config.username(), "password", config.password()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .header("Content-Type", "application/json")
+                .timeout(config.requestTimeout())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
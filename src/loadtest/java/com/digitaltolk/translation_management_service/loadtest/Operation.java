@@ -0,0 +1,55 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Every {@code TranslationController} endpoint exercised by the load test, grouped for the
+ * read/search/write mix. Operations in a group are picked with equal probability.
+ */
+enum Operation {
+
+    GET_BY_ID(Group.READ),
+    LOOKUP(Group.READ),
+    RESOLVE(Group.READ),
+    RESOLVE_BUNDLE(Group.READ),
+    BATCH(Group.READ),
+    LOCALES(Group.READ),
+    EXPORT_LOCALE(Group.READ),
+    EXPORT_SNAPSHOT(Group.READ),
+
+    SEARCH(Group.SEARCH),
+    SEARCH_BY_TAGS(Group.SEARCH),
+    SEARCH_BY_KEY(Group.SEARCH),
+    SEARCH_BY_CONTENT(Group.SEARCH),
+    BULK_DRY_RUN(Group.SEARCH),
+
+    CREATE(Group.WRITE),
+    UPDATE(Group.WRITE),
+    PATCH(Group.WRITE),
+    DELETE(Group.WRITE);
+
+    enum Group {
+        READ, SEARCH, WRITE
+    }
+
+    private static final Map<Group, List<Operation>> BY_GROUP = Arrays.stream(values())
+            .collect(Collectors.groupingBy(Operation::group, () -> new EnumMap<>(Group.class), Collectors.toList()));
+
+    private final Group group;
+
+    Operation(Group group) {
+        this.group = group;
+    }
+
+    Group group() {
+        return group;
+    }
+
+    static List<Operation> inGroup(Group group) {
+        return BY_GROUP.getOrDefault(group, List.of());
+    }
+}
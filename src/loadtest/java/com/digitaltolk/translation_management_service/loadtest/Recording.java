@@ -0,0 +1,97 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes per operation, in microseconds.
+ * <p>
+ * Response time is measured from the intended arrival time, so a stalled server is charged
+ * for the requests that queued behind it (no coordinated omission). Service time is measured
+ * from when the request was actually sent and is kept alongside for comparison.
+ */
+final class Recording {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    static final class OperationStats {
+        final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+
+        Map<Integer, Long> statusCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            return counts;
+        }
+    }
+
+    private final Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+    private final OperationStats total = new OperationStats();
+    private volatile long elapsedNanos;
+
+    Recording() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationStats());
+        }
+    }
+
+    void response(Operation operation, int status, long intendedStart, long sent, long completed) {
+        for (OperationStats stats : new OperationStats[]{operations.get(operation), total}) {
+            stats.responseTime.recordValue(clamp(completed - intendedStart));
+            stats.serviceTime.recordValue(clamp(completed - sent));
+            stats.statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+            if (status >= 500) {
+                stats.errors.increment();
+            }
+        }
+    }
+
+    /**
+     * A request that failed without a response, e.g. a timeout or refused connection.
+     */
+    void failure(Operation operation, long intendedStart, long completed) {
+        for (OperationStats stats : new OperationStats[]{operations.get(operation), total}) {
+            stats.responseTime.recordValue(clamp(completed - intendedStart));
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * An arrival not sent because too many requests were outstanding.
+     */
+    void dropped(Operation operation) {
+        operations.get(operation).dropped.increment();
+        total.dropped.increment();
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    Map<Operation, OperationStats> operations() {
+        return operations;
+    }
+
+    OperationStats total() {
+        return total;
+    }
+
+    long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    private static long clamp(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
@@ -0,0 +1,207 @@
+package com.digitaltolk.translation_management_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Builds the request for each arrival from the sampled dataset. Only used from the
+ * scheduling thread, so the seeded {@link Random} gives the same request sequence per seed.
+ */
+final class RequestFactory {
+
+    private static final String API = "/api/v1/translations";
+
+    /**
+     * A request ready to send. {@code onSuccess} sees the body of 2xx responses when it is set.
+     */
+    record PreparedRequest(Operation operation, HttpRequest request, Consumer<String> onSuccess) { }
+
+    private final LoadTestConfig config;
+    private final Dataset dataset;
+    private final String token;
+    private final Random random;
+    private final ObjectMapper objectMapper;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final List<Operation.Group> groups = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private long createdCount;
+
+    RequestFactory(LoadTestConfig config, Dataset dataset, String token, Random random, ObjectMapper objectMapper) {
+        this.config = config;
+        this.dataset = dataset;
+        this.token = token;
+        this.random = random;
+        this.objectMapper = objectMapper;
+        this.cumulativeWeights = new int[config.mix().size()];
+        int total = 0;
+        for (Map.Entry<Operation.Group, Integer> entry : config.mix().entrySet()) {
+            total += entry.getValue();
+            cumulativeWeights[groups.size()] = total;
+            groups.add(entry.getKey());
+        }
+    }
+
+    PreparedRequest next() {
+        Operation operation = pick(Operation.inGroup(nextGroup()));
+        Dataset.Row row = dataset.rows().get(random.nextInt(dataset.rows().size()));
+        String locale = pick(dataset.locales());
+
+        return switch (operation) {
+            case GET_BY_ID -> get(operation, API + "/" + row.id());
+            case LOOKUP -> get(operation, API + "/lookup?key=" + encode(row.key()) + "&locale=" + row.locale());
+            case RESOLVE -> get(operation, API + "/resolve?key=" + encode(row.key()) + "&locale=" + locale);
+            case RESOLVE_BUNDLE -> get(operation, API + "/resolve/bundle?locale=" + locale);
+            case BATCH -> post(operation, API + "/batch", batchBody(), null);
+            case LOCALES -> get(operation, API + "/locales");
+            case EXPORT_LOCALE -> get(operation, API + "/search/by-locale?locale=" + locale + "&sortBy=id&sortDir=asc"
+                    + "&size=50&page=" + random.nextInt(10));
+            case EXPORT_SNAPSHOT -> get(operation, API + "/search/by-locale?snapshot=true&locale=" + locale);
+            case SEARCH -> get(operation, API + "?key=" + encode(keyPrefix(row.key())) + "&locale=" + row.locale() + "&size=20");
+            case SEARCH_BY_TAGS -> get(operation, API + "/search/by-tags?tags=" + encode(pick(dataset.tags())) + ","
+                    + encode(pick(dataset.tags())) + "&match=" + (random.nextBoolean() ? "any" : "all") + "&size=20&sortBy=id");
+            case SEARCH_BY_KEY -> get(operation, API + "/search/by-key?key=" + encode(keyPrefix(row.key())) + "&size=20");
+            case SEARCH_BY_CONTENT -> get(operation, API + "/search/by-content?content=" + encode(contentFragment(row.content())) + "&size=20");
+            case BULK_DRY_RUN -> post(operation, API + "/bulk/delete?dryRun=true",
+                    json(Map.of("key_prefix", keyPrefix(row.key()), "locale", locale)), null);
+            case CREATE -> create();
+            case UPDATE -> put(operation, API + "/" + row.id(), json(translationBody(row.key(), row.locale())));
+            case PATCH -> patch(operation, API + "/" + row.id(), json(Map.of("content", content())));
+            case DELETE -> {
+                Long id = dataset.pollCreated();
+                yield Objects.nonNull(id) ? delete(operation, API + "/" + id) : create();
+            }
+        };
+    }
+
+    private Operation.Group nextGroup() {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return groups.get(i);
+            }
+        }
+        throw new IllegalStateException("Unreachable: draw beyond total weight");
+    }
+
+    private PreparedRequest create() {
+        String key = "loadtest." + runId + "." + (++createdCount);
+        return post(Operation.CREATE, API, json(translationBody(key, pick(dataset.locales()))), body -> {
+            try {
+                dataset.created(objectMapper.readTree(body).path("id").asLong());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Map<String, Object> translationBody(String key, String locale) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("key", key);
+        body.put("locale", locale);
+        body.put("content", content());
+        body.put("tags", List.of(pick(dataset.tags())));
+        return body;
+    }
+
+    private String batchBody() {
+        List<Long> ids = new ArrayList<>();
+        List<Map<String, String>> keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Dataset.Row row = dataset.rows().get(random.nextInt(dataset.rows().size()));
+            if (i % 2 == 0) {
+                ids.add(row.id());
+            } else {
+                keys.add(Map.of("key", row.key(), "locale", row.locale()));
+            }
+        }
+        return json(Map.of("ids", ids, "keys", keys));
+    }
+
+    private String content() {
+        return "Load test content " + Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    private String keyPrefix(String key) {
+        int dot = key.indexOf('.');
+        return dot < 0 ? key : key.substring(0, Math.min(key.length(), dot + 3));
+    }
+
+    private String contentFragment(String content) {
+        if (content.length() <= 6) {
+            return content;
+        }
+        int start = random.nextInt(content.length() - 6);
+        return content.substring(start, start + 3 + random.nextInt(4));
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private PreparedRequest get(Operation operation, String path) {
+        return new PreparedRequest(operation, builder(path).GET().build(), null);
+    }
+
+    private PreparedRequest post(Operation operation, String path, String body, Consumer<String> onSuccess) {
+        return new PreparedRequest(operation, builder(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), onSuccess);
+    }
+
+    private PreparedRequest put(Operation operation, String path, String body) {
+        return new PreparedRequest(operation, builder(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build(), null);
+    }
+
+    private PreparedRequest patch(Operation operation, String path, String body) {
+        return new PreparedRequest(operation, builder(path)
+                .header("Content-Type", "application/merge-patch+json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build(), null);
+    }
+
+    private PreparedRequest delete(Operation operation, String path) {
+        return new PreparedRequest(operation, builder(path).DELETE().build(), null);
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(config.requestTimeout());
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    static HttpResponse.BodyHandler<String> bodyHandler(PreparedRequest request) {
+        return Objects.nonNull(request.onSuccess())
+                ? HttpResponse.BodyHandlers.ofString()
+                : HttpResponse.BodyHandlers.replacing(null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.digitaltolk.translation_management_service.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounds the database-bound requests in flight with an AIMD limit.
+ * <p>
+ * Each request that finishes within {@code translation.admission.latency-threshold} raises the
+ * limit by {@code 1/limit} (about one per window of requests) as long as the limit is being
+ * used; each slower one cuts it by 10%, down to {@code min-limit}. Expensive requests (content
+ * searches, large pages, exports, bulk changes) may only fill {@code expensive-share} of the
+ * limit, which keeps pool connections free for cheap work. Requests over the limit are refused
+ * rather than queued.
+ * <p>
+ * Every admitted request may need a connection, so the limit never exceeds the connection
+ * pool: {@code max-limit} defaults to {@code spring.datasource.hikari.maximum-pool-size} and is
+ * capped at it, and {@code initial-limit} defaults to the maximum.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double expensiveShare;
+
+    private double limit;
+    private int inFlight;
+    private int expensiveInFlight;
+
+    public AdaptiveConcurrencyLimiter(@Value("${translation.admission.initial-limit:0}") int initialLimit,
+                                      @Value("${translation.admission.min-limit:2}") int minLimit,
+                                      @Value("${translation.admission.max-limit:0}") int maxLimit,
+                                      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                      @Value("${translation.admission.latency-threshold:250ms}") Duration latencyThreshold,
+                                      @Value("${translation.admission.expensive-share:0.5}") double expensiveShare,
+                                      MeterRegistry meterRegistry) {
+        if (maxLimit > poolSize) {
+            logger.warn("translation.admission.max-limit {} exceeds the {} pool connections, using {}", maxLimit, poolSize, poolSize);
+        }
+        this.maxLimit = maxLimit > 0 ? Math.min(maxLimit, poolSize) : poolSize;
+        this.minLimit = Math.min(minLimit, this.maxLimit);
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.expensiveShare = expensiveShare;
+        this.limit = initialLimit > 0 ? Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit)) : this.maxLimit;
+
+        Gauge.builder("translation.admission.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current limit on database-bound requests in flight")
+                .register(meterRegistry);
+        Gauge.builder("translation.admission.concurrency.in.flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Database-bound requests in flight")
+                .register(meterRegistry);
+    }
+
+    public synchronized boolean tryAcquire(boolean expensive) {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        if (expensive && expensiveInFlight >= Math.max(1, (int) (limit * expensiveShare))) {
+            return false;
+        }
+        inFlight++;
+        if (expensive) {
+            expensiveInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void release(boolean expensive, long latencyNanos) {
+        boolean saturated = inFlight >= limit / 2;
+        inFlight--;
+        if (expensive) {
+            expensiveInFlight--;
+        }
+        if (latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (saturated) {
+            // Only grow while the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
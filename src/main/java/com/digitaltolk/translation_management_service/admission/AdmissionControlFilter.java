@@ -0,0 +1,173 @@
+package com.digitaltolk.translation_management_service.admission;
+
+import com.digitaltolk.translation_management_service.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of the translation endpoints.
+ * <p>
+ * Each request is classified ({@link EndpointClass}) and costed: one token per
+ * {@code page-size-unit} rows requested, times {@code content-search-weight} for content
+ * searches, and {@code bulk-weight} for bulk changes. The cost is charged to the caller's
+ * bucket for that class ({@link ClientRateLimiter}), keyed by JWT subject, and a caller over
+ * its rate gets {@code 429} with {@code Retry-After}. Database-bound requests then need a slot
+ * from the {@link AdaptiveConcurrencyLimiter} and get {@code 503} when there is none, so
+ * excess load is refused up front instead of queueing on the connection pool.
+ * <p>
+ * Runs after the security filter chain, so the authenticated subject is known.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+    private static final String TRANSLATIONS_PATH = "/api/v1/translations";
+    private static final long OVERLOAD_RETRY_AFTER_SECONDS = 1L;
+
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int pageSizeUnit;
+    private final double contentSearchWeight;
+    private final double bulkWeight;
+
+    public AdmissionControlFilter(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${translation.admission.enabled:true}") boolean enabled,
+                                  @Value("${translation.admission.page-size-unit:50}") int pageSizeUnit,
+                                  @Value("${translation.admission.content-search-weight:5}") double contentSearchWeight,
+                                  @Value("${translation.admission.bulk-weight:10}") double bulkWeight) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pageSizeUnit = pageSizeUnit;
+        this.contentSearchWeight = contentSearchWeight;
+        this.bulkWeight = bulkWeight;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !path(request).startsWith(TRANSLATIONS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = path(request).substring(TRANSLATIONS_PATH.length());
+        EndpointClass endpointClass = classify(request.getMethod(), path, request);
+        double cost = cost(endpointClass, path, request);
+        String client = client(request);
+
+        long waitNanos = rateLimiter.tryAcquire(client, endpointClass, cost);
+        if (waitNanos > 0) {
+            logger.debug("Rate limited {} on {} {} (cost {})", client, request.getMethod(), path, cost);
+            reject(response, endpointClass, HttpStatus.TOO_MANY_REQUESTS, "rate_limit",
+                    Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+            return;
+        }
+        if (!endpointClass.isDatabaseBound()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean expensive = cost > 1;
+        if (!concurrencyLimiter.tryAcquire(expensive)) {
+            logger.debug("Shed {} {} from {}, {} requests in flight", request.getMethod(), path, client,
+                    concurrencyLimiter.getInFlight());
+            reject(response, endpointClass, HttpStatus.SERVICE_UNAVAILABLE, "concurrency", OVERLOAD_RETRY_AFTER_SECONDS);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(expensive, System.nanoTime() - start);
+        }
+    }
+
+    EndpointClass classify(String method, String path, HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(method)) {
+            return "/batch".equals(path) ? EndpointClass.READ : EndpointClass.WRITE;
+        }
+        if (path.startsWith("/search/by-locale")) {
+            // Snapshot exports are served from disk with sendfile
+            return Boolean.parseBoolean(request.getParameter("snapshot")) ? EndpointClass.READ : EndpointClass.EXPORT;
+        }
+        if (path.isEmpty() || "/".equals(path) || path.startsWith("/search/")) {
+            return EndpointClass.SEARCH;
+        }
+        return EndpointClass.READ;
+    }
+
+    double cost(EndpointClass endpointClass, String path, HttpServletRequest request) {
+        if (endpointClass == EndpointClass.WRITE) {
+            return path.startsWith("/bulk/") ? bulkWeight : 1;
+        }
+        if (endpointClass == EndpointClass.READ) {
+            return 1;
+        }
+        int size = NumberUtils.toInt(request.getParameter("size"), pageSizeUnit);
+        double cost = Math.max(1, (size + pageSizeUnit - 1) / pageSizeUnit);
+        if (path.startsWith("/search/by-content") || StringUtils.isNotBlank(request.getParameter("content"))) {
+            cost *= contentSearchWeight;
+        }
+        return cost;
+    }
+
+    private String client(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return Objects.nonNull(principal) ? principal.getName() : request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, HttpStatus status,
+                        String reason, long retryAfterSeconds) throws IOException {
+        Counter.builder("translation.admission.rejected")
+                .description("Requests refused by admission control")
+                .tag("class", endpointClass.tagValue())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        String message = status == HttpStatus.TOO_MANY_REQUESTS
+                ? "Rate limit exceeded, retry in " + retryAfterSeconds + "s"
+                : "Service is overloaded, retry later";
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
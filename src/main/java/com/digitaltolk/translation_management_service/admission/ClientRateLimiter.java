@@ -0,0 +1,91 @@
+package com.digitaltolk.translation_management_service.admission;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token-bucket rate limits per client and endpoint class.
+ * <p>
+ * Limits come from {@code translation.admission.rate-limits} as {@code class=rate/burst}
+ * pairs ({@code search=20/40}): each client may spend {@code rate} tokens per second and up to
+ * {@code burst} at once. A request's cost is capped at the burst, so a very expensive request
+ * drains the bucket rather than being refused forever. Classes without a limit are not limited,
+ * and buckets that have refilled and sat unused are dropped.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientRateLimiter.class);
+
+    private final Map<EndpointClass, Limit> limits;
+    private final long idleNanos;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public ClientRateLimiter(@Value("${translation.admission.rate-limits:read=200/400,search=20/40,export=10/20,write=50/100}") String rateLimits,
+                             @Value("${translation.admission.idle-bucket-timeout:10m}") Duration idleTimeout) {
+        this.limits = parseLimits(rateLimits);
+        this.idleNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Charge {@code cost} tokens to the client's bucket for the endpoint class.
+     *
+     * @return 0 when the request is admitted, otherwise the nanoseconds until it would be
+     */
+    public long tryAcquire(String client, EndpointClass endpointClass, double cost) {
+        return tryAcquire(client, endpointClass, cost, System.nanoTime());
+    }
+
+    long tryAcquire(String client, EndpointClass endpointClass, double cost, long now) {
+        Limit limit = limits.get(endpointClass);
+        if (Objects.isNull(limit)) {
+            return 0L;
+        }
+        TokenBucket bucket = buckets.computeIfAbsent(client + '|' + endpointClass.name(),
+                key -> new TokenBucket(limit.burst(), limit.rate(), now));
+        return bucket.tryConsume(Math.min(cost, limit.burst()), now);
+    }
+
+    @Scheduled(fixedDelayString = "${translation.admission.idle-bucket-sweep-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        logger.debug("Evicted {} idle rate-limit buckets, {} left", before - buckets.size(), buckets.size());
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    private Map<EndpointClass, Limit> parseLimits(String rateLimits) {
+        Map<EndpointClass, Limit> parsed = new EnumMap<>(EndpointClass.class);
+        if (StringUtils.isBlank(rateLimits)) {
+            return parsed;
+        }
+        for (String entry : rateLimits.split(",")) {
+            String[] classAndLimit = entry.split("=");
+            String[] rateAndBurst = classAndLimit.length == 2 ? classAndLimit[1].split("/") : new String[0];
+            if (rateAndBurst.length != 2) {
+                throw new IllegalArgumentException("Invalid rate limit '" + entry.trim() + "', expected class=rate/burst");
+            }
+            EndpointClass endpointClass = EndpointClass.valueOf(classAndLimit[0].trim().toUpperCase());
+            parsed.put(endpointClass, new Limit(Double.parseDouble(rateAndBurst[0].trim()),
+                    Double.parseDouble(rateAndBurst[1].trim())));
+        }
+        logger.info("Rate limits per client: {}", parsed);
+        return parsed;
+    }
+
+    private record Limit(double rate, double burst) { }
+}
@@ -0,0 +1,26 @@
+package com.digitaltolk.translation_management_service.admission;
+
+/**
+ * Groups of translation endpoints that share a rate limit. Everything but {@link #READ}
+ * goes to the database on every call and so also passes the concurrency limiter.
+ */
+public enum EndpointClass {
+    READ(false),
+    SEARCH(true),
+    EXPORT(true),
+    WRITE(true);
+
+    private final boolean databaseBound;
+
+    EndpointClass(boolean databaseBound) {
+        this.databaseBound = databaseBound;
+    }
+
+    public boolean isDatabaseBound() {
+        return databaseBound;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
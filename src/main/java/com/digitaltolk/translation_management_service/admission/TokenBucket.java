@@ -0,0 +1,52 @@
+package com.digitaltolk.translation_management_service.admission;
+
+/**
+ * Token bucket holding up to {@code capacity} tokens, refilled continuously at
+ * {@code refillPerSecond}. Callers pass {@link System#nanoTime()} so tests can drive time.
+ */
+class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefill;
+    private long lastUsed;
+
+    TokenBucket(double capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefill = now;
+        this.lastUsed = now;
+    }
+
+    /**
+     * Take {@code cost} tokens if the bucket holds them.
+     *
+     * @return 0 when the tokens were taken, otherwise the nanoseconds until they will be available
+     */
+    synchronized long tryConsume(double cost, long now) {
+        refill(now);
+        lastUsed = now;
+        if (tokens >= cost) {
+            tokens -= cost;
+            return 0L;
+        }
+        return Math.max(1L, (long) Math.ceil((cost - tokens) / refillPerNano));
+    }
+
+    synchronized boolean isIdle(long now, long idleNanos) {
+        refill(now);
+        return tokens >= capacity && now - lastUsed > idleNanos;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+        }
+    }
+}
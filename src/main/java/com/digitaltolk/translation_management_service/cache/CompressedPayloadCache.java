@@ -0,0 +1,131 @@
+package com.digitaltolk.translation_management_service.cache;
+
+import com.digitaltolk.translation_management_service.compression.CompressedPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compressed response bodies for cacheable endpoints, kept next to the
+ * {@link TranslationCacheManager} entries and invalidated together with them so the
+ * same payload is never compressed twice.
+ * <p>
+ * Holds at most {@code translation.compression.max-cached-payloads} entries and evicts the
+ * least recently used one beyond that. Each group carries a generation that every
+ * invalidation advances; a payload rendered before an invalidation of its group is dropped
+ * by {@link #put} instead of being cached stale.
+ */
+@Component
+public class CompressedPayloadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressedPayloadCache.class);
+
+    public static final String AVAILABLE_LOCALES_GROUP = "_availableLocales";
+
+    private final int maxEntries;
+
+    // Guarded by this; access order makes the eldest entry the least recently used
+    private final LinkedHashMap<String, Entry> payloads;
+
+    // Track payload keys per locale for efficient eviction
+    private final Map<String, Set<String>> groupKeysMap = new HashMap<>();
+
+    // Stamps are taken from one counter so a group's generation never goes backwards after clear()
+    private final Map<String, Long> groupGenerations = new HashMap<>();
+    private long lastStamp;
+    private long clearedAt;
+
+    public CompressedPayloadCache(@Value("${translation.compression.max-cached-payloads:1024}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.payloads = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= CompressedPayloadCache.this.maxEntries) {
+                    return false;
+                }
+                removeFromGroup(eldest.getValue().group(), eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    public synchronized CompressedPayload get(String key) {
+        Entry entry = payloads.get(key);
+        return Objects.nonNull(entry) ? entry.payload() : null;
+    }
+
+    /**
+     * Current generation of a group. Read it before rendering a payload and pass it to
+     * {@link #put} so a concurrent invalidation is not undone.
+     */
+    public synchronized long generation(String group) {
+        return Math.max(clearedAt, groupGenerations.getOrDefault(group, 0L));
+    }
+
+    /**
+     * Cache a compressed payload under the locale (or {@link #AVAILABLE_LOCALES_GROUP})
+     * whose changes invalidate it, unless the group was invalidated since {@code generation}
+     * was read.
+     */
+    public synchronized void put(String group, String key, CompressedPayload payload, long generation) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (generation(group) != generation) {
+            logger.debug("Group {} invalidated while rendering, not caching: {}", group, key);
+            return;
+        }
+        Entry previous = payloads.put(key, new Entry(group, payload));
+        if (Objects.nonNull(previous) && !previous.group().equals(group)) {
+            removeFromGroup(previous.group(), key);
+        }
+        groupKeysMap.computeIfAbsent(group, k -> new HashSet<>()).add(key);
+    }
+
+    public void invalidateLocale(String locale) {
+        if (Objects.isNull(locale)) return;
+        invalidateGroup(locale);
+    }
+
+    public void invalidateAvailableLocales() {
+        invalidateGroup(AVAILABLE_LOCALES_GROUP);
+    }
+
+    public synchronized void clear() {
+        clearedAt = ++lastStamp;
+        groupGenerations.clear();
+        payloads.clear();
+        groupKeysMap.clear();
+    }
+
+    public synchronized int size() {
+        return payloads.size();
+    }
+
+    private synchronized void invalidateGroup(String group) {
+        groupGenerations.put(group, ++lastStamp);
+        Set<String> keysToEvict = groupKeysMap.remove(group);
+        if (!CollectionUtils.isEmpty(keysToEvict)) {
+            keysToEvict.forEach(payloads::remove);
+            logger.debug("Invalidated {} compressed payloads for: {}", keysToEvict.size(), group);
+        }
+    }
+
+    private void removeFromGroup(String group, String key) {
+        Set<String> keys = groupKeysMap.get(group);
+        if (Objects.nonNull(keys) && keys.remove(key) && keys.isEmpty()) {
+            groupKeysMap.remove(group);
+        }
+    }
+
+    private record Entry(String group, CompressedPayload payload) { }
+}
@@ -1,6 +1,10 @@
 package com.digitaltolk.translation_management_service.cache;
 
+import com.digitaltolk.translation_management_service.dto.BulkOperationResultDto;
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
@@ -11,18 +15,32 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * Cache-aside around the service's reads and cache maintenance after its writes. The read
+ * advice runs on every cache hit and does not log; hits and misses are counted by
+ * {@link TranslationCacheMetrics} and traced by {@link #observeLookup}.
+ */
 @Aspect
 @Component
 public class TranslationCacheAspect {
 
     private final TranslationCacheManager cacheManager;
+    private final ObservationRegistry observationRegistry;
     private static final Logger log = LoggerFactory.getLogger(TranslationCacheAspect.class);
-    public TranslationCacheAspect(TranslationCacheManager cacheManager) {
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+    private static final String PARTIAL = "partial";
+    public TranslationCacheAspect(TranslationCacheManager cacheManager, ObservationRegistry observationRegistry) {
         this.cacheManager = cacheManager;
+        this.observationRegistry = observationRegistry;
     }
 
     @AfterReturning(
@@ -54,15 +72,34 @@ public class TranslationCacheAspect {
         return result;
     }
 
+    @Around("execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.patchTranslation(..))")
+    public Object aroundPatchTranslation(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        Long id = (Long) args[0];
+        TranslationPatchDto patch = (TranslationPatchDto) args[1];
+
+        // Previous state from cache, used to scope invalidation to what actually changed
+        TranslationResponseDto cachedTranslation = cacheManager.getCachedTranslationById(id);
+
+        // Proceed with the patch
+        TranslationResponseDto result = (TranslationResponseDto) joinPoint.proceed();
+
+        cacheManager.updatePatchedTranslation(id, result, cachedTranslation, patch);
+        log.debug("Updated cached translation after patch with ID: {}", id);
+
+        return result;
+    }
+
     @Around("execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.getTranslationById(..))")
     public Object aroundGetTranslationById(ProceedingJoinPoint joinPoint) throws Throwable {
         Object[] args = joinPoint.getArgs();
         Long id = (Long) args[0];
 
         // Try cache first
-        TranslationResponseDto cachedResult = cacheManager.getCachedTranslationById(id);
+        TranslationResponseDto cachedResult = observeLookup(TranslationCacheManager.TRANSLATIONS_CACHE,
+                () -> cacheManager.getCachedTranslationById(id),
+                cached -> Objects.nonNull(cached) ? HIT : MISS);
         if (Objects.nonNull(cachedResult)) {
-            log.debug("Cache hit for translation ID: {}", id);
             return cachedResult;
         }
 
@@ -71,11 +108,36 @@ public class TranslationCacheAspect {
 
         // Cache the result
         cacheManager.cacheTranslationById(id, result);
-        log.debug("Cached translation with ID: {}", id);
 
         return result;
     }
 
+    @Around("execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.getTranslationsByIds(..))")
+    public Object aroundGetTranslationsByIds(ProceedingJoinPoint joinPoint) throws Throwable {
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) joinPoint.getArgs()[0];
+
+        // One multi-get against the cache, then load only the misses
+        Map<Long, TranslationResponseDto> results = new HashMap<>(observeLookup(TranslationCacheManager.TRANSLATIONS_CACHE,
+                () -> cacheManager.getCachedTranslationsByIds(ids),
+                hits -> hits.isEmpty() ? MISS : hits.size() < ids.size() ? PARTIAL : HIT));
+        List<Long> misses = ids.stream().filter(id -> !results.containsKey(id)).distinct().toList();
+        if (misses.isEmpty()) {
+            return ids.stream().map(results::get).toList();
+        }
+
+        // Proceed with database fetch of the misses only
+        @SuppressWarnings("unchecked")
+        List<TranslationResponseDto> loaded = (List<TranslationResponseDto>) joinPoint.proceed(new Object[]{misses});
+        List<TranslationResponseDto> found = loaded.stream().filter(Objects::nonNull).toList();
+
+        // Cache the loaded translations
+        cacheManager.cacheTranslationsByIds(found);
+        found.forEach(translation -> results.put(translation.getId(), translation));
+
+        return ids.stream().map(results::get).toList();
+    }
+
     @Around("execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.getTranslationsByLocale(..))")
     public Object aroundGetTranslationsByLocale(ProceedingJoinPoint joinPoint) throws Throwable {
         Object[] args = joinPoint.getArgs();
@@ -86,10 +148,10 @@ public class TranslationCacheAspect {
         String sortDir = (String) args[4];
 
         // Try cache first
-        List<TranslationResponseDto> cachedResult = cacheManager.getCachedTranslationsByLocale(
-                locale, page, size, sortBy, sortDir);
+        List<TranslationResponseDto> cachedResult = observeLookup(TranslationCacheManager.LOCALE_TRANSLATIONS_CACHE,
+                () -> cacheManager.getCachedTranslationsByLocale(locale, page, size, sortBy, sortDir),
+                cached -> CollectionUtils.isEmpty(cached) ? MISS : HIT);
         if (!CollectionUtils.isEmpty(cachedResult)) {
-            log.debug("Cache hit for locale translations: {}", locale);
             return cachedResult;
         }
 
@@ -99,7 +161,6 @@ public class TranslationCacheAspect {
 
         // Cache the result
         cacheManager.cacheTranslationsByLocale(locale, page, size, sortBy, sortDir, result);
-        log.debug("Cached translations for locale: {}", locale);
 
         return result;
     }
@@ -107,9 +168,10 @@ public class TranslationCacheAspect {
     @Around("execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.getAvailableLocales(..))")
     public Object aroundGetAvailableLocales(ProceedingJoinPoint joinPoint) throws Throwable {
         // Try cache first
-        List<String> cachedResult = cacheManager.getCachedAvailableLocales();
+        List<String> cachedResult = observeLookup(TranslationCacheManager.AVAILABLE_LOCALES_CACHE,
+                cacheManager::getCachedAvailableLocales,
+                cached -> CollectionUtils.isEmpty(cached) ? MISS : HIT);
         if (!CollectionUtils.isEmpty(cachedResult)) {
-            log.debug("Cache hit for available locales");
             return cachedResult;
         }
 
@@ -119,7 +181,6 @@ public class TranslationCacheAspect {
 
         // Cache the result
         cacheManager.cacheAvailableLocales(result);
-        log.debug("Cached available locales");
 
         return result;
     }
@@ -144,4 +205,59 @@ public class TranslationCacheAspect {
         return result;
     }
 
+    @AfterReturning(
+            pointcut = "execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.applyWriteBatch(..))",
+            returning = "result"
+    )
+    public void afterApplyWriteBatch(List<TranslationResponseDto> result) {
+        if (!result.isEmpty()) {
+            cacheManager.cacheWrittenTranslations(result);
+        }
+    }
+
+    /**
+     * Bulk operations touch arbitrarily many rows, so caches are cleared once per operation
+     * instead of being evicted row by row. Each batch commits on its own, so the caches are
+     * cleared even when a later batch fails or times out.
+     */
+    @Around("execution(* com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl.bulk*(..))")
+    public Object aroundBulkOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean dryRun = (boolean) joinPoint.getArgs()[1];
+        BulkOperationResultDto result;
+        try {
+            result = (BulkOperationResultDto) joinPoint.proceed();
+        } catch (Throwable e) {
+            if (!dryRun) {
+                cacheManager.clearAllCaches();
+                log.debug("Cleared all caches after failed bulk {}", joinPoint.getSignature().getName());
+            }
+            throw e;
+        }
+        if (!result.dryRun() && result.affected() > 0) {
+            cacheManager.clearAllCaches();
+            log.debug("Cleared all caches after bulk {} of {} translations", result.operation(), result.affected());
+        }
+        return result;
+    }
+
+    /**
+     * Run a cache lookup as a {@code translation.cache.lookup} observation, i.e. a span
+     * under the request tagged with the cache name and whether the lookup hit.
+     */
+    private <T> T observeLookup(String cacheName, Supplier<T> lookup, Function<T, String> result) {
+        Observation observation = Observation.createNotStarted("translation.cache.lookup", observationRegistry)
+                .contextualName("cache lookup")
+                .lowCardinalityKeyValue("cache", cacheName)
+                .start();
+        try {
+            T value = lookup.get();
+            observation.lowCardinalityKeyValue("cache.result", result.apply(value));
+            return value;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
 }
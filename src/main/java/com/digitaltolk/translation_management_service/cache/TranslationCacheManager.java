@@ -1,16 +1,25 @@
 package com.digitaltolk.translation_management_service.cache;
 
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.jfr.CacheClearEvent;
+import com.digitaltolk.translation_management_service.jfr.CacheInvalidationEvent;
+import com.digitaltolk.translation_management_service.jfr.CacheLookupEvent;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class TranslationCacheManager {
@@ -26,13 +35,22 @@ public class TranslationCacheManager {
     public static final String AVAILABLE_LOCALES_CACHE = "availableLocales";
 
     private final CacheManager cacheManager;
+    private final CompressedPayloadCache compressedPayloadCache;
+    private final TranslationCacheMetrics metrics;
 
     // Track cache keys for efficient eviction
     private final ConcurrentHashMap<String, Set<String>> localeKeysMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<String>> tagKeysMap = new ConcurrentHashMap<>();
 
-    public TranslationCacheManager(CacheManager cacheManager) {
+    // Bumped whenever a locale's data may have changed, so derived artifacts can be versioned
+    private final ConcurrentHashMap<String, AtomicLong> localeGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    public TranslationCacheManager(CacheManager cacheManager, CompressedPayloadCache compressedPayloadCache,
+                                   TranslationCacheMetrics metrics) {
         this.cacheManager = cacheManager;
+        this.compressedPayloadCache = compressedPayloadCache;
+        this.metrics = metrics;
     }
 
     /**
@@ -94,6 +112,92 @@ public class TranslationCacheManager {
         }
     }
 
+    /**
+     * Cache a batch of written translations, invalidating each affected locale and the search
+     * caches once. Previous tags are unknown, so tag caches are cleared.
+     */
+    public void cacheWrittenTranslations(Collection<TranslationResponseDto> translations) {
+        try {
+            Cache translationsCache = getCache(TRANSLATIONS_CACHE);
+            Set<String> locales = new HashSet<>();
+            for (TranslationResponseDto translation : translations) {
+                if (Objects.nonNull(translationsCache)) {
+                    translationsCache.put(translation.getId(), translation);
+                }
+                locales.add(translation.getLocale());
+            }
+            locales.forEach(this::invalidateLocaleCache);
+            invalidateSearchCaches();
+            invalidateAvailableLocalesCache();
+            clearCache(TRANSLATIONS_BY_TAGS_CACHE);
+            logger.debug("Cached {} written translations across {} locales", translations.size(), locales.size());
+        } catch (Exception e) {
+            logger.warn("Failed to cache written translations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Update cached translation after a partial update, invalidating only what the patch
+     * changed. Without the previous state every patched field is assumed to have changed.
+     */
+    public void updatePatchedTranslation(Long id, TranslationResponseDto patchedTranslation,
+                                         TranslationResponseDto previous, TranslationPatchDto patch) {
+        try {
+            Cache translationsCache = getCache(TRANSLATIONS_CACHE);
+            if (Objects.nonNull(translationsCache)) {
+                translationsCache.put(id, patchedTranslation);
+            }
+
+            boolean known = Objects.nonNull(previous);
+            boolean keyChanged = patch.isPresent(TranslationPatchDto.Field.KEY)
+                    && (!known || !Objects.equals(previous.getTranslationKey(), patchedTranslation.getTranslationKey()));
+            boolean contentChanged = patch.isPresent(TranslationPatchDto.Field.CONTENT)
+                    && (!known || !Objects.equals(previous.getContent(), patchedTranslation.getContent()));
+            boolean localeChanged = patch.isPresent(TranslationPatchDto.Field.LOCALE)
+                    && (!known || !Objects.equals(previous.getLocale(), patchedTranslation.getLocale()));
+            boolean tagsChanged = patch.isPresent(TranslationPatchDto.Field.TAGS)
+                    && (!known || !Objects.equals(previous.getTags(), patchedTranslation.getTags()));
+
+            if (!(keyChanged || contentChanged || localeChanged || tagsChanged)) {
+                logger.debug("Patch of translation ID: {} changed nothing cached", id);
+                return;
+            }
+
+            if (localeChanged) {
+                if (known) {
+                    invalidateLocaleCache(previous.getLocale());
+                } else {
+                    invalidateAllLocaleCaches();
+                }
+                invalidateAvailableLocalesCache();
+            }
+            invalidateLocaleCache(patchedTranslation.getLocale());
+
+            if (keyChanged || contentChanged) {
+                invalidateSearchCaches();
+            }
+            if (tagsChanged) {
+                Set<String> affectedTags = new HashSet<>();
+                if (known && Objects.nonNull(previous.getTags())) {
+                    affectedTags.addAll(previous.getTags());
+                }
+                if (Objects.nonNull(patchedTranslation.getTags())) {
+                    affectedTags.addAll(patchedTranslation.getTags());
+                }
+                if (known) {
+                    invalidateTagCaches(affectedTags);
+                } else {
+                    // Previous tags unknown: any tag query may have included this translation
+                    clearCache(TRANSLATIONS_BY_TAGS_CACHE);
+                }
+            }
+            logger.debug("Updated cached translation with ID: {} after patch", id);
+
+        } catch (Exception e) {
+            logger.warn("Failed to update cached translation after patch: {}", e.getMessage());
+        }
+    }
+
     /**
      * Remove translation from cache after deletion
      */
@@ -101,12 +205,18 @@ public class TranslationCacheManager {
         try {
             Cache translationsCache = getCache(TRANSLATIONS_CACHE);
             if (Objects.nonNull(translationsCache)) {
-                translationsCache.evictIfPresent(id);
+                if (translationsCache.evictIfPresent(id)) {
+                    metrics.evicted(TRANSLATIONS_CACHE, 1);
+                    CacheInvalidationEvent.emit(TRANSLATIONS_CACHE, String.valueOf(id), 1);
+                }
                 logger.debug("Evicted translation with ID: {} from cache", id);
             }
 
             if (Objects.nonNull(locale)) {
                 invalidateLocaleCache(locale);
+            } else {
+                // Locale unknown because the translation was not cached: any locale may be stale
+                invalidateAllLocaleCaches();
             }
 
             if (!CollectionUtils.isEmpty(tags)) {
@@ -145,11 +255,15 @@ public class TranslationCacheManager {
             if (Objects.nonNull(cache)) {
                 Cache.ValueWrapper wrapper = cache.get(id);
                 if (Objects.nonNull(wrapper)) {
-                    logger.debug("Cache hit for translation ID: {}", id);
+                    metrics.hit(TRANSLATIONS_CACHE);
+                    CacheLookupEvent.emit(TRANSLATIONS_CACHE, 1, 0);
+                    logger.trace("Cache hit for translation ID: {}", id);
                     return (TranslationResponseDto) wrapper.get();
                 }
             }
-            logger.debug("Cache miss for translation ID: {}", id);
+            metrics.miss(TRANSLATIONS_CACHE);
+            CacheLookupEvent.emit(TRANSLATIONS_CACHE, 0, 1);
+            logger.trace("Cache miss for translation ID: {}", id);
             return null;
         } catch (Exception e) {
             logger.warn("Error retrieving cached translation: {}", e.getMessage());
@@ -157,6 +271,47 @@ public class TranslationCacheManager {
         }
     }
 
+    /**
+     * Get cached translations for many IDs with a single cache lookup; misses are absent from the result
+     */
+    public Map<Long, TranslationResponseDto> getCachedTranslationsByIds(Collection<Long> ids) {
+        Map<Long, TranslationResponseDto> hits = new HashMap<>();
+        try {
+            Cache cache = getCache(TRANSLATIONS_CACHE);
+            if (Objects.nonNull(cache)) {
+                for (Long id : ids) {
+                    Cache.ValueWrapper wrapper = cache.get(id);
+                    if (Objects.nonNull(wrapper) && Objects.nonNull(wrapper.get())) {
+                        hits.put(id, (TranslationResponseDto) wrapper.get());
+                    }
+                }
+            }
+            metrics.lookups(TRANSLATIONS_CACHE, hits.size(), ids.size() - hits.size());
+            CacheLookupEvent.emit(TRANSLATIONS_CACHE, hits.size(), ids.size() - hits.size());
+            if (logger.isTraceEnabled()) {
+                logger.trace("Cache multi-get for {} translation IDs: {} hits", ids.size(), hits.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Error retrieving cached translations: {}", e.getMessage());
+        }
+        return hits;
+    }
+
+    /**
+     * Cache many translations by ID
+     */
+    public void cacheTranslationsByIds(Collection<TranslationResponseDto> translations) {
+        try {
+            Cache cache = getCache(TRANSLATIONS_CACHE);
+            if (Objects.nonNull(cache)) {
+                translations.forEach(translation -> cache.put(translation.getId(), translation));
+                logger.debug("Cached {} translations by ID", translations.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to cache translations by ID: {}", e.getMessage());
+        }
+    }
+
     /**
      * Cache translations by locale
      */
@@ -187,11 +342,15 @@ public class TranslationCacheManager {
             if (Objects.nonNull(cache)) {
                 Cache.ValueWrapper wrapper = cache.get(cacheKey);
                 if (Objects.nonNull(wrapper)) {
-                    logger.debug("Cache hit for locale translations: {}", cacheKey);
+                    metrics.hit(LOCALE_TRANSLATIONS_CACHE);
+                    CacheLookupEvent.emit(LOCALE_TRANSLATIONS_CACHE, 1, 0);
+                    logger.trace("Cache hit for locale translations: {}", cacheKey);
                     return (List<TranslationResponseDto>) wrapper.get();
                 }
             }
-            logger.debug("Cache miss for locale translations: {}", cacheKey);
+            metrics.miss(LOCALE_TRANSLATIONS_CACHE);
+            CacheLookupEvent.emit(LOCALE_TRANSLATIONS_CACHE, 0, 1);
+            logger.trace("Cache miss for locale translations: {}", cacheKey);
             return null;
         } catch (Exception e) {
             logger.warn("Error retrieving cached locale translations: {}", e.getMessage());
@@ -223,11 +382,15 @@ public class TranslationCacheManager {
             if (Objects.nonNull(cache)) {
                 Cache.ValueWrapper wrapper = cache.get("all");
                 if (Objects.nonNull(wrapper)) {
-                    logger.debug("Cache hit for available locales");
+                    metrics.hit(AVAILABLE_LOCALES_CACHE);
+                    CacheLookupEvent.emit(AVAILABLE_LOCALES_CACHE, 1, 0);
+                    logger.trace("Cache hit for available locales");
                     return (List<String>) wrapper.get();
                 }
             }
-            logger.debug("Cache miss for available locales");
+            metrics.miss(AVAILABLE_LOCALES_CACHE);
+            CacheLookupEvent.emit(AVAILABLE_LOCALES_CACHE, 0, 1);
+            logger.trace("Cache miss for available locales");
             return null;
         } catch (Exception e) {
             logger.warn("Error retrieving cached available locales: {}", e.getMessage());
@@ -241,22 +404,50 @@ public class TranslationCacheManager {
     public void invalidateLocaleCache(String locale) {
         if (Objects.isNull(locale)) return;
 
+        localeGenerations.computeIfAbsent(locale, k -> new AtomicLong()).incrementAndGet();
         try {
             Set<String> keysToEvict = localeKeysMap.get(locale);
             if (!CollectionUtils.isEmpty(keysToEvict)) {
                 Cache cache = getCache(LOCALE_TRANSLATIONS_CACHE);
                 if (Objects.nonNull(cache)) {
-                    keysToEvict.forEach(cache::evictIfPresent);
+                    long evicted = keysToEvict.stream().filter(cache::evictIfPresent).count();
+                    metrics.evicted(LOCALE_TRANSLATIONS_CACHE, evicted);
+                    CacheInvalidationEvent.emit(LOCALE_TRANSLATIONS_CACHE, locale, evicted);
                     logger.debug("Invalidated {} locale cache entries for locale: {}",
                             keysToEvict.size(), locale);
                 }
                 localeKeysMap.remove(locale);
             }
+            compressedPayloadCache.invalidateLocale(locale);
         } catch (Exception e) {
             logger.warn("Failed to invalidate locale cache: {}", e.getMessage());
         }
     }
 
+    /**
+     * Invalidate the locale caches of every locale
+     */
+    public void invalidateAllLocaleCaches() {
+        globalGeneration.incrementAndGet();
+        try {
+            clearCache(LOCALE_TRANSLATIONS_CACHE);
+            localeKeysMap.clear();
+            compressedPayloadCache.clear();
+            logger.debug("Invalidated locale caches for all locales");
+        } catch (Exception e) {
+            logger.warn("Failed to invalidate all locale caches: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Version of a locale's data, changed whenever {@link #invalidateLocaleCache} or a
+     * full invalidation runs. Used to version artifacts derived from a locale.
+     */
+    public String getLocaleVersion(String locale) {
+        AtomicLong localeGeneration = localeGenerations.get(locale);
+        return globalGeneration.get() + "." + (Objects.nonNull(localeGeneration) ? localeGeneration.get() : 0);
+    }
+
     /**
      * Invalidate search-related caches
      */
@@ -291,6 +482,7 @@ public class TranslationCacheManager {
     public void invalidateAvailableLocalesCache() {
         try {
             clearCache(AVAILABLE_LOCALES_CACHE);
+            compressedPayloadCache.invalidateAvailableLocales();
             logger.debug("Invalidated available locales cache");
         } catch (Exception e) {
             logger.warn("Failed to invalidate available locales cache: {}", e.getMessage());
@@ -301,6 +493,7 @@ public class TranslationCacheManager {
      * Clear all translation-related caches
      */
     public void clearAllCaches() {
+        globalGeneration.incrementAndGet();
         try {
             clearCache(TRANSLATIONS_CACHE);
             clearCache(LOCALE_TRANSLATIONS_CACHE);
@@ -312,6 +505,7 @@ public class TranslationCacheManager {
             // Clear tracking maps
             localeKeysMap.clear();
             tagKeysMap.clear();
+            compressedPayloadCache.clear();
 
             logger.info("Cleared all translation caches");
         } catch (Exception e) {
@@ -328,12 +522,15 @@ public class TranslationCacheManager {
     private void clearCache(String cacheName) {
         Cache cache = getCache(cacheName);
         if (Objects.nonNull(cache)) {
+            long size = TranslationCacheMetrics.size(cache);
+            metrics.evicted(cacheName, size);
+            CacheClearEvent.emit(cacheName, size);
             cache.clear();
         }
     }
 
     private String buildLocaleKey(String locale, int page, int size, String sortBy, String sortDir) {
-        return String.format("%s_%d_%d_%s_%s", locale, page, size, sortBy, sortDir);
+        return locale + '_' + page + '_' + size + '_' + sortBy + '_' + sortDir;
     }
 
     private void trackLocaleKey(String locale, String cacheKey) {
@@ -348,15 +545,12 @@ public class TranslationCacheManager {
             logger.info("=== Translation Cache Statistics ===");
             logger.info("Tracked locale keys: {}", localeKeysMap.size());
             logger.info("Tracked tag keys: {}", tagKeysMap.size());
+            logger.info("Compressed payloads: {}", compressedPayloadCache.size());
 
-            // Log each cache's basic info
-            for (String cacheName : List.of(TRANSLATIONS_CACHE, LOCALE_TRANSLATIONS_CACHE,
-                    TRANSLATIONS_BY_TAGS_CACHE, TRANSLATIONS_BY_KEY_CACHE,
-                    TRANSLATIONS_BY_CONTENT_CACHE, AVAILABLE_LOCALES_CACHE)) {
-                Cache cache = getCache(cacheName);
-                if (cache != null) {
-                    logger.info("Cache '{}': Native cache type: {}", cacheName, cache.getNativeCache().getClass().getSimpleName());
-                }
+            for (String cacheName : TranslationCacheMetrics.CACHE_NAMES) {
+                logger.info("Cache '{}': {} entries, {} hits, {} misses", cacheName,
+                        TranslationCacheMetrics.size(getCache(cacheName)),
+                        (long) metrics.hits(cacheName), (long) metrics.misses(cacheName));
             }
         } catch (Exception e) {
             logger.warn("Failed to log cache statistics: {}", e.getMessage());
@@ -0,0 +1,93 @@
+package com.digitaltolk.translation_management_service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hit, miss and eviction counters plus size gauges for the translation caches, tagged by
+ * cache name only. The default {@link java.util.concurrent.ConcurrentMap} caches keep no
+ * statistics of their own, so {@link TranslationCacheManager} reports every lookup here.
+ */
+@Component
+public class TranslationCacheMetrics {
+
+    static final List<String> CACHE_NAMES = List.of(
+            TranslationCacheManager.TRANSLATIONS_CACHE,
+            TranslationCacheManager.LOCALE_TRANSLATIONS_CACHE,
+            TranslationCacheManager.TRANSLATIONS_BY_TAGS_CACHE,
+            TranslationCacheManager.TRANSLATIONS_BY_KEY_CACHE,
+            TranslationCacheManager.TRANSLATIONS_BY_CONTENT_CACHE,
+            TranslationCacheManager.AVAILABLE_LOCALES_CACHE);
+
+    private record CacheCounters(Counter hits, Counter misses, Counter evictions) { }
+
+    private final Map<String, CacheCounters> counters = new HashMap<>();
+
+    public TranslationCacheMetrics(MeterRegistry registry, CacheManager cacheManager,
+                                   CompressedPayloadCache compressedPayloadCache) {
+        for (String name : CACHE_NAMES) {
+            counters.put(name, new CacheCounters(
+                    Counter.builder("translation.cache.gets").tag("cache", name).tag("result", "hit")
+                            .description("Cache lookups that found an entry").register(registry),
+                    Counter.builder("translation.cache.gets").tag("cache", name).tag("result", "miss")
+                            .description("Cache lookups that found no entry").register(registry),
+                    Counter.builder("translation.cache.evictions").tag("cache", name)
+                            .description("Entries removed by invalidation").register(registry)));
+            Gauge.builder("translation.cache.size", cacheManager, manager -> size(manager.getCache(name)))
+                    .tag("cache", name)
+                    .description("Entries currently cached")
+                    .register(registry);
+        }
+        Gauge.builder("translation.cache.size", compressedPayloadCache, CompressedPayloadCache::size)
+                .tag("cache", "compressedPayloads")
+                .description("Entries currently cached")
+                .register(registry);
+    }
+
+    public void hit(String cacheName) {
+        counters.get(cacheName).hits().increment();
+    }
+
+    public void miss(String cacheName) {
+        counters.get(cacheName).misses().increment();
+    }
+
+    public void lookups(String cacheName, int hits, int misses) {
+        CacheCounters cacheCounters = counters.get(cacheName);
+        cacheCounters.hits().increment(hits);
+        cacheCounters.misses().increment(misses);
+    }
+
+    public void evicted(String cacheName, long entries) {
+        if (entries > 0) {
+            counters.get(cacheName).evictions().increment(entries);
+        }
+    }
+
+    public double hits(String cacheName) {
+        return counters.get(cacheName).hits().count();
+    }
+
+    public double misses(String cacheName) {
+        return counters.get(cacheName).misses().count();
+    }
+
+    /**
+     * Number of entries in a cache, or -1 when its native store does not expose a size.
+     */
+    static long size(Cache cache) {
+        if (Objects.nonNull(cache) && cache.getNativeCache() instanceof Map<?, ?> nativeMap) {
+            return nativeMap.size();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,3 @@
+package com.digitaltolk.translation_management_service.compression;
+
+public record CompressedPayload(ContentCoding coding, String contentType, byte[] body) { }
@@ -0,0 +1,100 @@
+package com.digitaltolk.translation_management_service.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.util.Native;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings used for pre-compressed payloads, in order of preference.
+ */
+public enum ContentCoding {
+    ZSTD("zstd") {
+        @Override
+        public byte[] compress(byte[] data, int level) {
+            return Zstd.compress(data, level);
+        }
+
+        @Override
+        boolean isAvailable() {
+            return ZSTD_AVAILABLE;
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        public byte[] compress(byte[] data, int level) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    };
+
+    private static final boolean ZSTD_AVAILABLE = loadZstd();
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public abstract byte[] compress(byte[] data, int level);
+
+    boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Pick the preferred coding the client accepts, or null when none of them is acceptable.
+     */
+    public static ContentCoding negotiate(String acceptEncoding) {
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return null;
+        }
+        for (ContentCoding coding : values()) {
+            if (coding.isAvailable() && accepts(acceptEncoding, coding.token)) {
+                return coding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean accepts(String acceptEncoding, String token) {
+        for (String part : StringUtils.split(acceptEncoding, ',')) {
+            String[] params = StringUtils.split(part, ';');
+            if (params.length == 0 || !params[0].trim().equalsIgnoreCase(token)) {
+                continue;
+            }
+            for (int i = 1; i < params.length; i++) {
+                String param = StringUtils.deleteWhitespace(params[i]);
+                // A malformed weight is treated as the default q=1 rather than failing the request
+                if (param.startsWith("q=") && NumberUtils.toDouble(param.substring(2), 1) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean loadZstd() {
+        try {
+            Native.load();
+            return Native.isLoaded();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
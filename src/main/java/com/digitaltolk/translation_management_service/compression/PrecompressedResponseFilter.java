@@ -0,0 +1,124 @@
+package com.digitaltolk.translation_management_service.compression;
+
+import com.digitaltolk.translation_management_service.cache.CompressedPayloadCache;
+import com.digitaltolk.translation_management_service.export.PageSizeLimits;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Serves the cacheable translation endpoints (locale bundles and {@code /locales})
+ * from {@link CompressedPayloadCache}. On a miss the JSON response is captured,
+ * compressed once with the best coding the client accepts, and cached; other JSON
+ * responses are left to the container's gzip compression. Exports over their page size cap
+ * are streamed and never buffered here.
+ */
+@Component
+public class PrecompressedResponseFilter extends OncePerRequestFilter {
+
+    private static final String LOCALE_EXPORT_PATH = "/api/v1/translations/search/by-locale";
+    private static final String AVAILABLE_LOCALES_PATH = "/api/v1/translations/locales";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final CompressedPayloadCache payloadCache;
+    private final PageSizeLimits pageSizeLimits;
+    private final int minResponseSize;
+    private final int zstdLevel;
+
+    public PrecompressedResponseFilter(CompressedPayloadCache payloadCache,
+                                       PageSizeLimits pageSizeLimits,
+                                       @Value("${translation.compression.min-response-size:2048}") int minResponseSize,
+                                       @Value("${translation.compression.zstd-level:6}") int zstdLevel) {
+        this.payloadCache = payloadCache;
+        this.pageSizeLimits = pageSizeLimits;
+        this.minResponseSize = minResponseSize;
+        this.zstdLevel = zstdLevel;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        if (Boolean.parseBoolean(request.getParameter("snapshot"))) {
+            // Snapshot exports are already served from disk with sendfile
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (LOCALE_EXPORT_PATH.equals(path)) {
+            return pageSizeLimits.isOversized(PageSizeLimits.BY_LOCALE,
+                    NumberUtils.toInt(request.getParameter("size"), DEFAULT_PAGE_SIZE));
+        }
+        return !AVAILABLE_LOCALES_PATH.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        ContentCoding coding = ContentCoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (Objects.isNull(coding)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String cacheKey = buildCacheKey(request, coding);
+        CompressedPayload cached = payloadCache.get(cacheKey);
+        if (Objects.nonNull(cached)) {
+            writePayload(response, cached);
+            return;
+        }
+
+        String group = resolveGroup(request);
+        long generation = payloadCache.generation(group);
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        byte[] body = responseWrapper.getContentAsByteArray();
+        if (responseWrapper.getStatus() != HttpServletResponse.SC_OK
+                || body.length < minResponseSize
+                || !isJson(responseWrapper.getContentType())) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        CompressedPayload payload = new CompressedPayload(coding, responseWrapper.getContentType(), coding.compress(body, zstdLevel));
+        payloadCache.put(group, cacheKey, payload, generation);
+        writePayload(response, payload);
+    }
+
+    private void writePayload(HttpServletResponse response, CompressedPayload payload) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(payload.contentType());
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, payload.coding().getToken());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(payload.body().length);
+        response.getOutputStream().write(payload.body());
+    }
+
+    private String buildCacheKey(HttpServletRequest request, ContentCoding coding) {
+        return coding.getToken() + "|" + request.getRequestURI() + "?" + request.getQueryString()
+                + "|" + request.getHeader(HttpHeaders.ACCEPT);
+    }
+
+    private String resolveGroup(HttpServletRequest request) {
+        String locale = request.getParameter("locale");
+        return Objects.nonNull(locale) ? locale : CompressedPayloadCache.AVAILABLE_LOCALES_GROUP;
+    }
+
+    private boolean isJson(String contentType) {
+        return Objects.nonNull(contentType) && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
@@ -0,0 +1,19 @@
+package com.digitaltolk.translation_management_service.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Records {@link io.micrometer.core.annotation.Timed} methods, e.g. every
+     * {@code TranslationService} method, tagged with class, method and exception.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.digitaltolk.translation_management_service.config;
+
+import com.digitaltolk.translation_management_service.converter.ObservedJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Replaces Boot's JSON converter so response serialization shows up as its own span.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   ObservationRegistry observationRegistry) {
+        return new ObservedJsonHttpMessageConverter(objectMapper, observationRegistry);
+    }
+
+    /**
+     * Logs finished spans for local use; Boot adds every {@link SpanExporter} bean to the OpenTelemetry SDK.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "translation.tracing.logging-exporter.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
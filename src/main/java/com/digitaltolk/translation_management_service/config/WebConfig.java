@@ -0,0 +1,35 @@
+package com.digitaltolk.translation_management_service.config;
+
+import com.digitaltolk.translation_management_service.converter.CborTranslationHttpMessageConverter;
+import com.digitaltolk.translation_management_service.converter.MessagePackTranslationHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Register the compact translation converters right after the JSON converter:
+     * JSON stays the default for {@code Accept: *}{@code /*}, while explicit
+     * {@code application/cbor} or {@code application/x-msgpack} requests reach the
+     * compact layout before the generic Jackson binary converters.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        List<HttpMessageConverter<?>> compactConverters = List.of(
+                new CborTranslationHttpMessageConverter(),
+                new MessagePackTranslationHttpMessageConverter());
+
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.addAll(i + 1, compactConverters);
+                return;
+            }
+        }
+        converters.addAll(compactConverters);
+    }
+}
@@ -0,0 +1,69 @@
+package com.digitaltolk.translation_management_service.controller;
+
+import com.digitaltolk.translation_management_service.jfr.FlightRecorderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/api/v1/admin/jfr")
+@Tag(name = "Diagnostics", description = "Flight Recorder recordings, admin only")
+public class DiagnosticsController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    public DiagnosticsController(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the state of the flight recording")
+    @ApiResponse(responseCode = "200", description = "Recording state")
+    public ResponseEntity<FlightRecorderService.Status> getStatus() {
+        return ResponseEntity.ok(flightRecorderService.status());
+    }
+
+    @PostMapping("/start")
+    @Operation(summary = "Start a flight recording with the service profile")
+    @ApiResponse(responseCode = "200", description = "Recording started")
+    @ApiResponse(responseCode = "409", description = "A recording is already running")
+    public ResponseEntity<FlightRecorderService.Status> startRecording() {
+        return ResponseEntity.ok(flightRecorderService.start());
+    }
+
+    @PostMapping("/dump")
+    @Operation(summary = "Download the data recorded so far, leaving the recording running")
+    @ApiResponse(responseCode = "200", description = "Recording file")
+    @ApiResponse(responseCode = "409", description = "No recording is running")
+    public ResponseEntity<Resource> dumpRecording() {
+        return download(flightRecorderService.dump());
+    }
+
+    @PostMapping("/stop")
+    @Operation(summary = "Stop the flight recording and download it")
+    @ApiResponse(responseCode = "200", description = "Recording file")
+    @ApiResponse(responseCode = "409", description = "No recording is running")
+    public ResponseEntity<Resource> stopRecording() {
+        return download(flightRecorderService.stop());
+    }
+
+    private ResponseEntity<Resource> download(Path file) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
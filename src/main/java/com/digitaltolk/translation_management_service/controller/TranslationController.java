@@ -1,19 +1,46 @@
 package com.digitaltolk.translation_management_service.controller;
 
+import com.digitaltolk.translation_management_service.dto.BatchTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.BulkOperationResultDto;
+import com.digitaltolk.translation_management_service.dto.BulkTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import com.digitaltolk.translation_management_service.exception.TranslationVersionConflictException;
+import com.digitaltolk.translation_management_service.exception.WriteBehindUnavailableException;
+import com.digitaltolk.translation_management_service.export.ChunkedTranslationStreamer;
+import com.digitaltolk.translation_management_service.export.LocaleBundleFileStore;
+import com.digitaltolk.translation_management_service.export.PageSizeLimits;
+import com.digitaltolk.translation_management_service.export.ZeroCopyFileSender;
+import com.digitaltolk.translation_management_service.index.LocaleFallbackResolver;
 import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.digitaltolk.translation_management_service.writebehind.WriteBehindPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/v1/translations")
@@ -21,9 +48,27 @@ import java.util.List;
 public class TranslationController {
 
     private final TranslationService translationService;
+    private final LocaleBundleFileStore localeBundleFileStore;
+    private final ZeroCopyFileSender zeroCopyFileSender;
+    private final LocaleFallbackResolver localeFallbackResolver;
+    private final ObjectProvider<WriteBehindPipeline> writeBehindPipeline;
+    private final PageSizeLimits pageSizeLimits;
+    private final ChunkedTranslationStreamer chunkedTranslationStreamer;
 
-    public TranslationController(TranslationService translationService) {
+    public TranslationController(TranslationService translationService,
+                                 LocaleBundleFileStore localeBundleFileStore,
+                                 ZeroCopyFileSender zeroCopyFileSender,
+                                 LocaleFallbackResolver localeFallbackResolver,
+                                 ObjectProvider<WriteBehindPipeline> writeBehindPipeline,
+                                 PageSizeLimits pageSizeLimits,
+                                 ChunkedTranslationStreamer chunkedTranslationStreamer) {
         this.translationService = translationService;
+        this.localeBundleFileStore = localeBundleFileStore;
+        this.zeroCopyFileSender = zeroCopyFileSender;
+        this.localeFallbackResolver = localeFallbackResolver;
+        this.writeBehindPipeline = writeBehindPipeline;
+        this.pageSizeLimits = pageSizeLimits;
+        this.chunkedTranslationStreamer = chunkedTranslationStreamer;
     }
 
     @PostMapping
@@ -34,14 +79,51 @@ public class TranslationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/async")
+    @Operation(summary = "Create or update a translation by key and locale through the write-behind log",
+            description = "Acknowledged once durably logged; the database is updated by a background flush. " +
+                    "Requires translation.write-behind.enabled=true.")
+    @ApiResponse(responseCode = "202", description = "Write accepted")
+    @ApiResponse(responseCode = "503", description = "Write-behind is disabled or its queue is full")
+    public ResponseEntity<Map<String, Object>> submitTranslation(@Valid @RequestBody TranslationRequestDto requestDto) {
+        long sequence = requireWriteBehind().submit(requestDto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "key", requestDto.getTranslationKey(),
+                "locale", requestDto.getLocale(),
+                "sequence", sequence));
+    }
+
+    @GetMapping("/async/stats")
+    @Operation(summary = "Write-behind pipeline counters")
+    @ApiResponse(responseCode = "200", description = "Pipeline counters")
+    public ResponseEntity<WriteBehindPipeline.Stats> getWriteBehindStats() {
+        return ResponseEntity.ok(requireWriteBehind().stats());
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Update an existing translation")
+    @Operation(summary = "Update an existing translation",
+            description = "Send the ETag of the translation as If-Match to reject the update when it was changed meanwhile.")
     @ApiResponse(responseCode = "200", description = "Translation updated successfully")
+    @ApiResponse(responseCode = "412", description = "Translation version does not match If-Match")
     public ResponseEntity<TranslationResponseDto> updateTranslation(
             @PathVariable Long id,
+            @Parameter(description = "ETag of the version being updated") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TranslationRequestDto requestDto) {
-        TranslationResponseDto response = translationService.updateTranslation(id, requestDto);
-        return ResponseEntity.ok(response);
+        TranslationResponseDto response = translationService.updateTranslation(id, requestDto, parseVersion(ifMatch));
+        return withETag(response);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update a translation",
+            description = "JSON Merge Patch: only members present in the body change; \"tags\": null clears the tags.")
+    @ApiResponse(responseCode = "200", description = "Translation patched successfully")
+    @ApiResponse(responseCode = "412", description = "Translation version does not match If-Match")
+    public ResponseEntity<TranslationResponseDto> patchTranslation(
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the version being patched") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TranslationPatchDto patchDto) {
+        TranslationResponseDto response = translationService.patchTranslation(id, patchDto, parseVersion(ifMatch));
+        return withETag(response);
     }
 
     @GetMapping("/{id}")
@@ -49,6 +131,51 @@ public class TranslationController {
     @ApiResponse(responseCode = "200", description = "Translation found")
     public ResponseEntity<TranslationResponseDto> getTranslation(@PathVariable Long id) {
         TranslationResponseDto response = translationService.getTranslationById(id);
+        return withETag(response);
+    }
+
+    @GetMapping("/lookup")
+    @Operation(summary = "Get translation by exact key and locale")
+    @ApiResponse(responseCode = "200", description = "Translation found")
+    public ResponseEntity<TranslationResponseDto> getTranslationByKey(
+            @Parameter(description = "Exact translation key") @RequestParam String key,
+            @Parameter(description = "Locale code") @RequestParam String locale) {
+        TranslationResponseDto response = translationService.getTranslationByKey(key, locale);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/resolve")
+    @Operation(summary = "Resolve a translation key for a locale through its fallback chain",
+            description = "For example pt-BR falls back to pt and then to the default locale.")
+    @ApiResponse(responseCode = "200", description = "Translation resolved")
+    public ResponseEntity<TranslationResponseDto> resolveTranslation(
+            @Parameter(description = "Exact translation key") @RequestParam String key,
+            @Parameter(description = "Locale code") @RequestParam String locale) {
+        TranslationResponseDto response = localeFallbackResolver.resolve(key, locale);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/resolve/bundle")
+    @Operation(summary = "Get the merged key-to-content bundle of a locale through its fallback chain")
+    @ApiResponse(responseCode = "200", description = "Bundle resolved")
+    public ResponseEntity<Map<String, String>> resolveBundle(
+            @Parameter(description = "Locale code") @RequestParam String locale) {
+        Map<String, String> response = localeFallbackResolver.bundle(locale);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get many translations by ID or by (key, locale) in one call",
+            description = "Results follow request order, IDs first, with null for entries that were not found.")
+    @ApiResponse(responseCode = "200", description = "Translations resolved")
+    public ResponseEntity<List<TranslationResponseDto>> getTranslationsBatch(@Valid @RequestBody BatchTranslationRequestDto requestDto) {
+        List<TranslationResponseDto> response = new ArrayList<>();
+        if (!CollectionUtils.isEmpty(requestDto.ids())) {
+            response.addAll(translationService.getTranslationsByIds(requestDto.ids()));
+        }
+        if (!CollectionUtils.isEmpty(requestDto.keys())) {
+            response.addAll(translationService.getTranslationsByKeys(requestDto.keys()));
+        }
         return ResponseEntity.ok(response);
     }
 
@@ -57,12 +184,27 @@ public class TranslationController {
     @ApiResponse(responseCode = "200", description = "Translations found by tags")
     public ResponseEntity<Page<TranslationResponseDto>> findTranslationsByTags(
             @Parameter(description = "List of tags to search for") @Valid @RequestParam List<String> tags,
+            @Parameter(description = "Match translations carrying any or all of the tags") @RequestParam(defaultValue = "any") String match,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,key") @RequestParam(required = false) String fields,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
-            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "updatedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort by field; id is served from the tag bitmap index, other fields query the database") @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            HttpServletResponse httpResponse) throws IOException {
 
-        Page<TranslationResponseDto> response = translationService.findTranslationsByTags(tags, page, size, sortBy, sortDir);
+        if (pageSizeLimits.isOversized(PageSizeLimits.BY_TAGS, size)) {
+            chunkedTranslationStreamer.streamPage(new TranslationSearchCriteria(null, null, null, tags, TagMatch.fromValue(match)),
+                    TranslationField.parse(fields), page, size, sortBy, sortDir, httpResponse);
+            // A null ResponseEntity tells Spring MVC the response has already been written
+            return null;
+        }
+
+        if (StringUtils.isNotBlank(fields)) {
+            return ResponseEntity.ok(translationService.findTranslationProjections(
+                    new TranslationSearchCriteria(null, null, null, tags, TagMatch.fromValue(match)), TranslationField.parse(fields), page, size, sortBy, sortDir));
+        }
+
+        Page<TranslationResponseDto> response = translationService.findTranslationsByTags(tags, TagMatch.fromValue(match), page, size, sortBy, sortDir);
 
         return ResponseEntity.ok(response);
     }
@@ -72,10 +214,23 @@ public class TranslationController {
     @ApiResponse(responseCode = "200", description = "Translations found by key pattern")
     public ResponseEntity<Page<TranslationResponseDto>> findTranslationsByKey(
             @Parameter(description = "Translation key pattern to search for") @Valid @RequestParam String key,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,key") @RequestParam(required = false) String fields,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "updatedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            HttpServletResponse httpResponse) throws IOException {
+
+        if (pageSizeLimits.isOversized(PageSizeLimits.BY_KEY, size)) {
+            chunkedTranslationStreamer.streamPage(new TranslationSearchCriteria(key, null, null, null),
+                    TranslationField.parse(fields), page, size, sortBy, sortDir, httpResponse);
+            return null;
+        }
+
+        if (StringUtils.isNotBlank(fields)) {
+            return ResponseEntity.ok(translationService.findTranslationProjections(
+                    new TranslationSearchCriteria(key, null, null, null), TranslationField.parse(fields), page, size, sortBy, sortDir));
+        }
 
         Page<TranslationResponseDto> response = translationService.findTranslationsByKey(key, page, size, sortBy, sortDir);
 
@@ -87,10 +242,23 @@ public class TranslationController {
     @ApiResponse(responseCode = "200", description = "Translations found by content pattern")
     public ResponseEntity<Page<TranslationResponseDto>> findTranslationsByContent(
             @Parameter(description = "Content pattern to search for") @Valid @RequestParam String content,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,key") @RequestParam(required = false) String fields,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "updatedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            HttpServletResponse httpResponse) throws IOException {
+
+        if (pageSizeLimits.isOversized(PageSizeLimits.BY_CONTENT, size)) {
+            chunkedTranslationStreamer.streamPage(new TranslationSearchCriteria(null, null, content, null),
+                    TranslationField.parse(fields), page, size, sortBy, sortDir, httpResponse);
+            return null;
+        }
+
+        if (StringUtils.isNotBlank(fields)) {
+            return ResponseEntity.ok(translationService.findTranslationProjections(
+                    new TranslationSearchCriteria(null, null, content, null), TranslationField.parse(fields), page, size, sortBy, sortDir));
+        }
 
         Page<TranslationResponseDto> response = translationService.findTranslationsByContent(content, page, size, sortBy, sortDir);
 
@@ -101,15 +269,37 @@ public class TranslationController {
      @Operation(summary = "Find translations by locale")
      @ApiResponse(responseCode = "200", description = "Translations exported successfully")
       public ResponseEntity<List<TranslationResponseDto>> exportTranslations( @Parameter(description = "Content pattern to search for") @Valid @RequestParam String locale,
+                                                                       @Parameter(description = "Comma-separated fields to return, e.g. id,key") @RequestParam(required = false) String fields,
                                                                        @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
                                                                        @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
                                                                        @Parameter(description = "Sort by field") @RequestParam(defaultValue = "updatedAt") String sortBy,
-                                                                       @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+                                                                       @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+                                                                       HttpServletResponse httpResponse) throws IOException {
+
+        if (pageSizeLimits.isOversized(PageSizeLimits.BY_LOCALE, size)) {
+            chunkedTranslationStreamer.streamList(new TranslationSearchCriteria(null, locale, null, null),
+                    TranslationField.parse(fields), page, size, sortBy, sortDir, httpResponse);
+            return null;
+        }
+
+        if (StringUtils.isNotBlank(fields)) {
+            return ResponseEntity.ok(translationService.findTranslationProjections(
+                    new TranslationSearchCriteria(null, locale, null, null), TranslationField.parse(fields), page, size, sortBy, sortDir).getContent());
+        }
 
         List<TranslationResponseDto> translations = translationService.getTranslationsByLocale(locale, page, size, sortBy, sortDir);
         return ResponseEntity.ok(translations);
     }
 
+    @GetMapping(value = "/search/by-locale", params = "snapshot=true")
+    @Operation(summary = "Export the full locale bundle from its on-disk snapshot")
+    @ApiResponse(responseCode = "200", description = "Translations exported successfully")
+    public void exportTranslationsSnapshot(@Parameter(description = "Locale to export") @RequestParam String locale,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) throws IOException {
+        zeroCopyFileSender.send(localeBundleFileStore.getSnapshot(locale), request, response);
+    }
+
     @GetMapping
     @Operation(summary = "Search translations with filters")
     @ApiResponse(responseCode = "200", description = "Translations found")
@@ -118,11 +308,23 @@ public class TranslationController {
             @Parameter(description = "Filter by locale") @RequestParam(required = false) String locale,
             @Parameter(description = "Filter by content") @RequestParam(required = false) String content,
             @Parameter(description = "Filter by tags") @RequestParam(required = false) List<String> tags,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,key") @RequestParam(required = false) String fields,
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "updatedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            HttpServletResponse httpResponse) throws IOException {
 
+        if (pageSizeLimits.isOversized(PageSizeLimits.SEARCH, size)) {
+            chunkedTranslationStreamer.streamPage(new TranslationSearchCriteria(key, locale, content, tags),
+                    TranslationField.parse(fields), page, size, sortBy, sortDir, httpResponse);
+            return null;
+        }
+
+        if (StringUtils.isNotBlank(fields)) {
+            return ResponseEntity.ok(translationService.findTranslationProjections(
+                    new TranslationSearchCriteria(key, locale, content, tags), TranslationField.parse(fields), page, size, sortBy, sortDir));
+        }
 
         Page<TranslationResponseDto> response = translationService.searchTranslations(
                 key, locale, content, tags, page, size, sortBy, sortDir );
@@ -139,6 +341,24 @@ public class TranslationController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Delete every translation matching a key prefix, locale and/or tag",
+            description = "Runs as batched set-based deletes. With dryRun=true only the matching rows are counted.")
+    @ApiResponse(responseCode = "200", description = "Bulk delete executed or counted")
+    public ResponseEntity<BulkOperationResultDto> bulkDelete(@Valid @RequestBody BulkTranslationRequestDto requestDto,
+                                                             @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(translationService.bulkDelete(requestDto, dryRun));
+    }
+
+    @PostMapping("/bulk/retag")
+    @Operation(summary = "Add and remove tags on every translation matching a key prefix, locale and/or tag",
+            description = "Runs as batched set-based tag inserts and deletes. With dryRun=true only the matching rows are counted.")
+    @ApiResponse(responseCode = "200", description = "Bulk retag executed or counted")
+    public ResponseEntity<BulkOperationResultDto> bulkRetag(@Valid @RequestBody BulkTranslationRequestDto requestDto,
+                                                            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(translationService.bulkRetag(requestDto, dryRun));
+    }
+
     @GetMapping("/locales")
     @Operation(summary = "Get available locales")
     @ApiResponse(responseCode = "200", description = "Available locales")
@@ -147,4 +367,37 @@ public class TranslationController {
         return ResponseEntity.ok(locales);
     }
 
+    private WriteBehindPipeline requireWriteBehind() {
+        WriteBehindPipeline pipeline = writeBehindPipeline.getIfAvailable();
+        if (Objects.isNull(pipeline)) {
+            throw new WriteBehindUnavailableException("Write-behind is not enabled");
+        }
+        return pipeline;
+    }
+
+    private static ResponseEntity<TranslationResponseDto> withETag(TranslationResponseDto translation) {
+        if (Objects.isNull(translation.getVersion())) {
+            return ResponseEntity.ok(translation);
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(translation.getVersion())).body(translation);
+    }
+
+    /**
+     * Version from an If-Match header such as {@code "3"}; null when absent or {@code *}.
+     * If-Match compares strongly, so a weak tag such as {@code W/"3"} never matches.
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (StringUtils.isBlank(ifMatch) || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new TranslationVersionConflictException("If-Match needs a strong ETag, got weak: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(StringUtils.strip(tag, "\""));
+        } catch (NumberFormatException e) {
+            throw new InvalidTranslationRequestException("Invalid If-Match header: " + ifMatch);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.digitaltolk.translation_management_service.converter;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Base converter for the compact binary encodings of translation pages and locale
+ * bundles. Only claims {@code Page<TranslationResponseDto>} and
+ * {@code List<TranslationResponseDto>} bodies; everything else falls through to the
+ * regular Jackson converters.
+ */
+public abstract class AbstractCompactTranslationHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final JsonFactory jsonFactory;
+    private final CompactTranslationWriter writer = new CompactTranslationWriter();
+
+    protected AbstractCompactTranslationHttpMessageConverter(JsonFactory jsonFactory, MediaType... supportedMediaTypes) {
+        super(supportedMediaTypes);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Page.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && isTranslationContainer(Objects.nonNull(type) ? type : clazz);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()))) {
+            if (body instanceof Page<?> page) {
+                writer.writePage(generator, (Page<TranslationResponseDto>) page);
+            } else {
+                writer.writeBundle(generator, (List<TranslationResponseDto>) body);
+            }
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact translation formats are write-only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact translation formats are write-only", inputMessage);
+    }
+
+    private boolean isTranslationContainer(Type type) {
+        ResolvableType resolvable = ResolvableType.forType(type);
+        Class<?> raw = resolvable.resolve();
+        if (Objects.isNull(raw)) {
+            return false;
+        }
+        if (Page.class.isAssignableFrom(raw)) {
+            return TranslationResponseDto.class == resolvable.as(Page.class).resolveGeneric(0);
+        }
+        if (List.class.isAssignableFrom(raw)) {
+            return TranslationResponseDto.class == resolvable.as(List.class).resolveGeneric(0);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.digitaltolk.translation_management_service.converter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.MediaType;
+
+public class CborTranslationHttpMessageConverter extends AbstractCompactTranslationHttpMessageConverter {
+
+    public CborTranslationHttpMessageConverter() {
+        super(new CBORFactory(), MediaType.APPLICATION_CBOR);
+    }
+}
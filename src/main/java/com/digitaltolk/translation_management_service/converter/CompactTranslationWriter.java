@@ -0,0 +1,154 @@
+package com.digitaltolk.translation_management_service.converter;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Writes translation pages and locale bundles in a columnar layout that any
+ * Jackson binary backend (CBOR, MessagePack) can encode.
+ * <p>
+ * Field names are written once in a {@code fields} header instead of once per row,
+ * the locale is hoisted into the header when every row shares it, and tags are
+ * written as indexes into a per-payload {@code tags} dictionary. Timestamps are
+ * epoch millis of the local date-time read as UTC, so they round-trip losslessly.
+ */
+public class CompactTranslationWriter {
+
+    public static final int FORMAT_VERSION = 1;
+
+    public void writePage(JsonGenerator generator, Page<TranslationResponseDto> page) throws IOException {
+        generator.writeStartObject();
+        writeRows(generator, page.getContent());
+
+        generator.writeObjectFieldStart("page");
+        generator.writeNumberField("number", page.getNumber());
+        generator.writeNumberField("size", page.getSize());
+        generator.writeNumberField("total_elements", page.getTotalElements());
+        generator.writeNumberField("total_pages", page.getTotalPages());
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    public void writeBundle(JsonGenerator generator, List<TranslationResponseDto> translations) throws IOException {
+        generator.writeStartObject();
+        writeRows(generator, translations);
+        generator.writeEndObject();
+    }
+
+    private void writeRows(JsonGenerator generator, List<TranslationResponseDto> rows) throws IOException {
+        Layout layout = Layout.of(rows);
+
+        generator.writeNumberField("version", FORMAT_VERSION);
+        if (Objects.nonNull(layout.sharedLocale)) {
+            generator.writeStringField("locale", layout.sharedLocale);
+        }
+
+        generator.writeArrayFieldStart("fields");
+        for (TranslationField field : layout.columns) {
+            generator.writeString(field.getJsonName());
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("tags");
+        for (String tag : layout.tagIds.keySet()) {
+            generator.writeString(tag);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("rows");
+        for (TranslationResponseDto row : rows) {
+            generator.writeStartArray();
+            for (TranslationField field : layout.columns) {
+                writeColumn(generator, field, row, layout.tagIds);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeColumn(JsonGenerator generator, TranslationField field, TranslationResponseDto row,
+                             Map<String, Integer> tagIds) throws IOException {
+        switch (field) {
+            case ID -> writeNullableNumber(generator, row.getId());
+            case KEY -> generator.writeString(row.getTranslationKey());
+            case LOCALE -> generator.writeString(row.getLocale());
+            case CONTENT -> generator.writeString(row.getContent());
+            case TAGS -> {
+                if (Objects.isNull(row.getTags())) {
+                    generator.writeNull();
+                    return;
+                }
+                generator.writeStartArray();
+                for (String tag : row.getTags()) {
+                    generator.writeNumber(tagIds.get(tag));
+                }
+                generator.writeEndArray();
+            }
+            case CREATED_AT -> writeNullableNumber(generator, toEpochMillis(row.getCreatedAt()));
+            case UPDATED_AT -> writeNullableNumber(generator, toEpochMillis(row.getUpdatedAt()));
+        }
+    }
+
+    private void writeNullableNumber(JsonGenerator generator, Long value) throws IOException {
+        if (Objects.isNull(value)) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private Long toEpochMillis(LocalDateTime value) {
+        return Objects.isNull(value) ? null : value.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Columns, hoisted locale and tag dictionary derived from one pass over the rows.
+     * Columns that are null on every row are left out entirely.
+     */
+    private record Layout(List<TranslationField> columns, String sharedLocale, Map<String, Integer> tagIds) {
+
+        static Layout of(List<TranslationResponseDto> rows) {
+            Set<TranslationField> present = EnumSet.noneOf(TranslationField.class);
+            Map<String, Integer> tagIds = new LinkedHashMap<>();
+            String sharedLocale = rows.isEmpty() ? null : rows.get(0).getLocale();
+
+            for (TranslationResponseDto row : rows) {
+                if (Objects.nonNull(row.getId())) present.add(TranslationField.ID);
+                if (Objects.nonNull(row.getTranslationKey())) present.add(TranslationField.KEY);
+                if (Objects.nonNull(row.getLocale())) present.add(TranslationField.LOCALE);
+                if (Objects.nonNull(row.getContent())) present.add(TranslationField.CONTENT);
+                if (Objects.nonNull(row.getCreatedAt())) present.add(TranslationField.CREATED_AT);
+                if (Objects.nonNull(row.getUpdatedAt())) present.add(TranslationField.UPDATED_AT);
+
+                if (!Objects.equals(sharedLocale, row.getLocale())) {
+                    sharedLocale = null;
+                }
+
+                if (Objects.nonNull(row.getTags())) {
+                    present.add(TranslationField.TAGS);
+                    for (String tag : row.getTags()) {
+                        tagIds.putIfAbsent(tag, tagIds.size());
+                    }
+                }
+            }
+
+            if (Objects.nonNull(sharedLocale)) {
+                present.remove(TranslationField.LOCALE);
+            }
+            return new Layout(List.copyOf(present), sharedLocale, tagIds);
+        }
+    }
+}
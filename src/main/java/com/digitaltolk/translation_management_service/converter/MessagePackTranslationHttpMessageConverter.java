@@ -0,0 +1,13 @@
+package com.digitaltolk.translation_management_service.converter;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.MediaType;
+
+public class MessagePackTranslationHttpMessageConverter extends AbstractCompactTranslationHttpMessageConverter {
+
+    public static final MediaType APPLICATION_MSGPACK = new MediaType("application", "x-msgpack");
+
+    public MessagePackTranslationHttpMessageConverter() {
+        super(new MessagePackFactory(), APPLICATION_MSGPACK, new MediaType("application", "msgpack"));
+    }
+}
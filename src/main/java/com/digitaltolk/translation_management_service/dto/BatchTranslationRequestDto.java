@@ -0,0 +1,10 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchTranslationRequestDto(
+        @Size(max = 500, message = "At most 500 ids per batch") List<Long> ids,
+        @Size(max = 500, message = "At most 500 keys per batch") List<@Valid TranslationKeyDto> keys) { }
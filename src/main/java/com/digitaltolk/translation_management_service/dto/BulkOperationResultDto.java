@@ -0,0 +1,9 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BulkOperationResultDto(
+        @JsonProperty("operation") String operation,
+        @JsonProperty("dry_run") boolean dryRun,
+        @JsonProperty("matched") long matched,
+        @JsonProperty("affected") long affected) { }
@@ -0,0 +1,18 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+/**
+ * Filter selecting the translations of a bulk operation, plus the tag changes of a retag.
+ * Filters combine with AND; at least one is required.
+ */
+public record BulkTranslationRequestDto(
+        @JsonProperty("key_prefix") @Size(max = 500, message = "Key prefix must not exceed 500 characters") String keyPrefix,
+        @JsonProperty("locale") @Pattern(regexp = "^[a-z]{2}(-[A-Z]{2})?$", message = "Locale must be in format 'en' or 'en-US'") String locale,
+        @JsonProperty("tag") String tag,
+        @JsonProperty("add_tags") @Size(max = 50, message = "At most 50 tags to add") Set<String> addTags,
+        @JsonProperty("remove_tags") @Size(max = 50, message = "At most 50 tags to remove") Set<String> removeTags) { }
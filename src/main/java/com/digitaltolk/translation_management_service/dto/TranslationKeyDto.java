@@ -0,0 +1,6 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record TranslationKeyDto(@NotBlank(message = "Translation key is required") String key,
+                                @NotBlank(message = "Locale is required") String locale) { }
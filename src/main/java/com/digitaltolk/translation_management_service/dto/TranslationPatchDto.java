@@ -0,0 +1,76 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Body of a JSON Merge Patch (RFC 7396) on a translation. Only members present in the
+ * document are applied; an explicit null removes the value, which is only allowed for tags.
+ */
+public class TranslationPatchDto {
+
+    public enum Field { KEY, LOCALE, CONTENT, TAGS }
+
+    @Size(max = 500, message = "Translation key must not exceed 500 characters")
+    private String translationKey;
+
+    @Pattern(regexp = "^[a-z]{2}(-[A-Z]{2})?$", message = "Locale must be in format 'en' or 'en-US'")
+    private String locale;
+
+    private String content;
+
+    private Set<String> tags;
+
+    private final Set<Field> presentFields = EnumSet.noneOf(Field.class);
+
+    public TranslationPatchDto() {}
+
+    public boolean isPresent(Field field) {
+        return presentFields.contains(field);
+    }
+
+    // Getters and Setters
+    public String getTranslationKey() {
+        return translationKey;
+    }
+
+    @JsonProperty("key")
+    public void setTranslationKey(String translationKey) {
+        this.translationKey = translationKey;
+        presentFields.add(Field.KEY);
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    @JsonProperty("locale")
+    public void setLocale(String locale) {
+        this.locale = locale;
+        presentFields.add(Field.LOCALE);
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    @JsonProperty("content")
+    public void setContent(String content) {
+        this.content = content;
+        presentFields.add(Field.CONTENT);
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    @JsonProperty("tags")
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+        presentFields.add(Field.TAGS);
+    }
+}
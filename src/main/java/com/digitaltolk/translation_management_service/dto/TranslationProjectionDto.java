@@ -0,0 +1,11 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A translation carrying only the columns requested with {@code fields=}. Fields that were
+ * not selected are null and left out of the JSON, while full responses keep every field.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TranslationProjectionDto extends TranslationResponseDto {
+}
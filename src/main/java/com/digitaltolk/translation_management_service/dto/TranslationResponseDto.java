@@ -27,6 +27,9 @@ public class TranslationResponseDto {
     @JsonProperty("updated_at")
     private LocalDateTime updatedAt;
 
+    @JsonProperty("version")
+    private Long version;
+
     // Constructors
     public TranslationResponseDto() {}
 
@@ -98,4 +101,12 @@ public class TranslationResponseDto {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
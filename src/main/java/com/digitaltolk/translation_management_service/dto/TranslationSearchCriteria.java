@@ -0,0 +1,12 @@
+package com.digitaltolk.translation_management_service.dto;
+
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+
+import java.util.List;
+
+public record TranslationSearchCriteria(String key, String locale, String content, List<String> tags, TagMatch tagMatch) {
+
+    public TranslationSearchCriteria(String key, String locale, String content, List<String> tags) {
+        this(key, locale, content, tags, TagMatch.ANY);
+    }
+}
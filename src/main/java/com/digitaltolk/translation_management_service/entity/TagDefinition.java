@@ -0,0 +1,37 @@
+package com.digitaltolk.translation_management_service.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "tag_dictionary")
+public class TagDefinition {
+
+    public TagDefinition() {}
+
+    public TagDefinition(String name) {
+        this.name = name;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(unique = true, nullable = false, length = 100)
+    private String name;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
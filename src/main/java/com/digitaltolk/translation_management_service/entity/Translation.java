@@ -1,6 +1,7 @@
 package com.digitaltolk.translation_management_service.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,10 +13,10 @@ import java.util.Set;
 @Table(name = "translations", indexes = {
         @Index(name = "idx_translation_key", columnList = "translationKey"),
         @Index(name = "idx_locale", columnList = "locale"),
-        @Index(name = "idx_key_locale", columnList = "translationKey, locale"),
         @Index(name = "idx_content", columnList = "content")
-})
+}, uniqueConstraints = @UniqueConstraint(name = "uk_key_locale", columnNames = {"translation_key", "locale"}))
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 public class Translation {
 
     @Id
@@ -46,6 +47,10 @@ public class Translation {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 
     // Constructors
     public Translation() {}
@@ -114,4 +119,12 @@ public class Translation {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
 }
@@ -0,0 +1,20 @@
+package com.digitaltolk.translation_management_service.enums;
+
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+
+import java.util.Arrays;
+
+/**
+ * How a multi-tag filter is applied: a translation matches if it carries any of
+ * the tags, or only if it carries all of them.
+ */
+public enum TagMatch {
+    ANY, ALL;
+
+    public static TagMatch fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(match -> match.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidTranslationRequestException("Unknown tag match: " + value + ", expected any or all"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.digitaltolk.translation_management_service.enums;
+
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum TranslationField {
+    ID("id", "id"),
+    KEY("key", "translationKey"),
+    LOCALE("locale", "locale"),
+    CONTENT("content", "content"),
+    TAGS("tags", "tags"),
+    CREATED_AT("created_at", "createdAt"),
+    UPDATED_AT("updated_at", "updatedAt");
+
+    private final String jsonName;
+    private final String property;
+
+    TranslationField(String jsonName, String property) {
+        this.jsonName = jsonName;
+        this.property = property;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parse a comma-separated {@code fields=} parameter. The id is always included;
+     * a blank value selects every field.
+     */
+    public static Set<TranslationField> parse(String fields) {
+        if (StringUtils.isBlank(fields)) {
+            return EnumSet.allOf(TranslationField.class);
+        }
+        Set<TranslationField> parsed = EnumSet.of(ID);
+        for (String name : StringUtils.split(fields, ',')) {
+            parsed.add(fromJsonName(name.trim()));
+        }
+        return parsed;
+    }
+
+    public static TranslationField fromJsonName(String name) {
+        for (TranslationField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new InvalidTranslationRequestException("Unknown translation field: " + name);
+    }
+}
@@ -0,0 +1,27 @@
+package com.digitaltolk.translation_management_service.event;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+
+/**
+ * Published by the service after a translation mutation has been committed, so
+ * in-memory indexes can follow the database. {@code translation} is the new state,
+ * or null for deletions.
+ */
+public record TranslationChangedEvent(Type type, Long id, TranslationResponseDto translation) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TranslationChangedEvent created(TranslationResponseDto translation) {
+        return new TranslationChangedEvent(Type.CREATED, translation.getId(), translation);
+    }
+
+    public static TranslationChangedEvent updated(TranslationResponseDto translation) {
+        return new TranslationChangedEvent(Type.UPDATED, translation.getId(), translation);
+    }
+
+    public static TranslationChangedEvent deleted(Long id) {
+        return new TranslationChangedEvent(Type.DELETED, id, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.digitaltolk.translation_management_service.event;
+
+/**
+ * Published by the translation key index after the entry for a (key, locale) pair was
+ * added, replaced or removed.
+ */
+public record TranslationKeyChangedEvent(String locale, String key) { }
@@ -0,0 +1,33 @@
+package com.digitaltolk.translation_management_service.exception;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Objects;
+
+public class DuplicateTranslationException extends RuntimeException {
+
+    /**
+     * Name of the unique (key, locale) constraint on {@code translations}.
+     */
+    public static final String KEY_LOCALE_CONSTRAINT = "uk_key_locale";
+
+    public DuplicateTranslationException(String message) {
+        super(message);
+    }
+
+    /**
+     * Whether a failed write broke the unique (key, locale) constraint, as opposed to another
+     * constraint such as a not-null or length check.
+     */
+    public static boolean isDuplicateKey(Throwable failure) {
+        int index = ExceptionUtils.indexOfType(failure, ConstraintViolationException.class);
+        if (index < 0) {
+            return false;
+        }
+        ConstraintViolationException violation = (ConstraintViolationException) ExceptionUtils.getThrowableList(failure).get(index);
+        return Objects.nonNull(violation.getConstraintName())
+                && StringUtils.containsIgnoreCase(violation.getConstraintName(), KEY_LOCALE_CONSTRAINT);
+    }
+}
@@ -0,0 +1,11 @@
+package com.digitaltolk.translation_management_service.exception;
+
+/**
+ * A request parameter or body the client can correct, such as an unknown {@code fields=}
+ * name. Its message is returned to the client, so it must not carry internal details.
+ */
+public class InvalidTranslationRequestException extends RuntimeException {
+    public InvalidTranslationRequestException(String message) {
+        super(message);
+    }
+}
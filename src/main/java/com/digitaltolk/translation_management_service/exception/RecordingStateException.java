@@ -0,0 +1,7 @@
+package com.digitaltolk.translation_management_service.exception;
+
+public class RecordingStateException extends RuntimeException {
+    public RecordingStateException(String message) {
+        super(message);
+    }
+}
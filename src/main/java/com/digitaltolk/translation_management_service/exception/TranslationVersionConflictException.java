@@ -0,0 +1,7 @@
+package com.digitaltolk.translation_management_service.exception;
+
+public class TranslationVersionConflictException extends RuntimeException {
+    public TranslationVersionConflictException(String message) {
+        super(message);
+    }
+}
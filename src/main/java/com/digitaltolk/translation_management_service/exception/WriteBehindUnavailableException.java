@@ -0,0 +1,7 @@
+package com.digitaltolk.translation_management_service.exception;
+
+public class WriteBehindUnavailableException extends RuntimeException {
+    public WriteBehindUnavailableException(String message) {
+        super(message);
+    }
+}
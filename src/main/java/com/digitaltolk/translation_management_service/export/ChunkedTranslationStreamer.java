@@ -0,0 +1,176 @@
+package com.digitaltolk.translation_management_service.export;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import com.digitaltolk.translation_management_service.jdbc.QueryCancellationWatchdog;
+import com.digitaltolk.translation_management_service.repository.TranslationProjectionRepository.Keyset;
+import com.digitaltolk.translation_management_service.repository.TranslationProjectionRepository.KeysetBatch;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves pages larger than their {@link PageSizeLimits} cap as a chunked JSON stream.
+ * <p>
+ * Rows are read in keyset batches of {@code translation.pagination.stream-batch-size} through
+ * {@link TranslationRepository#findProjectedAfter}, written, and flushed to the client before
+ * the next batch is read, so a request holds at most one batch however large its page.
+ * Rows come in the requested sort with the id breaking ties, and a streamed page carries
+ * {@code number}, {@code size}, {@code numberOfElements}, {@code first} and {@code last}
+ * but no totals.
+ * <p>
+ * Each batch query gets the endpoint's full query timeout rather than sharing one deadline
+ * for the whole response, so a slow reader never has its stream cut off mid-page. A client that
+ * disconnects is noticed when a flush fails, and the request's statements are cancelled then.
+ * <p>
+ * Reaching page {@code n} still walks the {@code n * size} rows before it, id and sort value
+ * only, so the cost of a deep page grows with its offset. Clients exporting everything should
+ * page through with a large {@code size} rather than jump to high page numbers.
+ */
+@Component
+public class ChunkedTranslationStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedTranslationStreamer.class);
+
+    private final TranslationRepository translationRepository;
+    private final QueryCancellationWatchdog queryCancellationWatchdog;
+    private final ObjectWriter objectWriter;
+    private final int batchSize;
+
+    public ChunkedTranslationStreamer(TranslationRepository translationRepository,
+                                      QueryCancellationWatchdog queryCancellationWatchdog,
+                                      ObjectMapper objectMapper,
+                                      @Value("${translation.pagination.stream-batch-size:500}") int batchSize) {
+        this.translationRepository = translationRepository;
+        this.queryCancellationWatchdog = queryCancellationWatchdog;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Stream the page as a JSON object shaped like a {@code Page}, without totals.
+     */
+    public void streamPage(TranslationSearchCriteria criteria, Set<TranslationField> fields, int page, int size,
+                           String sortBy, String sortDir, HttpServletResponse response) throws IOException {
+        queryCancellationWatchdog.deadlinePerStatement();
+        Cursor cursor = open(criteria, fields, order(sortBy, sortDir), (long) page * size, size);
+        prepare(response);
+        try (JsonGenerator generator = objectWriter.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeFieldName("content");
+            long count = write(generator, cursor);
+            generator.writeNumberField("number", page);
+            generator.writeNumberField("size", size);
+            generator.writeNumberField("numberOfElements", count);
+            generator.writeBooleanField("first", page == 0);
+            generator.writeBooleanField("last", count < size);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Stream the page as a bare JSON array.
+     */
+    public void streamList(TranslationSearchCriteria criteria, Set<TranslationField> fields, int page, int size,
+                           String sortBy, String sortDir, HttpServletResponse response) throws IOException {
+        queryCancellationWatchdog.deadlinePerStatement();
+        Cursor cursor = open(criteria, fields, order(sortBy, sortDir), (long) page * size, size);
+        prepare(response);
+        try (JsonGenerator generator = objectWriter.createGenerator(response.getOutputStream())) {
+            write(generator, cursor);
+        }
+    }
+
+    /**
+     * Skip {@code offset} matching rows and read the first batch of the page, before anything is
+     * written, so an empty page can still be answered with 404. Skipping reads {@code offset}
+     * positions, so it costs O(offset) however few rows the page holds.
+     */
+    Cursor open(TranslationSearchCriteria criteria, Set<TranslationField> fields, Sort.Order order, long offset, long limit) {
+        Keyset position = null;
+        long skipped = 0L;
+        Set<TranslationField> idOnly = EnumSet.of(TranslationField.ID);
+        while (skipped < offset) {
+            KeysetBatch ids = translationRepository.findProjectedAfter(criteria, idOnly, order, position,
+                    (int) Math.min(batchSize, offset - skipped));
+            if (ids.isEmpty()) {
+                break;
+            }
+            skipped += ids.rows().size();
+            position = ids.last();
+        }
+
+        KeysetBatch firstBatch = skipped < offset ? new KeysetBatch(List.of(), position)
+                : translationRepository.findProjectedAfter(criteria, fields, order, position, (int) Math.min(batchSize, limit));
+        if (firstBatch.isEmpty()) {
+            throw new TranslationNotFoundException("No translations found with defined criteria");
+        }
+        return new Cursor(criteria, fields, order, limit, firstBatch);
+    }
+
+    /**
+     * Write the cursor's rows as a JSON array, flushing after each batch.
+     *
+     * @return the number of rows written
+     */
+    long write(JsonGenerator generator, Cursor cursor) throws IOException {
+        generator.writeStartArray();
+        long written = 0L;
+        int batches = 0;
+        KeysetBatch batch = cursor.firstBatch();
+        while (!batch.isEmpty()) {
+            try {
+                for (TranslationResponseDto translation : batch.rows()) {
+                    objectWriter.writeValue(generator, translation);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                if (DisconnectedClientHelper.isClientDisconnectedException(e)) {
+                    queryCancellationWatchdog.abandon();
+                }
+                throw e;
+            }
+            written += batch.rows().size();
+            batches++;
+
+            long remaining = cursor.limit() - written;
+            if (remaining <= 0 || batch.rows().size() < batchSize) {
+                break;
+            }
+            batch = translationRepository.findProjectedAfter(cursor.criteria(), cursor.fields(), cursor.order(), batch.last(),
+                    (int) Math.min(batchSize, remaining));
+        }
+        generator.writeEndArray();
+        logger.debug("Streamed {} translations in {} batches", written, batches);
+        return written;
+    }
+
+    private Sort.Order order(String sortBy, String sortDir) {
+        return sortDir.equalsIgnoreCase("desc") ? Sort.Order.desc(sortBy) : Sort.Order.asc(sortBy);
+    }
+
+    private void prepare(HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    record Cursor(TranslationSearchCriteria criteria, Set<TranslationField> fields, Sort.Order order, long limit,
+                  KeysetBatch firstBatch) { }
+}
@@ -0,0 +1,205 @@
+package com.digitaltolk.translation_management_service.export;
+
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.entity.Translation;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Materializes each locale bundle as an immutable JSON file on local disk so it can be
+ * served with sendfile instead of being serialized through the heap on every request.
+ * <p>
+ * Files are named after a generation picked at startup and
+ * {@link TranslationCacheManager#getLocaleVersion}: once a locale changes its version moves on,
+ * the next request writes a new file to a temp name and atomically renames it into place.
+ * Locale versions restart with the process, so the generation keeps a restarted instance from
+ * serving an earlier instance's file, and those files are deleted on startup. A superseded
+ * snapshot is kept for {@code translation.export.superseded-grace-period}, since its path may
+ * already have been handed to sendfile, and deleted by a scheduled sweep after that.
+ */
+@Component
+public class LocaleBundleFileStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocaleBundleFileStore.class);
+    private static final Pattern LOCALE_PATTERN = Pattern.compile("^[a-z]{2}(-[A-Z]{2})?$");
+    private static final Pattern BUNDLE_FILE_PATTERN = Pattern.compile("^[a-z]{2}(-[A-Z]{2})?([.-][0-9a-z.]+)\\.(json|tmp)$");
+
+    private final TranslationRepository translationRepository;
+    private final TranslationMapper translationMapper;
+    private final TranslationCacheManager cacheManager;
+    private final ObjectWriter objectWriter;
+    private final Path directory;
+    private final int batchSize;
+    private final long supersededGraceNanos;
+    private final String generation = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final ConcurrentHashMap<String, Object> localeLocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Path, Long> superseded = new ConcurrentHashMap<>();
+
+    public LocaleBundleFileStore(TranslationRepository translationRepository,
+                                 TranslationMapper translationMapper,
+                                 TranslationCacheManager cacheManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${translation.export.directory:${java.io.tmpdir}/tms-bundles}") String directory,
+                                 @Value("${translation.export.batch-size:1000}") int batchSize,
+                                 @Value("${translation.export.superseded-grace-period:1m}") Duration supersededGracePeriod) throws IOException {
+        this.translationRepository = translationRepository;
+        this.translationMapper = translationMapper;
+        this.cacheManager = cacheManager;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.directory = Files.createDirectories(Paths.get(directory));
+        this.batchSize = batchSize;
+        this.supersededGraceNanos = supersededGracePeriod.toNanos();
+        deleteEarlierGenerations();
+    }
+
+    /**
+     * Path of the current snapshot for a locale, writing it first if the locale changed
+     * since the last snapshot.
+     */
+    public Path getSnapshot(String locale) {
+        if (!LOCALE_PATTERN.matcher(locale).matches()) {
+            throw new InvalidTranslationRequestException("Locale must be in format 'en' or 'en-US'");
+        }
+
+        Path snapshot = directory.resolve(locale + "." + generation + "." + cacheManager.getLocaleVersion(locale) + ".json");
+        if (Files.exists(snapshot)) {
+            return snapshot;
+        }
+
+        synchronized (localeLocks.computeIfAbsent(locale, k -> new Object())) {
+            if (!Files.exists(snapshot)) {
+                materialize(locale, snapshot);
+                retireSupersededSnapshots(locale, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Delete superseded snapshots once their grace period has passed.
+     */
+    @Scheduled(fixedDelayString = "${translation.export.cleanup-interval-ms:60000}")
+    public void deleteExpiredSnapshots() {
+        long now = System.nanoTime();
+        superseded.entrySet().removeIf(snapshot -> {
+            if (now - snapshot.getValue() < supersededGraceNanos) {
+                return false;
+            }
+            deleteQuietly(snapshot.getKey());
+            return true;
+        });
+    }
+
+    private void materialize(String locale, Path snapshot) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, locale + "-", ".tmp");
+            long count = writeBundle(locale, tempFile);
+            if (count == 0) {
+                throw new TranslationNotFoundException("Translation not found with locale: " + locale);
+            }
+            Files.move(tempFile, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("Wrote locale bundle snapshot {} with {} translations", snapshot.getFileName(), count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write locale bundle snapshot for " + locale, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private long writeBundle(String locale, Path file) throws IOException {
+        long count = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+             JsonGenerator generator = objectWriter.createGenerator(out)) {
+            generator.writeStartArray();
+
+            Long afterId = 0L;
+            List<Long> ids;
+            while (!(ids = translationRepository.findIdsByLocaleAfter(locale, afterId, PageRequest.of(0, batchSize))).isEmpty()) {
+                Map<Long, Translation> translations = translationRepository.findAllWithTagsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Translation::getId, Function.identity()));
+                for (Long id : ids) {
+                    Translation translation = translations.get(id);
+                    if (translation != null) {
+                        objectWriter.writeValue(generator, translationMapper.toDto(translation));
+                        count++;
+                    }
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+
+            generator.writeEndArray();
+        }
+        return count;
+    }
+
+    private void retireSupersededSnapshots(String locale, Path current) {
+        long now = System.nanoTime();
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(directory, locale + ".*.json")) {
+            for (Path snapshot : snapshots) {
+                if (!snapshot.equals(current)) {
+                    superseded.putIfAbsent(snapshot, now);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to find superseded snapshots for locale {}: {}", locale, e.getMessage());
+        }
+        deleteExpiredSnapshots();
+    }
+
+    /**
+     * Delete bundle files left by earlier runs, whose versions no longer mean anything.
+     */
+    private void deleteEarlierGenerations() throws IOException {
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                file -> BUNDLE_FILE_PATTERN.matcher(file.getFileName().toString()).matches())) {
+            for (Path file : files) {
+                deleteQuietly(file);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} locale bundle files from earlier runs in {}", deleted, directory);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+}
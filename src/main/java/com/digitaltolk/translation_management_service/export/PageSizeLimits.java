@@ -0,0 +1,61 @@
+package com.digitaltolk.translation_management_service.export;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Largest page each search endpoint serves as a regular page. Caps come from
+ * {@code translation.pagination.max-page-sizes} as {@code endpoint=size} pairs
+ * ({@code by-content=200}); endpoints without one use {@code translation.pagination.max-page-size}.
+ * Larger requests are streamed by {@link ChunkedTranslationStreamer}.
+ */
+@Component
+public class PageSizeLimits {
+
+    public static final String SEARCH = "search";
+    public static final String BY_TAGS = "by-tags";
+    public static final String BY_KEY = "by-key";
+    public static final String BY_CONTENT = "by-content";
+    public static final String BY_LOCALE = "by-locale";
+
+    private static final Logger logger = LoggerFactory.getLogger(PageSizeLimits.class);
+
+    private final int defaultMaxPageSize;
+    private final Map<String, Integer> maxPageSizes;
+
+    public PageSizeLimits(@Value("${translation.pagination.max-page-size:500}") int defaultMaxPageSize,
+                          @Value("${translation.pagination.max-page-sizes:}") String maxPageSizes) {
+        this.defaultMaxPageSize = defaultMaxPageSize;
+        this.maxPageSizes = parseMaxPageSizes(maxPageSizes);
+    }
+
+    public int maxPageSize(String endpoint) {
+        return maxPageSizes.getOrDefault(endpoint, defaultMaxPageSize);
+    }
+
+    public boolean isOversized(String endpoint, int size) {
+        return size > maxPageSize(endpoint);
+    }
+
+    private Map<String, Integer> parseMaxPageSizes(String maxPageSizes) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (StringUtils.isBlank(maxPageSizes)) {
+            return parsed;
+        }
+        for (String entry : maxPageSizes.split(",")) {
+            String[] endpointAndSize = entry.split("=");
+            if (endpointAndSize.length != 2) {
+                throw new IllegalArgumentException("Invalid page size cap '" + entry.trim() + "', expected endpoint=size");
+            }
+            parsed.put(endpointAndSize[0].trim(), Integer.parseInt(endpointAndSize[1].trim()));
+        }
+        logger.info("Page size caps: {} (default {})", parsed, defaultMaxPageSize);
+        return parsed;
+    }
+}
@@ -0,0 +1,185 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationKeyChangedEvent;
+import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves translations through a locale fallback chain such as {@code pt-BR -> pt -> en}.
+ * <p>
+ * For every known locale a merged view is precomputed from the {@link TranslationKeyIndex}:
+ * each key maps to the translation of the first locale in the chain that has it. When a
+ * (key, locale) entry changes, only that key is re-resolved, and only in the views whose
+ * chain contains the locale.
+ * <p>
+ * Chains come from {@code translation.fallback.chains} ({@code pt-BR>pt>en,es-MX>es});
+ * unconfigured locales fall back to their language and then to the default locale.
+ */
+@Component
+public class LocaleFallbackResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocaleFallbackResolver.class);
+
+    private final TranslationKeyIndex translationKeyIndex;
+    private final String defaultLocale;
+    private final Map<String, List<String>> configuredChains;
+
+    private final Map<String, Map<String, TranslationResponseDto>> mergedViews = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> dependentViews = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    public LocaleFallbackResolver(TranslationKeyIndex translationKeyIndex,
+                                  @Value("${translation.fallback.default-locale:en}") String defaultLocale,
+                                  @Value("${translation.fallback.chains:}") String chains) {
+        this.translationKeyIndex = translationKeyIndex;
+        this.defaultLocale = defaultLocale;
+        this.configuredChains = parseChains(chains);
+    }
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            mergedViews.clear();
+            dependentViews.clear();
+
+            Set<String> locales = new LinkedHashSet<>(translationKeyIndex.locales());
+            locales.addAll(configuredChains.keySet());
+            locales.forEach(this::buildView);
+            logger.info("Built merged fallback views for {} locales", mergedViews.size());
+        }
+    }
+
+    @EventListener
+    public void onTranslationKeyChanged(TranslationKeyChangedEvent event) {
+        synchronized (writeLock) {
+            if (!mergedViews.containsKey(event.locale())) {
+                buildView(event.locale());
+            }
+            for (String viewLocale : dependentViews.getOrDefault(event.locale(), Set.of())) {
+                Map<String, TranslationResponseDto> view = mergedViews.get(viewLocale);
+                TranslationResponseDto resolved = resolveThroughChain(chainOf(viewLocale), event.key());
+                if (Objects.nonNull(resolved)) {
+                    view.put(event.key(), resolved);
+                } else {
+                    view.remove(event.key());
+                }
+            }
+        }
+    }
+
+    /**
+     * The translation of a key for a locale, following the locale's fallback chain.
+     */
+    public TranslationResponseDto resolve(String key, String locale) {
+        Map<String, TranslationResponseDto> view = mergedViews.get(locale);
+        TranslationResponseDto resolved = Objects.nonNull(view)
+                ? view.get(key)
+                : resolveThroughChain(chainOf(locale), key);
+
+        if (Objects.isNull(resolved)) {
+            throw new TranslationNotFoundException("Translation not found with key: " + key
+                    + " for locale chain: " + String.join(" > ", chainOf(locale)));
+        }
+        return resolved;
+    }
+
+    /**
+     * Every key resolvable for a locale mapped to its content, ordered by key.
+     */
+    public Map<String, String> bundle(String locale) {
+        Map<String, TranslationResponseDto> view = mergedViews.get(locale);
+        if (Objects.isNull(view)) {
+            view = merge(chainOf(locale));
+        }
+        if (view.isEmpty()) {
+            throw new TranslationNotFoundException("No translations found for locale chain: "
+                    + String.join(" > ", chainOf(locale)));
+        }
+
+        Map<String, String> bundle = new TreeMap<>();
+        view.forEach((key, translation) -> bundle.put(key, translation.getContent()));
+        return bundle;
+    }
+
+    /**
+     * The fallback chain of a locale, starting with the locale itself.
+     */
+    public List<String> chainOf(String locale) {
+        List<String> configured = configuredChains.get(locale);
+        if (Objects.nonNull(configured)) {
+            return configured;
+        }
+        Set<String> chain = new LinkedHashSet<>();
+        chain.add(locale);
+        int separator = locale.indexOf('-');
+        if (separator > 0) {
+            chain.add(locale.substring(0, separator));
+        }
+        chain.add(defaultLocale);
+        return List.copyOf(chain);
+    }
+
+    private void buildView(String locale) {
+        List<String> chain = chainOf(locale);
+        mergedViews.put(locale, merge(chain));
+        chain.forEach(member -> dependentViews.computeIfAbsent(member, k -> ConcurrentHashMap.newKeySet()).add(locale));
+    }
+
+    private Map<String, TranslationResponseDto> merge(List<String> chain) {
+        Map<String, TranslationResponseDto> view = new ConcurrentHashMap<>();
+        for (String member : chain) {
+            translationKeyIndex.entries(member).forEach(view::putIfAbsent);
+        }
+        return view;
+    }
+
+    private TranslationResponseDto resolveThroughChain(List<String> chain, String key) {
+        for (String member : chain) {
+            TranslationResponseDto translation = translationKeyIndex.get(key, member);
+            if (Objects.nonNull(translation)) {
+                return translation;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, List<String>> parseChains(String chains) {
+        Map<String, List<String>> parsed = new HashMap<>();
+        if (StringUtils.isBlank(chains)) {
+            return parsed;
+        }
+        for (String chain : chains.split(",")) {
+            List<String> members = new ArrayList<>(new LinkedHashSet<>(Arrays.stream(chain.split(">"))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty)
+                    .toList()));
+            if (!members.isEmpty()) {
+                if (!members.contains(defaultLocale)) {
+                    members.add(defaultLocale);
+                }
+                parsed.put(members.get(0), List.copyOf(members));
+            }
+        }
+        return parsed;
+    }
+}
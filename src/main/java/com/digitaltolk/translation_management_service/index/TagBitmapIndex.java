@@ -0,0 +1,141 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index from tag id to the bitmap of translation ids carrying that tag, so
+ * tag filters are resolved as bitmap unions/intersections before any row is loaded.
+ * Built once the application is ready and kept current from {@link TranslationChangedEvent}s.
+ */
+@Component
+public class TagBitmapIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagBitmapIndex.class);
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final TagDictionary tagDictionary;
+    private final TranslationRepository translationRepository;
+
+    private final Map<Integer, RoaringBitmap> bitmaps = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public TagBitmapIndex(TagDictionary tagDictionary, TranslationRepository translationRepository) {
+        this.tagDictionary = tagDictionary;
+        this.translationRepository = translationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            bitmaps.clear();
+            tagDictionary.load();
+
+            for (Map.Entry<String, Integer> tag : tagDictionary.snapshot().entrySet()) {
+                RoaringBitmap bitmap = new RoaringBitmap();
+                Long afterId = 0L;
+                List<Long> ids;
+                while (!(ids = translationRepository.findIdsByTagAfter(tag.getKey(), afterId, PageRequest.of(0, LOAD_BATCH_SIZE))).isEmpty()) {
+                    ids.forEach(id -> bitmap.add(Math.toIntExact(id)));
+                    afterId = ids.get(ids.size() - 1);
+                }
+                bitmap.runOptimize();
+                bitmaps.put(tag.getValue(), bitmap);
+            }
+
+            ready = true;
+            logger.info("Built tag bitmap index for {} tags", bitmaps.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        int id = Math.toIntExact(event.id());
+        List<Integer> tagIds = new ArrayList<>();
+        if (Objects.nonNull(event.translation()) && !CollectionUtils.isEmpty(event.translation().getTags())) {
+            event.translation().getTags().forEach(tag -> tagIds.add(tagDictionary.intern(tag)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (event.type() != TranslationChangedEvent.Type.CREATED) {
+                bitmaps.values().forEach(bitmap -> bitmap.remove(id));
+            }
+            tagIds.forEach(tagId -> bitmaps.computeIfAbsent(tagId, k -> new RoaringBitmap()).add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Translation ids carrying any or all of the given tags. The result is a new bitmap
+     * owned by the caller.
+     */
+    public RoaringBitmap resolve(Collection<String> tags, TagMatch match) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> matched = new ArrayList<>();
+            for (String tag : tags) {
+                Integer tagId = tagDictionary.idOf(tag);
+                RoaringBitmap bitmap = Objects.nonNull(tagId) ? bitmaps.get(tagId) : null;
+                if (Objects.nonNull(bitmap)) {
+                    matched.add(bitmap);
+                } else if (match == TagMatch.ALL) {
+                    return new RoaringBitmap();
+                }
+            }
+
+            if (matched.isEmpty()) {
+                return new RoaringBitmap();
+            }
+            if (matched.size() == 1) {
+                return matched.get(0).clone();
+            }
+            RoaringBitmap[] operands = matched.toArray(new RoaringBitmap[0]);
+            return match == TagMatch.ALL ? FastAggregation.and(operands) : FastAggregation.or(operands);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One page of ids from a resolved bitmap, in id order.
+     */
+    public static List<Long> selectPage(RoaringBitmap bitmap, long offset, int limit, boolean descending) {
+        long cardinality = bitmap.getLongCardinality();
+        List<Long> page = new ArrayList<>(limit);
+        for (long i = offset; i < offset + limit && i < cardinality; i++) {
+            long rank = descending ? cardinality - 1 - i : i;
+            page.add(Integer.toUnsignedLong(bitmap.select((int) rank)));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,66 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.entity.TagDefinition;
+import com.digitaltolk.translation_management_service.repository.TagDefinitionRepository;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tag names into small integer ids backed by the {@code tag_dictionary} table.
+ * The vocabulary is small and stable, so the whole dictionary lives in memory.
+ */
+@Component
+public class TagDictionary {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagDictionary.class);
+
+    private final TagDefinitionRepository tagDefinitionRepository;
+    private final TranslationRepository translationRepository;
+
+    private final ConcurrentHashMap<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+    public TagDictionary(TagDefinitionRepository tagDefinitionRepository, TranslationRepository translationRepository) {
+        this.tagDefinitionRepository = tagDefinitionRepository;
+        this.translationRepository = translationRepository;
+    }
+
+    /**
+     * Load the stored dictionary and intern any tag already used by a translation.
+     */
+    public void load() {
+        tagDefinitionRepository.findAll().forEach(tag -> idsByName.put(tag.getName(), tag.getId()));
+        translationRepository.findDistinctTags().forEach(this::intern);
+        logger.info("Loaded tag dictionary with {} tags", idsByName.size());
+    }
+
+    /**
+     * Id of a tag, or null when the tag has never been used.
+     */
+    public Integer idOf(String name) {
+        return idsByName.get(name);
+    }
+
+    public int intern(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            return idsByName.computeIfAbsent(name, k -> tagDefinitionRepository.save(new TagDefinition(k)).getId());
+        }
+    }
+
+    public Set<String> names() {
+        return idsByName.keySet();
+    }
+
+    public Map<String, Integer> snapshot() {
+        return Map.copyOf(idsByName);
+    }
+}
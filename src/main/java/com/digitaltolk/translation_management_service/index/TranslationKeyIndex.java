@@ -0,0 +1,170 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.event.TranslationKeyChangedEvent;
+import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory resolver for the natural key (translation key, locale), answering exact
+ * lookups without going through JPA. Locales are interned so the per-locale maps share
+ * one string instance per locale. Built once the application is ready and kept current
+ * from {@link TranslationChangedEvent}s; every natural key touched by a change is announced
+ * as a {@link TranslationKeyChangedEvent} once the index reflects it.
+ */
+@Component
+public class TranslationKeyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationKeyIndex.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final TranslationRepository translationRepository;
+    private final TranslationMapper translationMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Map<String, TranslationResponseDto>> byLocale = new ConcurrentHashMap<>();
+    private final Map<Long, TranslationKeyDto> keysById = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile boolean ready;
+    // Advanced under writeLock by every change, so a stale database read is not cached over it
+    private volatile long generation;
+
+    public TranslationKeyIndex(TranslationRepository translationRepository, TranslationMapper translationMapper,
+                               ApplicationEventPublisher eventPublisher) {
+        this.translationRepository = translationRepository;
+        this.translationMapper = translationMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            ready = false;
+            generation++;
+            byLocale.clear();
+            keysById.clear();
+
+            for (String locale : translationRepository.findDistinctLocales()) {
+                Long afterId = 0L;
+                List<Long> ids;
+                while (!(ids = translationRepository.findIdsByLocaleAfter(locale, afterId, PageRequest.of(0, LOAD_BATCH_SIZE))).isEmpty()) {
+                    translationRepository.findAllWithTagsByIdIn(ids).forEach(translation -> put(translationMapper.toDto(translation)));
+                    afterId = ids.get(ids.size() - 1);
+                }
+            }
+
+            ready = true;
+            logger.info("Built translation key index for {} translations", keysById.size());
+        }
+    }
+
+    @EventListener
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        List<TranslationKeyChangedEvent> changes = new ArrayList<>(2);
+        synchronized (writeLock) {
+            generation++;
+            TranslationKeyDto previous = remove(event.id());
+            TranslationKeyDto current = event.type() != TranslationChangedEvent.Type.DELETED
+                    ? put(event.translation())
+                    : null;
+            if (Objects.nonNull(previous) && !previous.equals(current)) {
+                changes.add(new TranslationKeyChangedEvent(previous.locale(), previous.key()));
+            }
+            if (Objects.nonNull(current)) {
+                changes.add(new TranslationKeyChangedEvent(current.locale(), current.key()));
+            }
+        }
+        changes.forEach(eventPublisher::publishEvent);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The translation for an exact key and locale, or null when the index has none.
+     */
+    public TranslationResponseDto get(String key, String locale) {
+        Map<String, TranslationResponseDto> translations = byLocale.get(locale);
+        return Objects.nonNull(translations) ? translations.get(key) : null;
+    }
+
+    /**
+     * Current generation of the index. Read it before loading a translation from the
+     * database and pass it to {@link #cache}.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Add a translation read from the database after an index miss, unless the index has
+     * changed since {@code generation} was read: the read may predate an update or delete
+     * of the same row, and caching it would bring the old row back.
+     */
+    public void cache(TranslationResponseDto translation, long generation) {
+        TranslationKeyDto added = null;
+        synchronized (writeLock) {
+            if (this.generation == generation && !keysById.containsKey(translation.getId())) {
+                added = put(translation);
+            }
+        }
+        if (Objects.nonNull(added)) {
+            eventPublisher.publishEvent(new TranslationKeyChangedEvent(added.locale(), added.key()));
+        }
+    }
+
+    /**
+     * Read-only view of every indexed translation in a locale, keyed by translation key.
+     */
+    public Map<String, TranslationResponseDto> entries(String locale) {
+        Map<String, TranslationResponseDto> translations = byLocale.get(locale);
+        return Objects.nonNull(translations) ? Collections.unmodifiableMap(translations) : Map.of();
+    }
+
+    public Set<String> locales() {
+        return Collections.unmodifiableSet(byLocale.keySet());
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    private TranslationKeyDto put(TranslationResponseDto translation) {
+        String locale = translation.getLocale().intern();
+        TranslationKeyDto naturalKey = new TranslationKeyDto(translation.getTranslationKey(), locale);
+        byLocale.computeIfAbsent(locale, k -> new ConcurrentHashMap<>()).put(translation.getTranslationKey(), translation);
+        keysById.put(translation.getId(), naturalKey);
+        return naturalKey;
+    }
+
+    private TranslationKeyDto remove(Long id) {
+        TranslationKeyDto previous = keysById.remove(id);
+        if (Objects.nonNull(previous)) {
+            Map<String, TranslationResponseDto> translations = byLocale.get(previous.locale());
+            if (Objects.nonNull(translations)) {
+                translations.remove(previous.key());
+            }
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,74 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Wraps the application {@link DataSource} with datasource-proxy so every statement reaches
+ * {@link QueryCancellationWatchdog} and {@link SqlStatementTracker}. Both are resolved on the
+ * first statement rather than here, keeping them and the meter registry they need out of early
+ * bean post-processing.
+ */
+@Component
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryCancellationWatchdog> queryCancellationWatchdog;
+    private final ObjectProvider<SqlStatementTracker> sqlStatementTracker;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<QueryCancellationWatchdog> queryCancellationWatchdog,
+                                        ObjectProvider<SqlStatementTracker> sqlStatementTracker) {
+        this.queryCancellationWatchdog = queryCancellationWatchdog;
+        this.sqlStatementTracker = sqlStatementTracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new LazyListener(queryCancellationWatchdog))
+                    .listener(new LazyListener(sqlStatementTracker))
+                    .build();
+        }
+        return bean;
+    }
+
+    private static final class LazyListener implements QueryExecutionListener {
+
+        private final ObjectProvider<? extends QueryExecutionListener> provider;
+        private volatile QueryExecutionListener delegate;
+
+        private LazyListener(ObjectProvider<? extends QueryExecutionListener> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            resolve().beforeQuery(execInfo, queryInfoList);
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            resolve().afterQuery(execInfo, queryInfoList);
+        }
+
+        private QueryExecutionListener resolve() {
+            QueryExecutionListener resolved = delegate;
+            if (Objects.isNull(resolved)) {
+                resolved = provider.getObject();
+                delegate = resolved;
+            }
+            return resolved;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds statements to the {@link QueryDeadline} of the request on the current thread.
+ * <p>
+ * Before each statement runs its JDBC query timeout is lowered to the time the request has
+ * left, and a statement whose request is already past its deadline is refused with
+ * {@link QueryTimeoutException}. JDBC timeouts are whole seconds, so a watchdog thread also
+ * checks every {@code translation.query-timeout.watchdog-interval} and cancels the statements
+ * of expired requests, handing their connections back to the pool. Cancellations are counted
+ * as {@code translation.sql.cancelled}.
+ * <p>
+ * A request whose client has gone away is {@link #abandon abandoned}: its statements in flight
+ * are cancelled at once and any later statement is refused.
+ */
+@Component
+public class QueryCancellationWatchdog implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCancellationWatchdog.class);
+
+    private final ThreadLocal<QueryDeadline> current = new ThreadLocal<>();
+    private final Set<QueryDeadline> active = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final Counter cancelled;
+
+    public QueryCancellationWatchdog(MeterRegistry meterRegistry,
+                                     @Value("${translation.query-timeout.watchdog-interval:50ms}") Duration interval) {
+        this.cancelled = Counter.builder("translation.sql.cancelled")
+                .description("JDBC statements cancelled at their request's deadline")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "query-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::cancelExpired, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Bound the statements of the current thread's request to {@code timeout} from now.
+     */
+    public QueryDeadline begin(Duration timeout) {
+        QueryDeadline deadline = new QueryDeadline(timeout.toNanos());
+        current.set(deadline);
+        active.add(deadline);
+        return deadline;
+    }
+
+    /**
+     * Bound each statement of the current thread's request separately, for requests that run
+     * many statements by design. See {@link QueryDeadline}.
+     */
+    public void deadlinePerStatement() {
+        QueryDeadline deadline = current.get();
+        if (Objects.nonNull(deadline)) {
+            deadline.perStatement();
+        }
+    }
+
+    /**
+     * Cancel the current thread's request's statements because its client disconnected.
+     */
+    public void abandon() {
+        QueryDeadline deadline = current.get();
+        if (Objects.isNull(deadline) || deadline.isAbandoned()) {
+            return;
+        }
+        deadline.abandon();
+        int count = deadline.cancelInFlight();
+        cancelled.increment(count);
+        logger.debug("Client disconnected, cancelled {} statements", count);
+    }
+
+    public void end() {
+        QueryDeadline deadline = current.get();
+        if (Objects.nonNull(deadline)) {
+            active.remove(deadline);
+            current.remove();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryDeadline deadline = current.get();
+        if (Objects.isNull(deadline)) {
+            return;
+        }
+        if (deadline.isAbandoned()) {
+            throw new QueryTimeoutException("Client disconnected before the query ran");
+        }
+        deadline.renew();
+        long remainingMillis = deadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new QueryTimeoutException("Request deadline passed before the query ran");
+        }
+
+        Statement statement = execInfo.getStatement();
+        try {
+            int seconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999));
+            int configured = statement.getQueryTimeout();
+            if (configured == 0 || seconds < configured) {
+                statement.setQueryTimeout(seconds);
+            }
+        } catch (SQLException e) {
+            logger.debug("Failed to set query timeout: {}", e.getMessage());
+        }
+        deadline.register(statement);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryDeadline deadline = current.get();
+        if (Objects.nonNull(deadline)) {
+            deadline.unregister(execInfo.getStatement());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void cancelExpired() {
+        try {
+            for (QueryDeadline deadline : active) {
+                if (deadline.isExpired()) {
+                    int count = deadline.cancelInFlight();
+                    if (count > 0) {
+                        cancelled.increment(count);
+                        logger.warn("Cancelled {} statements past their request deadline", count);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep the watchdog scheduled whatever a driver throws
+            logger.error("Query watchdog failed", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time limit for the database work of one request, and the JDBC statements it has in flight
+ * so they can be cancelled from another thread.
+ * <p>
+ * The limit normally covers the request as a whole. A request that runs many statements by
+ * design, a streamed page or a batched bulk operation, bounds each statement instead, since
+ * running out of time between statements would leave its response or its changes half done.
+ */
+public class QueryDeadline {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryDeadline.class);
+
+    private final long timeoutNanos;
+    private final Set<Statement> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile long deadlineNanos;
+    private volatile boolean perStatement;
+    private volatile boolean abandoned;
+
+    QueryDeadline(long timeoutNanos) {
+        this.timeoutNanos = timeoutNanos;
+        this.deadlineNanos = System.nanoTime() + timeoutNanos;
+    }
+
+    /**
+     * Bound each statement by the timeout from the moment it starts, rather than the request.
+     */
+    void perStatement() {
+        perStatement = true;
+    }
+
+    /**
+     * Restart the timeout for a statement about to run, when the deadline is per statement.
+     */
+    void renew() {
+        if (perStatement && !abandoned) {
+            deadlineNanos = System.nanoTime() + timeoutNanos;
+        }
+    }
+
+    /**
+     * Expire the deadline now, because nobody is waiting for the response any more.
+     */
+    void abandon() {
+        abandoned = true;
+        deadlineNanos = System.nanoTime();
+    }
+
+    public boolean isAbandoned() {
+        return abandoned;
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    void register(Statement statement) {
+        inFlight.add(statement);
+    }
+
+    void unregister(Statement statement) {
+        inFlight.remove(statement);
+    }
+
+    /**
+     * Cancel every statement in flight.
+     *
+     * @return the number of statements cancelled
+     */
+    int cancelInFlight() {
+        int cancelled = 0;
+        for (Statement statement : inFlight) {
+            try {
+                statement.cancel();
+                cancelled++;
+            } catch (SQLException e) {
+                logger.debug("Failed to cancel statement: {}", e.getMessage());
+            }
+            inFlight.remove(statement);
+        }
+        return cancelled;
+    }
+}
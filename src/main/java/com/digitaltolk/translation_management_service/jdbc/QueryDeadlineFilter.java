@@ -0,0 +1,122 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import com.digitaltolk.translation_management_service.export.PageSizeLimits;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Gives each request a {@link QueryDeadline} for its database work.
+ * <p>
+ * The timeout is {@code translation.query-timeout.endpoints} for the search endpoint
+ * ({@code by-content=3s}) or {@code translation.query-timeout.default}. A client can shorten it
+ * with the {@code X-Request-Timeout} header, in milliseconds, to say how long it will wait;
+ * statements still running after that are cancelled rather than holding a connection for a
+ * response nobody reads.
+ * <p>
+ * Bulk operations commit batch by batch, so their timeout bounds each statement rather than
+ * the whole operation; a deadline in between batches would leave the operation half applied.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryDeadlineFilter.class);
+    private static final String TRANSLATIONS_PATH = "/api/v1/translations";
+    private static final String SEARCH_PATH = "/search/";
+    private static final String BULK_PATH = "/bulk/";
+
+    private final QueryCancellationWatchdog watchdog;
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> endpointTimeouts;
+    private final String deadlineHeader;
+
+    public QueryDeadlineFilter(QueryCancellationWatchdog watchdog,
+                               @Value("${translation.query-timeout.default:10s}") Duration defaultTimeout,
+                               @Value("${translation.query-timeout.endpoints:}") String endpointTimeouts,
+                               @Value("${translation.query-timeout.deadline-header:X-Request-Timeout}") String deadlineHeader) {
+        this.watchdog = watchdog;
+        this.defaultTimeout = defaultTimeout;
+        this.endpointTimeouts = parseTimeouts(endpointTimeouts);
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        watchdog.begin(resolveTimeout(request));
+        if (isBulkOperation(request)) {
+            watchdog.deadlinePerStatement();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            watchdog.end();
+        }
+    }
+
+    Duration resolveTimeout(HttpServletRequest request) {
+        Duration timeout = endpointTimeouts.getOrDefault(endpoint(request), defaultTimeout);
+        long clientMillis = NumberUtils.toLong(request.getHeader(deadlineHeader), 0L);
+        if (clientMillis > 0 && clientMillis < timeout.toMillis()) {
+            return Duration.ofMillis(clientMillis);
+        }
+        return timeout;
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        String relative = relativePath(request);
+        if (Objects.isNull(relative) || !HttpMethod.GET.matches(request.getMethod())) {
+            return null;
+        }
+        if (relative.isEmpty() || "/".equals(relative)) {
+            return PageSizeLimits.SEARCH;
+        }
+        return relative.startsWith(SEARCH_PATH) ? relative.substring(SEARCH_PATH.length()) : null;
+    }
+
+    private boolean isBulkOperation(HttpServletRequest request) {
+        String relative = relativePath(request);
+        return Objects.nonNull(relative) && relative.startsWith(BULK_PATH);
+    }
+
+    private String relativePath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(TRANSLATIONS_PATH) ? path.substring(TRANSLATIONS_PATH.length()) : null;
+    }
+
+    private Map<String, Duration> parseTimeouts(String endpointTimeouts) {
+        Map<String, Duration> parsed = new HashMap<>();
+        if (StringUtils.isBlank(endpointTimeouts)) {
+            return parsed;
+        }
+        for (String entry : endpointTimeouts.split(",")) {
+            String[] endpointAndTimeout = entry.split("=");
+            if (endpointAndTimeout.length != 2) {
+                throw new IllegalArgumentException("Invalid query timeout '" + entry.trim() + "', expected endpoint=duration");
+            }
+            parsed.put(endpointAndTimeout[0].trim(), DurationStyle.detectAndParse(endpointAndTimeout[1].trim()));
+        }
+        logger.info("Query timeouts: {} (default {})", parsed, defaultTimeout);
+        return parsed;
+    }
+}
@@ -0,0 +1,93 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Counts the SQL statements each request issues, including those of authentication.
+ * <p>
+ * Requests over {@code translation.sql.statement-budget} statements are logged with their
+ * route and counted as {@code translation.sql.budget.exceeded}; this is where N+1 lazy
+ * loading shows up. Statements and database time per request are recorded per route, and
+ * the totals are left on the request under {@link #STATS_ATTRIBUTE}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATS_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".stats";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final SqlStatementTracker sqlStatementTracker;
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatementBudgetFilter(SqlStatementTracker sqlStatementTracker, MeterRegistry meterRegistry,
+                                    @Value("${translation.sql.statement-budget:10}") int statementBudget) {
+        this.sqlStatementTracker = sqlStatementTracker;
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementStats stats = sqlStatementTracker.begin();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlStatementTracker.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        // Route templates rather than raw paths keep the uri tag low-cardinality
+        String route = Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), UNKNOWN_ROUTE);
+
+        DistributionSummary.builder("translation.sql.request.statements")
+                .description("SQL statements issued per request")
+                .baseUnit("statements")
+                .tag("uri", route)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("translation.sql.request.time")
+                .description("Database time spent per request")
+                .tag("uri", route)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(stats.getElapsedMillis()));
+
+        if (stats.getStatements() > statementBudget) {
+            Counter.builder("translation.sql.budget.exceeded")
+                    .description("Requests that issued more SQL statements than the budget")
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} {} issued {} SQL statements ({} slow) in {} ms, over the budget of {}",
+                    request.getMethod(), route, stats.getStatements(), stats.getSlowStatements(),
+                    stats.getElapsedMillis(), statementBudget);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+/**
+ * SQL statements issued while one request was tracked, and the database time they took.
+ * Only ever touched by the request's own thread.
+ */
+public class SqlStatementStats {
+
+    private int statements;
+    private int slowStatements;
+    private long elapsedMillis;
+
+    void record(long elapsedMillis, boolean slow) {
+        statements++;
+        this.elapsedMillis += elapsedMillis;
+        if (slow) {
+            slowStatements++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSlowStatements() {
+        return slowStatements;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,143 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sees every JDBC statement run through the proxied {@code DataSource}.
+ * <p>
+ * Each statement is timed as {@code translation.sql.statements}, tagged by statement type and
+ * outcome, and added to the {@link SqlStatementStats} of the request tracked on the current
+ * thread, if any. Statements at or over {@code translation.sql.slow-query-threshold-ms} are
+ * counted and logged with their bound parameters; all others are logged at TRACE.
+ */
+@Component
+public class SqlStatementTracker implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementTracker.class);
+    private static final int MAX_LOGGED_PARAMETER_LENGTH = 100;
+    private static final int MAX_LOGGED_BATCH_ENTRIES = 5;
+
+    private final ThreadLocal<SqlStatementStats> current = new ThreadLocal<>();
+    private final Map<String, Timer> statementTimers = new HashMap<>();
+    private final Counter slowQueries;
+    private final long slowQueryThresholdMillis;
+
+    public SqlStatementTracker(MeterRegistry meterRegistry,
+                               @Value("${translation.sql.slow-query-threshold-ms:100}") long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+        for (QueryType type : QueryType.values()) {
+            for (boolean success : new boolean[]{true, false}) {
+                statementTimers.put(timerKey(type, success), Timer.builder("translation.sql.statements")
+                        .description("JDBC statement executions")
+                        .tag("type", type.name().toLowerCase())
+                        .tag("outcome", success ? "success" : "failure")
+                        .register(meterRegistry));
+            }
+        }
+        this.slowQueries = Counter.builder("translation.sql.slow.queries")
+                .description("JDBC statements at or over the slow-query threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start counting the statements of the current thread's request.
+     */
+    public SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        current.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        current.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        statementTimers.get(timerKey(type, execInfo.isSuccess())).record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        boolean slow = elapsedMillis >= slowQueryThresholdMillis;
+        SqlStatementStats stats = current.get();
+        if (Objects.nonNull(stats)) {
+            stats.record(elapsedMillis, slow);
+        }
+
+        if (slow) {
+            slowQueries.increment();
+            logger.warn("Slow SQL statement took {} ms: {}", elapsedMillis, describe(queryInfoList));
+        } else if (logger.isTraceEnabled()) {
+            logger.trace("SQL statement took {} ms: {}", elapsedMillis, describe(queryInfoList));
+        }
+    }
+
+    private String describe(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream().map(this::describe).collect(Collectors.joining("; "));
+    }
+
+    private String describe(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return queryInfo.getQuery();
+        }
+        String parameters = parametersList.stream()
+                .limit(MAX_LOGGED_BATCH_ENTRIES)
+                .map(this::describeParameters)
+                .collect(Collectors.joining(", "));
+        if (parametersList.size() > MAX_LOGGED_BATCH_ENTRIES) {
+            parameters += " and " + (parametersList.size() - MAX_LOGGED_BATCH_ENTRIES) + " more";
+        }
+        return queryInfo.getQuery() + " with " + parameters;
+    }
+
+    private String describeParameters(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .sorted(Comparator.comparingInt(SqlStatementTracker::parameterIndex))
+                .map(SqlStatementTracker::parameterValue)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static int parameterIndex(ParameterSetOperation operation) {
+        return operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE;
+    }
+
+    private static String parameterValue(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2) {
+            return "null";
+        }
+        String value = String.valueOf(args[1]);
+        return value.length() > MAX_LOGGED_PARAMETER_LENGTH
+                ? value.substring(0, MAX_LOGGED_PARAMETER_LENGTH) + "..."
+                : value;
+    }
+
+    private static String timerKey(QueryType type, boolean success) {
+        return type.name() + ":" + success;
+    }
+}
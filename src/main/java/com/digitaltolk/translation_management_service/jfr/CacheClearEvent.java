@@ -0,0 +1,32 @@
+package com.digitaltolk.translation_management_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A translation cache emptied as a whole.
+ */
+@Name("com.digitaltolk.translation.CacheClear")
+@Label("Cache Clear")
+@Category({"Translation Service", "Cache"})
+@Description("All entries of a translation cache removed")
+public class CacheClearEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Keys Evicted")
+    long keysEvicted;
+
+    public static void emit(String cache, long keysEvicted) {
+        CacheClearEvent event = new CacheClearEvent();
+        if (event.isEnabled()) {
+            event.cache = cache;
+            event.keysEvicted = keysEvicted;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.digitaltolk.translation_management_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Targeted eviction from a translation cache, e.g. one translation or one locale's pages.
+ */
+@Name("com.digitaltolk.translation.CacheInvalidation")
+@Label("Cache Invalidation")
+@Category({"Translation Service", "Cache"})
+@Description("Entries evicted from a translation cache for one translation or locale")
+public class CacheInvalidationEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Scope")
+    @Description("What was invalidated, e.g. a translation id or a locale")
+    String scope;
+
+    @Label("Keys Evicted")
+    long keysEvicted;
+
+    public static void emit(String cache, String scope, long keysEvicted) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent();
+        if (event.isEnabled()) {
+            event.cache = cache;
+            event.scope = scope;
+            event.keysEvicted = keysEvicted;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.digitaltolk.translation_management_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A lookup against one of the translation caches. Multi-gets report all their keys in one event.
+ */
+@Name("com.digitaltolk.translation.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Translation Service", "Cache"})
+@Description("Lookup against a translation cache")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Hits")
+    int hits;
+
+    @Label("Misses")
+    int misses;
+
+    public static void emit(String cache, int hits, int misses) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.isEnabled()) {
+            event.cache = cache;
+            event.hits = hits;
+            event.misses = misses;
+            event.commit();
+        }
+    }
+}
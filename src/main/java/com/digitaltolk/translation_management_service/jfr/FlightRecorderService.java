@@ -0,0 +1,166 @@
+package com.digitaltolk.translation_management_service.jfr;
+
+import com.digitaltolk.translation_management_service.exception.RecordingStateException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Starts, dumps and stops one in-process Flight Recorder recording at a time.
+ * <p>
+ * Recordings use the JDK {@code default} profile plus the service's own events: cache lookups
+ * (optional, as they fire on every read), invalidations and clears, and repository queries over
+ * {@code translation.jfr.repository-query-threshold}. The recording keeps at most
+ * {@code max-age} / {@code max-size} of data, so it can run continuously, and is started with
+ * the application when {@code translation.jfr.continuous=true}.
+ */
+@Component
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+    private static final String RECORDING_NAME = "translation-service";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final boolean continuous;
+    private final Map<String, String> settings;
+
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${translation.jfr.directory:${java.io.tmpdir}/tms-jfr}") String directory,
+                                 @Value("${translation.jfr.max-age:1h}") Duration maxAge,
+                                 @Value("${translation.jfr.max-size:100MB}") DataSize maxSize,
+                                 @Value("${translation.jfr.continuous:false}") boolean continuous,
+                                 @Value("${translation.jfr.cache-lookups.enabled:true}") boolean cacheLookups,
+                                 @Value("${translation.jfr.repository-query-threshold:1 ms}") String repositoryQueryThreshold)
+            throws IOException, ParseException {
+        this.directory = Path.of(directory);
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.continuous = continuous;
+
+        settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        settings.put("com.digitaltolk.translation.CacheLookup#enabled", String.valueOf(cacheLookups));
+        settings.put("com.digitaltolk.translation.CacheInvalidation#enabled", "true");
+        settings.put("com.digitaltolk.translation.CacheInvalidation#stackTrace", "true");
+        settings.put("com.digitaltolk.translation.CacheClear#enabled", "true");
+        settings.put("com.digitaltolk.translation.CacheClear#stackTrace", "true");
+        settings.put("com.digitaltolk.translation.RepositoryQuery#enabled", "true");
+        settings.put("com.digitaltolk.translation.RepositoryQuery#threshold", repositoryQueryThreshold);
+
+        FlightRecorder.register(CacheLookupEvent.class);
+        FlightRecorder.register(CacheInvalidationEvent.class);
+        FlightRecorder.register(CacheClearEvent.class);
+        FlightRecorder.register(RepositoryQueryEvent.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (continuous) {
+            start();
+        }
+    }
+
+    public synchronized Status start() {
+        if (isRunning()) {
+            throw new RecordingStateException("A recording is already running");
+        }
+        close();
+        recording = new Recording(settings);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+        logger.info("Started flight recording, keeping up to {} / {}", maxAge, maxSize);
+        return status();
+    }
+
+    /**
+     * Write the data recorded so far to a new file, leaving the recording running.
+     */
+    public synchronized Path dump() {
+        if (!isRunning()) {
+            throw new RecordingStateException("No recording is running");
+        }
+        return dumpTo(newFile());
+    }
+
+    /**
+     * Stop the recording and write everything it still holds to a new file.
+     */
+    public synchronized Path stop() {
+        if (!isRunning()) {
+            throw new RecordingStateException("No recording is running");
+        }
+        Path file = newFile();
+        try {
+            recording.stop();
+            dumpTo(file);
+        } finally {
+            recording.close();
+            recording = null;
+        }
+        logger.info("Stopped flight recording, written to {}", file);
+        return file;
+    }
+
+    public synchronized Status status() {
+        if (Objects.isNull(recording)) {
+            return new Status(false, null, null, 0L);
+        }
+        return new Status(isRunning(), recording.getName(), recording.getStartTime(), recording.getSize());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (Objects.nonNull(recording)) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private boolean isRunning() {
+        return Objects.nonNull(recording) && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private Path newFile() {
+        return directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+    }
+
+    private Path dumpTo(Path file) {
+        try {
+            Files.createDirectories(directory);
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write flight recording to " + file, e);
+        }
+    }
+
+    public record Status(boolean running, String name, Instant startTime, long sizeBytes) { }
+}
@@ -0,0 +1,34 @@
+package com.digitaltolk.translation_management_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A {@code TranslationRepository} call, timed from the repository proxy. Rows is -1 when the
+ * method does not return rows, e.g. counts and bulk updates.
+ */
+@Name("com.digitaltolk.translation.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Translation Service", "Database"})
+@Description("TranslationRepository method call")
+@StackTrace(false)
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Query")
+    String query;
+
+    @Label("Rows")
+    int rows = -1;
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,61 @@
+package com.digitaltolk.translation_management_service.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks requests whose DEBUG logging is kept while the service logs at INFO: on average one
+ * in {@code translation.logging.debug-sampling.rate} requests, plus any request sending
+ * {@code translation.logging.debug-sampling.header: true}. Picked requests are marked in the
+ * MDC for {@link SampledDebugTurboFilter}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "translation.logging.debug-sampling.enabled", havingValue = "true")
+public class DebugLogSamplingFilter extends OncePerRequestFilter {
+
+    private final int rate;
+    private final String header;
+
+    public DebugLogSamplingFilter(@Value("${translation.logging.debug-sampling.rate:1000}") int rate,
+                                  @Value("${translation.logging.debug-sampling.header:X-Debug-Log}") String header) {
+        this.rate = rate;
+        this.header = header;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!isSampled(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(SampledDebugTurboFilter.MDC_KEY, "true");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(SampledDebugTurboFilter.MDC_KEY);
+        }
+    }
+
+    private boolean isSampled(HttpServletRequest request) {
+        if (Boolean.parseBoolean(request.getHeader(header))) {
+            return true;
+        }
+        // A random pick avoids a shared counter on every request
+        return rate > 0 && ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+}
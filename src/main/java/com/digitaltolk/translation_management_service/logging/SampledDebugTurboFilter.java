@@ -0,0 +1,37 @@
+package com.digitaltolk.translation_management_service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Objects;
+
+/**
+ * Lets DEBUG and TRACE events of the service's own loggers through, whatever their level,
+ * on threads whose MDC carries {@link #MDC_KEY}, i.e. requests picked by
+ * {@link DebugLogSamplingFilter}. Installed from {@code logback-spring.xml}.
+ * <p>
+ * Turbo filters run before the level check of every logging call, so INFO and above
+ * return straight away.
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "debug_sampled";
+
+    private String loggerPrefix = "com.digitaltolk.translation_management_service";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level.toInt() > Level.DEBUG_INT || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return Objects.nonNull(MDC.get(MDC_KEY)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
@@ -1,10 +1,16 @@
 package com.digitaltolk.translation_management_service.mapper;
 
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
 import com.digitaltolk.translation_management_service.entity.Translation;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
 @Component
 public class TranslationMapper {
 
@@ -18,7 +24,7 @@ public class TranslationMapper {
     }
 
     public TranslationResponseDto toDto(Translation entity) {
-        return new TranslationResponseDto(
+        TranslationResponseDto dto = new TranslationResponseDto(
                 entity.getId(),
                 entity.getTranslationKey(),
                 entity.getLocale(),
@@ -27,12 +33,58 @@ public class TranslationMapper {
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
+        dto.setVersion(entity.getVersion());
+        return dto;
     }
 
+    /**
+     * Copy request fields onto a managed entity. Tags are changed in place so Hibernate
+     * only deletes and inserts the tags that actually changed.
+     */
     public void updateEntity(TranslationRequestDto dto, Translation entity) {
         entity.setTranslationKey(dto.getTranslationKey());
         entity.setLocale(dto.getLocale());
         entity.setContent(dto.getContent());
-        entity.setTags(dto.getTags());
+        if (Objects.isNull(entity.getTags()) || Objects.isNull(dto.getTags()) || !Hibernate.isInitialized(entity.getTags())) {
+            entity.setTags(dto.getTags());
+        } else {
+            entity.getTags().retainAll(dto.getTags());
+            entity.getTags().addAll(dto.getTags());
+        }
+    }
+
+    /**
+     * Apply the members present in a merge patch, touching only values that differ.
+     * Tags are changed as add/remove deltas on the loaded tag set.
+     *
+     * @return whether anything on the entity changed
+     */
+    public boolean applyPatch(TranslationPatchDto patch, Translation entity) {
+        boolean changed = false;
+        if (patch.isPresent(TranslationPatchDto.Field.KEY) && !Objects.equals(patch.getTranslationKey(), entity.getTranslationKey())) {
+            entity.setTranslationKey(patch.getTranslationKey());
+            changed = true;
+        }
+        if (patch.isPresent(TranslationPatchDto.Field.LOCALE) && !Objects.equals(patch.getLocale(), entity.getLocale())) {
+            entity.setLocale(patch.getLocale());
+            changed = true;
+        }
+        if (patch.isPresent(TranslationPatchDto.Field.CONTENT) && !Objects.equals(patch.getContent(), entity.getContent())) {
+            entity.setContent(patch.getContent());
+            changed = true;
+        }
+        if (patch.isPresent(TranslationPatchDto.Field.TAGS)) {
+            Set<String> target = Objects.nonNull(patch.getTags()) ? patch.getTags() : Set.of();
+            if (Objects.isNull(entity.getTags())) {
+                if (!target.isEmpty()) {
+                    entity.setTags(new HashSet<>(target));
+                    changed = true;
+                }
+            } else {
+                changed |= entity.getTags().retainAll(target);
+                changed |= entity.getTags().addAll(target);
+            }
+        }
+        return changed;
     }
 }
@@ -0,0 +1,85 @@
+package com.digitaltolk.translation_management_service.observation;
+
+import com.digitaltolk.translation_management_service.jfr.RepositoryQueryEvent;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Runs every {@code TranslationRepository} call as a {@code translation.repository} observation,
+ * i.e. a span under the calling request named after the repository method. Spans carry the
+ * requested page size and the number of rows returned; both are high-cardinality and so stay
+ * off the derived metrics. Each call is also recorded as a {@link RepositoryQueryEvent} for
+ * Flight Recorder.
+ */
+@Aspect
+@Component
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * *(..)) && this(com.digitaltolk.translation_management_service.repository.TranslationRepository)")
+    public Object observeTranslationRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted("translation.repository", observationRegistry)
+                .contextualName("TranslationRepository." + method)
+                .lowCardinalityKeyValue("method", method);
+        for (Object arg : joinPoint.getArgs()) {
+            if (arg instanceof Pageable pageable && pageable.isPaged()) {
+                observation.highCardinalityKeyValue("page.size", String.valueOf(pageable.getPageSize()));
+            }
+        }
+
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        Integer rows = null;
+        observation.start();
+        event.begin();
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = joinPoint.proceed();
+            rows = rowCount(result);
+            if (Objects.nonNull(rows)) {
+                observation.highCardinalityKeyValue("db.rows", String.valueOf(rows));
+            }
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setQuery(method);
+                if (Objects.nonNull(rows)) {
+                    event.setRows(rows);
+                }
+                event.commit();
+            }
+            observation.stop();
+        }
+    }
+
+    private Integer rowCount(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.digitaltolk.translation_management_service.readmodel;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.index.TranslationKeyIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Always-hot read model of all translations. Readers take the current
+ * {@link TranslationSnapshot} without locking; the single writer derives the next version
+ * copy-on-write and publishes it through an {@link AtomicReference}.
+ * <p>
+ * Enabled with {@code translation.read-model.enabled=true}. Loaded from the
+ * {@link TranslationKeyIndex} once that is built and then fed by the same
+ * {@link TranslationChangedEvent}s, so both hold the same DTO instances: the read model adds
+ * only its persistent index nodes, not another copy of every translation. It exists next to
+ * the key index because it serves every read path from one consistent version, which the
+ * key index's independently updated maps cannot.
+ */
+@Component
+public class TranslationReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationReadModel.class);
+
+    private final TranslationKeyIndex translationKeyIndex;
+    private final boolean enabled;
+
+    private final AtomicReference<TranslationSnapshot> snapshot = new AtomicReference<>(TranslationSnapshot.empty());
+    private final Object writeLock = new Object();
+    private volatile boolean serving;
+
+    public TranslationReadModel(TranslationKeyIndex translationKeyIndex,
+                                @Value("${translation.read-model.enabled:false}") boolean enabled) {
+        this.translationKeyIndex = translationKeyIndex;
+        this.enabled = enabled;
+    }
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            TranslationSnapshot loaded = TranslationSnapshot.empty();
+            for (String locale : translationKeyIndex.locales()) {
+                for (TranslationResponseDto translation : translationKeyIndex.entries(locale).values()) {
+                    loaded = loaded.with(translation);
+                }
+            }
+            snapshot.set(loaded);
+            serving = true;
+            logger.info("Loaded translation read model with {} translations", loaded.byId().size());
+        }
+    }
+
+    @EventListener
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            TranslationSnapshot current = snapshot.get();
+            snapshot.set(event.type() == TranslationChangedEvent.Type.DELETED
+                    ? current.without(event.id())
+                    : current.with(event.translation()));
+        }
+    }
+
+    /**
+     * True once the snapshot is loaded and authoritative for reads.
+     */
+    public boolean isServing() {
+        return serving;
+    }
+
+    public TranslationSnapshot current() {
+        return snapshot.get();
+    }
+}
@@ -0,0 +1,129 @@
+package com.digitaltolk.translation_management_service.readmodel;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import org.pcollections.HashPMap;
+import org.pcollections.HashTreePMap;
+import org.pcollections.TreePMap;
+import org.pcollections.TreePSet;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Immutable version of every translation, indexed by id, by (locale, key), by locale in id
+ * and in {@code updatedAt} order, and by tag. Built from persistent maps, so each change
+ * shares all untouched structure with the previous version.
+ */
+public record TranslationSnapshot(long version,
+                                  TreePMap<Long, TranslationResponseDto> byId,
+                                  HashPMap<String, HashPMap<String, TranslationResponseDto>> byLocaleAndKey,
+                                  HashPMap<String, TreePMap<Long, TranslationResponseDto>> byLocale,
+                                  HashPMap<String, TreePMap<UpdatedAtKey, TranslationResponseDto>> byLocaleUpdatedAt,
+                                  HashPMap<String, TreePSet<Long>> byTag) {
+
+    public static TranslationSnapshot empty() {
+        return new TranslationSnapshot(0L, TreePMap.empty(), HashTreePMap.empty(), HashTreePMap.empty(),
+                HashTreePMap.empty(), HashTreePMap.empty());
+    }
+
+    public TranslationResponseDto get(Long id) {
+        return byId.get(id);
+    }
+
+    public TranslationResponseDto get(String key, String locale) {
+        HashPMap<String, TranslationResponseDto> translations = byLocaleAndKey.get(locale);
+        return Objects.nonNull(translations) ? translations.get(key) : null;
+    }
+
+    public TreePMap<Long, TranslationResponseDto> inLocale(String locale) {
+        return byLocale.getOrDefault(locale, TreePMap.empty());
+    }
+
+    /**
+     * Translations of a locale ordered by {@code updatedAt}, ties broken by id, the default
+     * sort of the by-locale endpoint.
+     */
+    public TreePMap<UpdatedAtKey, TranslationResponseDto> inLocaleByUpdatedAt(String locale) {
+        return byLocaleUpdatedAt.getOrDefault(locale, TreePMap.empty());
+    }
+
+    public TreePSet<Long> withTag(String tag) {
+        return byTag.getOrDefault(tag, TreePSet.empty());
+    }
+
+    /**
+     * Next version with the translation added, or replaced if its id is already present.
+     */
+    public TranslationSnapshot with(TranslationResponseDto translation) {
+        TranslationSnapshot base = remove(translation.getId());
+        Long id = translation.getId();
+        String locale = translation.getLocale();
+
+        HashPMap<String, HashPMap<String, TranslationResponseDto>> keys = base.byLocaleAndKey.plus(locale,
+                base.byLocaleAndKey.getOrDefault(locale, HashTreePMap.empty()).plus(translation.getTranslationKey(), translation));
+        HashPMap<String, TreePMap<Long, TranslationResponseDto>> locales = base.byLocale.plus(locale,
+                base.byLocale.getOrDefault(locale, TreePMap.empty()).plus(id, translation));
+        HashPMap<String, TreePMap<UpdatedAtKey, TranslationResponseDto>> localesUpdatedAt = base.byLocaleUpdatedAt.plus(locale,
+                base.byLocaleUpdatedAt.getOrDefault(locale, TreePMap.empty()).plus(UpdatedAtKey.of(translation), translation));
+        HashPMap<String, TreePSet<Long>> tags = base.byTag;
+        if (Objects.nonNull(translation.getTags())) {
+            for (String tag : translation.getTags()) {
+                tags = tags.plus(tag, tags.getOrDefault(tag, TreePSet.empty()).plus(id));
+            }
+        }
+        return new TranslationSnapshot(version + 1, base.byId.plus(id, translation), keys, locales, localesUpdatedAt, tags);
+    }
+
+    /**
+     * Next version with the translation removed.
+     */
+    public TranslationSnapshot without(Long id) {
+        TranslationSnapshot base = remove(id);
+        return new TranslationSnapshot(version + 1, base.byId, base.byLocaleAndKey, base.byLocale, base.byLocaleUpdatedAt, base.byTag);
+    }
+
+    private TranslationSnapshot remove(Long id) {
+        TranslationResponseDto previous = byId.get(id);
+        if (Objects.isNull(previous)) {
+            return this;
+        }
+        String locale = previous.getLocale();
+
+        HashPMap<String, TranslationResponseDto> localeKeys = byLocaleAndKey.get(locale).minus(previous.getTranslationKey());
+        TreePMap<Long, TranslationResponseDto> localeIds = byLocale.get(locale).minus(id);
+        TreePMap<UpdatedAtKey, TranslationResponseDto> localeUpdates = byLocaleUpdatedAt.get(locale).minus(UpdatedAtKey.of(previous));
+        HashPMap<String, TreePSet<Long>> tags = byTag;
+        if (Objects.nonNull(previous.getTags())) {
+            for (String tag : previous.getTags()) {
+                TreePSet<Long> ids = tags.get(tag).minus(id);
+                tags = ids.isEmpty() ? tags.minus(tag) : tags.plus(tag, ids);
+            }
+        }
+        return new TranslationSnapshot(version, byId.minus(id),
+                localeKeys.isEmpty() ? byLocaleAndKey.minus(locale) : byLocaleAndKey.plus(locale, localeKeys),
+                localeIds.isEmpty() ? byLocale.minus(locale) : byLocale.plus(locale, localeIds),
+                localeUpdates.isEmpty() ? byLocaleUpdatedAt.minus(locale) : byLocaleUpdatedAt.plus(locale, localeUpdates),
+                tags);
+    }
+
+    /**
+     * Position of a translation in {@code updatedAt} order. Translations without a timestamp
+     * sort first, as they do in the database.
+     */
+    public record UpdatedAtKey(LocalDateTime updatedAt, Long id) implements Comparable<UpdatedAtKey> {
+
+        private static final Comparator<UpdatedAtKey> ORDER = Comparator
+                .comparing(UpdatedAtKey::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(UpdatedAtKey::id);
+
+        static UpdatedAtKey of(TranslationResponseDto translation) {
+            return new UpdatedAtKey(translation.getUpdatedAt(), translation.getId());
+        }
+
+        @Override
+        public int compareTo(UpdatedAtKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
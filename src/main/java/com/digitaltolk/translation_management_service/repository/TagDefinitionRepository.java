@@ -0,0 +1,9 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.entity.TagDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TagDefinitionRepository extends JpaRepository<TagDefinition, Integer> {
+}
@@ -0,0 +1,27 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface TranslationBulkRepository {
+
+    /**
+     * Delete a batch of translations and their tag rows with two set-based statements: the
+     * bulk delete of the rows, which Hibernate precedes with one for their tag collection.
+     *
+     * @return number of translations deleted
+     */
+    @Transactional
+    int deleteBatch(Collection<Long> ids);
+
+    /**
+     * Add and remove tags on a batch of translations with set-based statements, then bump
+     * their version and update time.
+     *
+     * @return number of translations touched
+     */
+    @Transactional
+    int retagBatch(Collection<Long> ids, Set<String> addTags, Set<String> removeTags);
+}
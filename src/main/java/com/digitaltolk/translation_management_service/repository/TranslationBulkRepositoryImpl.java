@@ -0,0 +1,51 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+public class TranslationBulkRepositoryImpl implements TranslationBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int deleteBatch(Collection<Long> ids) {
+        // Hibernate deletes the rows' tag collection before the rows themselves
+        return entityManager.createQuery("DELETE FROM Translation t WHERE t.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int retagBatch(Collection<Long> ids, Set<String> addTags, Set<String> removeTags) {
+        if (!CollectionUtils.isEmpty(removeTags)) {
+            entityManager.createNativeQuery("DELETE FROM translation_tags WHERE translation_id IN (:ids) AND tag IN (:tags)")
+                    .setParameter("ids", ids)
+                    .setParameter("tags", removeTags)
+                    .executeUpdate();
+        }
+        if (!CollectionUtils.isEmpty(addTags)) {
+            for (String tag : addTags) {
+                entityManager.createNativeQuery("INSERT INTO translation_tags (translation_id, tag) " +
+                                "SELECT t.id, :tag FROM translations t WHERE t.id IN (:ids) AND NOT EXISTS " +
+                                "(SELECT 1 FROM translation_tags tt WHERE tt.translation_id = t.id AND tt.tag = :tag)")
+                        .setParameter("tag", tag)
+                        .setParameter("ids", ids)
+                        .executeUpdate();
+            }
+        }
+        return entityManager.createQuery("UPDATE Translation t SET t.version = t.version + 1, t.updatedAt = :updatedAt " +
+                        "WHERE t.id IN :ids")
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
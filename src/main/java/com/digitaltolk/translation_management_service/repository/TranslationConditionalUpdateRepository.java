@@ -0,0 +1,19 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+public interface TranslationConditionalUpdateRepository {
+
+    /**
+     * Update a translation only if its version still matches, without loading the entity.
+     * The row is changed by one {@code UPDATE ... WHERE id = ? AND version = ?}; tags are
+     * then changed by diff against the stored tag rows.
+     *
+     * @return false when no row has that id and version
+     */
+    @Transactional
+    boolean updateIfVersionMatches(Long id, long expectedVersion, String translationKey,
+                                   String locale, String content, Set<String> tags);
+}
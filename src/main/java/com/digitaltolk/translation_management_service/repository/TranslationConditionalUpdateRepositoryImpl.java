@@ -0,0 +1,62 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class TranslationConditionalUpdateRepositoryImpl implements TranslationConditionalUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public boolean updateIfVersionMatches(Long id, long expectedVersion, String translationKey,
+                                          String locale, String content, Set<String> tags) {
+        int updated = entityManager.createQuery(
+                        "UPDATE Translation t SET t.translationKey = :key, t.locale = :locale, t.content = :content, " +
+                                "t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+                                "WHERE t.id = :id AND t.version = :version")
+                .setParameter("key", translationKey)
+                .setParameter("locale", locale)
+                .setParameter("content", content)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("id", id)
+                .setParameter("version", expectedVersion)
+                .executeUpdate();
+        if (updated == 0) {
+            return false;
+        }
+
+        Set<String> target = Objects.nonNull(tags) ? tags : Set.of();
+        List<String> stored = entityManager
+                .createQuery("SELECT tag FROM Translation t JOIN t.tags tag WHERE t.id = :id", String.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        Set<String> removed = new HashSet<>(stored);
+        removed.removeAll(target);
+        Set<String> added = new HashSet<>(target);
+        stored.forEach(added::remove);
+
+        if (!removed.isEmpty()) {
+            entityManager.createNativeQuery("DELETE FROM translation_tags WHERE translation_id = :id AND tag IN (:tags)")
+                    .setParameter("id", id)
+                    .setParameter("tags", removed)
+                    .executeUpdate();
+        }
+        for (String tag : added) {
+            entityManager.createNativeQuery("INSERT INTO translation_tags (translation_id, tag) VALUES (:id, :tag)")
+                    .setParameter("id", id)
+                    .setParameter("tag", tag)
+                    .executeUpdate();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.entity.Translation;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TranslationKeyLookupRepository {
+
+    /**
+     * Load the translations with exactly these (key, locale) pairs, with their tags, in one
+     * query. Each pair is its own predicate, so no other combination of the requested keys
+     * and locales is read.
+     */
+    List<Translation> findAllWithTagsByNaturalKeys(Collection<TranslationKeyDto> keys);
+}
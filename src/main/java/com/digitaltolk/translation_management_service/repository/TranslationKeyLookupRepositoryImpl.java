@@ -0,0 +1,38 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.entity.Translation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+public class TranslationKeyLookupRepositoryImpl implements TranslationKeyLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Translation> findAllWithTagsByNaturalKeys(Collection<TranslationKeyDto> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<TranslationKeyDto> pairs = new ArrayList<>(keys);
+        StringJoiner predicates = new StringJoiner(" OR ");
+        for (int i = 0; i < pairs.size(); i++) {
+            predicates.add("(t.translationKey = :key" + i + " AND t.locale = :locale" + i + ")");
+        }
+
+        TypedQuery<Translation> query = entityManager.createQuery(
+                "SELECT DISTINCT t FROM Translation t LEFT JOIN FETCH t.tags WHERE " + predicates, Translation.class);
+        for (int i = 0; i < pairs.size(); i++) {
+            query.setParameter("key" + i, pairs.get(i).key());
+            query.setParameter("locale" + i, pairs.get(i).locale());
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.dto.TranslationProjectionDto;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+public interface TranslationProjectionRepository {
+
+    /**
+     * Search translations selecting only the requested columns. Content is only read
+     * when {@link TranslationField#CONTENT} is requested and the tag collection only
+     * joined when {@link TranslationField#TAGS} is. Rows are {@link TranslationProjectionDto}s,
+     * whose unselected fields stay null and are left out of the JSON.
+     */
+    Page<TranslationResponseDto> findProjected(TranslationSearchCriteria criteria,
+                                               Set<TranslationField> fields,
+                                               Pageable pageable);
+
+    /**
+     * Up to {@code limit} translations matching the criteria that come after {@code after} in
+     * {@code order}, projected like {@link #findProjected}; a null {@code after} starts from the
+     * first row. Rows are ordered by the sort property with the id breaking ties, and the batch
+     * carries the last row's position to continue from. Walking a large result in these keyset
+     * batches never holds more than one batch, and no managed entities.
+     */
+    KeysetBatch findProjectedAfter(TranslationSearchCriteria criteria,
+                                   Set<TranslationField> fields,
+                                   Sort.Order order,
+                                   Keyset after,
+                                   int limit);
+
+    /**
+     * Position of a row in a keyset walk: its value of the sort property and its id.
+     */
+    record Keyset(Object value, long id) { }
+
+    record KeysetBatch(List<TranslationResponseDto> rows, Keyset last) {
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+    }
+}
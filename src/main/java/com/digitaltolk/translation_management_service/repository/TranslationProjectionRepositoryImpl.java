@@ -0,0 +1,215 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.dto.TranslationProjectionDto;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class TranslationProjectionRepositoryImpl implements TranslationProjectionRepository {
+
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("id", "translationKey", "locale", "content", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TranslationResponseDto> findProjected(TranslationSearchCriteria criteria,
+                                                      Set<TranslationField> fields,
+                                                      Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = buildWhereClause(criteria, parameters);
+        List<TranslationField> columns = columns(fields);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(buildSelect(columns) + where + buildOrderBy(pageable.getSort()), Tuple.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<TranslationResponseDto> rows = query.getResultList().stream()
+                .map(tuple -> toDto(tuple, columns))
+                .toList();
+
+        if (fields.contains(TranslationField.TAGS)) {
+            attachTags(rows);
+        }
+
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(where, parameters));
+    }
+
+    @Override
+    public KeysetBatch findProjectedAfter(TranslationSearchCriteria criteria,
+                                          Set<TranslationField> fields,
+                                          Sort.Order order,
+                                          Keyset after,
+                                          int limit) {
+        String property = sortableProperty(order);
+        boolean byId = "id".equals(property);
+        String direction = order.isAscending() ? " ASC" : " DESC";
+        String comparison = order.isAscending() ? " > " : " < ";
+
+        Map<String, Object> parameters = new HashMap<>();
+        String where = buildWhereClause(criteria, parameters);
+        if (Objects.nonNull(after)) {
+            // Sort columns are not null, so (value, id) row comparison needs no null handling
+            String keyset = byId ? "t.id" + comparison + ":afterId"
+                    : "(t." + property + comparison + ":afterValue OR (t." + property + " = :afterValue AND t.id" + comparison + ":afterId))";
+            where += (where.isEmpty() ? " WHERE " : " AND ") + keyset;
+            parameters.put("afterId", after.id());
+            if (!byId) {
+                parameters.put("afterValue", after.value());
+            }
+        }
+        List<TranslationField> columns = columns(fields);
+        // The sort value is selected after the projected columns so the next batch can continue from it
+        String select = byId ? buildSelect(columns) : buildSelect(columns, "t." + property);
+        String orderBy = byId ? " ORDER BY t.id" + direction
+                : " ORDER BY t." + property + direction + ", t.id" + direction;
+
+        TypedQuery<Tuple> query = entityManager.createQuery(select + where + orderBy, Tuple.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        List<Tuple> tuples = query.getResultList();
+        List<TranslationResponseDto> rows = tuples.stream()
+                .map(tuple -> toDto(tuple, columns))
+                .toList();
+
+        if (fields.contains(TranslationField.TAGS)) {
+            attachTags(rows);
+        }
+        if (tuples.isEmpty()) {
+            return new KeysetBatch(rows, after);
+        }
+        Tuple last = tuples.get(tuples.size() - 1);
+        return new KeysetBatch(rows, new Keyset(byId ? null : last.get(columns.size() + 1), last.get(0, Long.class)));
+    }
+
+    private List<TranslationField> columns(Set<TranslationField> fields) {
+        return fields.stream()
+                .filter(field -> field != TranslationField.ID && field != TranslationField.TAGS)
+                .toList();
+    }
+
+    private String buildSelect(List<TranslationField> columns, String... extraColumns) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " FROM Translation t");
+        select.add("t.id");
+        columns.forEach(field -> select.add("t." + field.getProperty()));
+        for (String column : extraColumns) {
+            select.add(column);
+        }
+        return select.toString();
+    }
+
+    private String buildWhereClause(TranslationSearchCriteria criteria, Map<String, Object> parameters) {
+        List<String> predicates = new ArrayList<>();
+
+        if (StringUtils.isNotEmpty(criteria.key())) {
+            predicates.add("t.translationKey LIKE CONCAT('%', :key, '%')");
+            parameters.put("key", criteria.key());
+        }
+        if (StringUtils.isNotEmpty(criteria.locale())) {
+            predicates.add("t.locale = :locale");
+            parameters.put("locale", criteria.locale());
+        }
+        if (StringUtils.isNotEmpty(criteria.content())) {
+            predicates.add("LOWER(t.content) LIKE LOWER(CONCAT('%', :content, '%'))");
+            parameters.put("content", criteria.content());
+        }
+        if (!CollectionUtils.isEmpty(criteria.tags())) {
+            List<String> tags = criteria.tags().stream().distinct().toList();
+            if (criteria.tagMatch() == TagMatch.ALL) {
+                predicates.add("t.id IN (SELECT tt.id FROM Translation tt JOIN tt.tags tag WHERE tag IN :tags " +
+                        "GROUP BY tt.id HAVING COUNT(DISTINCT tag) = :tagCount)");
+                parameters.put("tagCount", (long) tags.size());
+            } else {
+                predicates.add("t.id IN (SELECT tt.id FROM Translation tt JOIN tt.tags tag WHERE tag IN :tags)");
+            }
+            parameters.put("tags", tags);
+        }
+
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    private String buildOrderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            orderBy.add("t." + sortableProperty(order) + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orderBy.toString();
+    }
+
+    private String sortableProperty(Sort.Order order) {
+        if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new InvalidTranslationRequestException("Cannot sort by: " + order.getProperty());
+        }
+        return order.getProperty();
+    }
+
+    private long count(String where, Map<String, Object> parameters) {
+        TypedQuery<Long> query = entityManager.createQuery("SELECT COUNT(t) FROM Translation t" + where, Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private TranslationResponseDto toDto(Tuple tuple, List<TranslationField> columns) {
+        TranslationResponseDto dto = new TranslationProjectionDto();
+        dto.setId(tuple.get(0, Long.class));
+
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = tuple.get(i + 1);
+            switch (columns.get(i)) {
+                case KEY -> dto.setTranslationKey((String) value);
+                case LOCALE -> dto.setLocale((String) value);
+                case CONTENT -> dto.setContent((String) value);
+                case CREATED_AT -> dto.setCreatedAt((LocalDateTime) value);
+                case UPDATED_AT -> dto.setUpdatedAt((LocalDateTime) value);
+                default -> throw new IllegalStateException("Not a column projection: " + columns.get(i));
+            }
+        }
+        return dto;
+    }
+
+    private void attachTags(List<TranslationResponseDto> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<Long, TranslationResponseDto> byId = rows.stream()
+                .collect(Collectors.toMap(TranslationResponseDto::getId, Function.identity()));
+        rows.forEach(row -> row.setTags(new HashSet<>()));
+
+        entityManager.createQuery("SELECT t.id, tag FROM Translation t JOIN t.tags tag WHERE t.id IN :ids", Tuple.class)
+                .setParameter("ids", byId.keySet())
+                .getResultList()
+                .forEach(tuple -> byId.get(tuple.get(0, Long.class)).getTags().add(tuple.get(1, String.class)));
+    }
+}
@@ -8,17 +8,35 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TranslationRepository extends JpaRepository<Translation, Long> {
+public interface TranslationRepository extends JpaRepository<Translation, Long>, TranslationProjectionRepository,
+        TranslationConditionalUpdateRepository, TranslationBulkRepository,
+        TranslationUpsertRepository, TranslationKeyLookupRepository {
+
+    String BULK_FILTER = "(:keyPrefix IS NULL OR t.translationKey LIKE CONCAT(:keyPrefix, '%') ESCAPE '!') AND " +
+            "(:locale IS NULL OR t.locale = :locale) AND " +
+            "(:tag IS NULL OR EXISTS (SELECT 1 FROM Translation tt JOIN tt.tags tag WHERE tt.id = t.id AND tag = :tag))";
 
     @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags tag WHERE t.locale = :locale")
     List<Translation> findByLocale(@Param("locale") String locale, Pageable pageable);
 
-    @Query("SELECT t FROM Translation t JOIN FETCH t.tags tag WHERE tag IN :tags")
-    Page<Translation> findByTagsIn(@Param("tags") List<String> tags, Pageable pageable);
+    @Query(value = "SELECT t.id FROM Translation t WHERE EXISTS " +
+            "(SELECT 1 FROM Translation tt JOIN tt.tags tag WHERE tt.id = t.id AND tag IN :tags)",
+            countQuery = "SELECT COUNT(t) FROM Translation t WHERE EXISTS " +
+                    "(SELECT 1 FROM Translation tt JOIN tt.tags tag WHERE tt.id = t.id AND tag IN :tags)")
+    Page<Long> findIdsByAnyTag(@Param("tags") Collection<String> tags, Pageable pageable);
+
+    @Query(value = "SELECT t.id FROM Translation t WHERE t.id IN " +
+            "(SELECT tt.id FROM Translation tt JOIN tt.tags tag WHERE tag IN :tags " +
+            "GROUP BY tt.id HAVING COUNT(DISTINCT tag) = :tagCount)",
+            countQuery = "SELECT COUNT(t) FROM Translation t WHERE t.id IN " +
+                    "(SELECT tt.id FROM Translation tt JOIN tt.tags tag WHERE tag IN :tags " +
+                    "GROUP BY tt.id HAVING COUNT(DISTINCT tag) = :tagCount)")
+    Page<Long> findIdsByAllTags(@Param("tags") Collection<String> tags, @Param("tagCount") long tagCount, Pageable pageable);
 
     @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags tag WHERE t.translationKey LIKE %:key%")
     Page<Translation> findByKeyContaining(@Param("key") String key, Pageable pageable);
@@ -35,8 +53,8 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
                                     @Param("content") String content,
                                     Pageable pageable);
 
-    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags tag WHERE " +
-            "tag IN :tags AND " +
+    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags WHERE " +
+            "EXISTS (SELECT 1 FROM Translation tt JOIN tt.tags tag WHERE tt.id = t.id AND tag IN :tags) AND " +
             "(:key IS NULL OR t.translationKey LIKE %:key%) AND " +
             "(:locale IS NULL OR t.locale = :locale)")
     Page<Translation> findByTagsAndFilters(@Param("tags") List<String> tags,
@@ -46,4 +64,41 @@ public interface TranslationRepository extends JpaRepository<Translation, Long>
 
     @Query("SELECT DISTINCT t.locale FROM Translation t ORDER BY t.locale")
     List<String> findDistinctLocales();
+
+    @Query("SELECT t.id FROM Translation t WHERE t.locale = :locale AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsByLocaleAfter(@Param("locale") String locale, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Translation t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT t FROM Translation t LEFT JOIN FETCH t.tags WHERE t.id IN :ids")
+    List<Translation> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT tag FROM Translation t JOIN t.tags tag")
+    List<String> findDistinctTags();
+
+    @Query("SELECT t.id FROM Translation t JOIN t.tags tag WHERE tag = :tag AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsByTagAfter(@Param("tag") String tag, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags WHERE t.id = :id")
+    Optional<Translation> findWithTagsById(@Param("id") Long id);
+
+    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags WHERE t.translationKey = :key AND t.locale = :locale")
+    Optional<Translation> findByTranslationKeyAndLocale(@Param("key") String key, @Param("locale") String locale);
+
+    /**
+     * Ids matching a bulk filter after a keyset position. The key prefix must have
+     * {@code !}, {@code %} and {@code _} escaped with {@code !}.
+     */
+    @Query("SELECT t.id FROM Translation t WHERE t.id > :afterId AND " + BULK_FILTER + " ORDER BY t.id")
+    List<Long> findIdsByBulkFilterAfter(@Param("keyPrefix") String keyPrefix,
+                                        @Param("locale") String locale,
+                                        @Param("tag") String tag,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Translation t WHERE " + BULK_FILTER)
+    long countByBulkFilter(@Param("keyPrefix") String keyPrefix,
+                           @Param("locale") String locale,
+                           @Param("tag") String tag);
 }
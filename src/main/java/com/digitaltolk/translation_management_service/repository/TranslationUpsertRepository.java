@@ -0,0 +1,18 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.entity.Translation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface TranslationUpsertRepository {
+
+    /**
+     * Insert or update each translation by its (key, locale) in one transaction. Existing rows
+     * take the content and tags of the candidate; the rest are persisted.
+     *
+     * @return managed translations in candidate order
+     */
+    @Transactional
+    List<Translation> upsertAll(List<Translation> translations);
+}
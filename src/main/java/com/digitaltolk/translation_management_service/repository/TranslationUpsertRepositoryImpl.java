@@ -0,0 +1,61 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.entity.Translation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class TranslationUpsertRepositoryImpl implements TranslationUpsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<Translation> upsertAll(List<Translation> translations) {
+        Set<String> keys = new HashSet<>();
+        Set<String> locales = new HashSet<>();
+        translations.forEach(translation -> {
+            keys.add(translation.getTranslationKey());
+            locales.add(translation.getLocale());
+        });
+
+        Map<String, Translation> existing = new HashMap<>();
+        entityManager.createQuery("SELECT DISTINCT t FROM Translation t LEFT JOIN FETCH t.tags " +
+                        "WHERE t.translationKey IN :keys AND t.locale IN :locales", Translation.class)
+                .setParameter("keys", keys)
+                .setParameter("locales", locales)
+                .getResultList()
+                .forEach(translation -> existing.put(keyOf(translation), translation));
+
+        List<Translation> results = new ArrayList<>(translations.size());
+        for (Translation candidate : translations) {
+            Translation managed = existing.get(keyOf(candidate));
+            if (Objects.isNull(managed)) {
+                entityManager.persist(candidate);
+                existing.put(keyOf(candidate), candidate);
+                managed = candidate;
+            } else {
+                managed.setContent(candidate.getContent());
+                Set<String> tags = Objects.nonNull(candidate.getTags()) ? candidate.getTags() : Set.of();
+                managed.getTags().retainAll(tags);
+                managed.getTags().addAll(tags);
+            }
+            results.add(managed);
+        }
+        entityManager.flush();
+        return results;
+    }
+
+    private static String keyOf(Translation translation) {
+        return translation.getTranslationKey() + '\u0000' + translation.getLocale();
+    }
+}
@@ -1,5 +1,9 @@
 package com.digitaltolk.translation_management_service.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,16 +16,35 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, Timer> verificationTimers = new HashMap<>();
 
-    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, MeterRegistry meterRegistry,
+                         ObservationRegistry observationRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        for (String step : List.of("parse", "validate")) {
+            for (String outcome : List.of("success", "failure")) {
+                verificationTimers.put(step + outcome, Timer.builder("translation.jwt.verification")
+                        .description("JWT signature verification and claim parsing")
+                        .tag("step", step)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }
     }
 
     @Override
@@ -35,19 +58,38 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        String username = jwtUtil.extractUsername(token);
+        Observation.createNotStarted("translation.auth.jwt", observationRegistry)
+                .contextualName("jwt authentication")
+                .observe(() -> authenticate(request, token));
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, String token) {
+        String username = timeVerification("parse", () -> jwtUtil.extractUsername(token));
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-            if (jwtUtil.validateToken(token, userDetails.getUsername())) {
+            if (timeVerification("validate", () -> jwtUtil.validateToken(token, userDetails.getUsername()))) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
-        filterChain.doFilter(request, response);
+    }
+
+    private <T> T timeVerification(String step, Supplier<T> verification) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return verification.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(verificationTimers.get(step + outcome));
+        }
     }
 
 }
@@ -2,6 +2,8 @@ package com.digitaltolk.translation_management_service.security;
 
 import com.digitaltolk.translation_management_service.entity.User;
 import com.digitaltolk.translation_management_service.repository.UserRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,13 +13,21 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ObservationRegistry observationRegistry;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, ObservationRegistry observationRegistry) {
         this.userRepository = userRepository;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return Observation.createNotStarted("translation.auth.user-details", observationRegistry)
+                .contextualName("load user details")
+                .observe(() -> loadUser(username));
+    }
+
+    private UserDetails loadUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
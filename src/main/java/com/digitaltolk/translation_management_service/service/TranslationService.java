@@ -1,20 +1,35 @@
 package com.digitaltolk.translation_management_service.service;
 
+import com.digitaltolk.translation_management_service.dto.BulkOperationResultDto;
+import com.digitaltolk.translation_management_service.dto.BulkTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Set;
 
 public interface TranslationService {
 
     TranslationResponseDto createTranslation(TranslationRequestDto requestDto);
     TranslationResponseDto updateTranslation(Long id, TranslationRequestDto requestDto);
+    TranslationResponseDto updateTranslation(Long id, TranslationRequestDto requestDto, Long expectedVersion);
+    TranslationResponseDto patchTranslation(Long id, TranslationPatchDto patchDto, Long expectedVersion);
     TranslationResponseDto getTranslationById(Long id);
+    TranslationResponseDto getTranslationByKey(String key, String locale);
 
-    Page<TranslationResponseDto> findTranslationsByTags(List<String> tags, int page, int size, String sortBy, String sortDir);
+    List<TranslationResponseDto> getTranslationsByIds(List<Long> ids);
+
+    List<TranslationResponseDto> getTranslationsByKeys(List<TranslationKeyDto> keys);
+
+    Page<TranslationResponseDto> findTranslationsByTags(List<String> tags, TagMatch match, int page, int size, String sortBy, String sortDir);
 
     Page<TranslationResponseDto> findTranslationsByKey(String key, int page, int size, String sortBy, String sortDir);
 
@@ -23,7 +38,16 @@ public interface TranslationService {
     List<TranslationResponseDto>  getTranslationsByLocale(String locale,  int page, int size, String sortBy, String sortDir);
 
     void deleteTranslationById(Long id);
+
+    List<TranslationResponseDto> applyWriteBatch(List<TranslationRequestDto> requests);
+
+    BulkOperationResultDto bulkDelete(BulkTranslationRequestDto request, boolean dryRun);
+
+    BulkOperationResultDto bulkRetag(BulkTranslationRequestDto request, boolean dryRun);
+
     List<String> getAvailableLocales();
 
     Page<TranslationResponseDto> searchTranslations(String key, String locale, String content, List<String> tags, int page, int size, String sortBy, String sortDir);
+
+    Page<TranslationResponseDto> findTranslationProjections(TranslationSearchCriteria criteria, Set<TranslationField> fields, int page, int size, String sortBy, String sortDir);
 }
@@ -1,78 +1,260 @@
 package com.digitaltolk.translation_management_service.service.impl;
 
+import com.digitaltolk.translation_management_service.dto.BulkOperationResultDto;
+import com.digitaltolk.translation_management_service.dto.BulkTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
 import com.digitaltolk.translation_management_service.entity.Translation;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.exception.DuplicateTranslationException;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
 import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import com.digitaltolk.translation_management_service.exception.TranslationVersionConflictException;
+import com.digitaltolk.translation_management_service.index.TagBitmapIndex;
+import com.digitaltolk.translation_management_service.index.TranslationKeyIndex;
 import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.readmodel.TranslationReadModel;
+import com.digitaltolk.translation_management_service.readmodel.TranslationSnapshot;
 import com.digitaltolk.translation_management_service.repository.TranslationRepository;
 import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.digitaltolk.translation_management_service.store.ColumnarTranslationStore;
+import io.micrometer.core.annotation.Timed;
+import org.apache.commons.lang3.StringUtils;
+import org.pcollections.TreePMap;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "translation.service", histogram = true)
 public class TranslationServiceImpl implements TranslationService {
 
+    private static final int BULK_BATCH_SIZE = 1000;
+    // Orders the read model keeps per locale; other sorts go to the database
+    private static final Set<String> READ_MODEL_LOCALE_SORTS = Set.of("id", "updatedAt");
+
     private final TranslationRepository translationRepository;
     private final TranslationMapper translationMapper;
-
-    public TranslationServiceImpl(TranslationRepository translationRepository, TranslationMapper translationMapper) {
+    private final TagBitmapIndex tagBitmapIndex;
+    private final TranslationKeyIndex translationKeyIndex;
+    private final TranslationReadModel readModel;
+    private final ObjectProvider<ColumnarTranslationStore> columnarStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TranslationServiceImpl(TranslationRepository translationRepository, TranslationMapper translationMapper,
+                                  TagBitmapIndex tagBitmapIndex, TranslationKeyIndex translationKeyIndex,
+                                  TranslationReadModel readModel, ObjectProvider<ColumnarTranslationStore> columnarStore,
+                                  ApplicationEventPublisher eventPublisher) {
         this.translationRepository = translationRepository;
         this.translationMapper = translationMapper;
+        this.tagBitmapIndex = tagBitmapIndex;
+        this.translationKeyIndex = translationKeyIndex;
+        this.readModel = readModel;
+        this.columnarStore = columnarStore;
+        this.eventPublisher = eventPublisher;
     }
 
     public TranslationResponseDto createTranslation(TranslationRequestDto requestDto) {
 
         Translation translation = translationMapper.toEntity(requestDto);
-        Translation savedTranslation = translationRepository.save(translation);
-        return translationMapper.toDto(savedTranslation);
+        Translation savedTranslation = saveUnique(translation);
+        TranslationResponseDto result = translationMapper.toDto(savedTranslation);
+        eventPublisher.publishEvent(TranslationChangedEvent.created(result));
+        return result;
     }
 
     public TranslationResponseDto updateTranslation(Long id, TranslationRequestDto requestDto) {
+        return updateTranslation(id, requestDto, null);
+    }
+
+    /**
+     * Update a translation. With an expected version the row is changed by a single
+     * conditional statement without loading it first, and a stale version is rejected.
+     */
+    public TranslationResponseDto updateTranslation(Long id, TranslationRequestDto requestDto, Long expectedVersion) {
 
+        if (Objects.nonNull(expectedVersion)) {
+            return updateTranslationIfVersionMatches(id, requestDto, expectedVersion);
+        }
         Translation existingTranslation = translationRepository.findById(id)
                 .orElseThrow(() -> new TranslationNotFoundException("Translation not found with id: " + id));
 
         translationMapper.updateEntity(requestDto, existingTranslation);
-        existingTranslation = translationRepository.save(existingTranslation);
-        return translationMapper.toDto(existingTranslation);
+        existingTranslation = saveUnique(existingTranslation);
+        TranslationResponseDto result = translationMapper.toDto(existingTranslation);
+        eventPublisher.publishEvent(TranslationChangedEvent.updated(result));
+        return result;
+    }
+
+    /**
+     * Apply a JSON Merge Patch. Only changed columns are written (the entity uses dynamic
+     * updates) and tags change by delta; a patch that changes nothing writes nothing.
+     */
+    public TranslationResponseDto patchTranslation(Long id, TranslationPatchDto patchDto, Long expectedVersion) {
+
+        validatePatch(patchDto);
+        Translation translation = translationRepository.findWithTagsById(id)
+                .orElseThrow(() -> new TranslationNotFoundException("Translation not found with id: " + id));
+        if (Objects.nonNull(expectedVersion) && !expectedVersion.equals(translation.getVersion())) {
+            throw new TranslationVersionConflictException("Translation with id: " + id
+                    + " no longer has version: " + expectedVersion);
+        }
+
+        if (!translationMapper.applyPatch(patchDto, translation)) {
+            return translationMapper.toDto(translation);
+        }
+        Translation savedTranslation = saveUnique(translation);
+        TranslationResponseDto result = translationMapper.toDto(savedTranslation);
+        eventPublisher.publishEvent(TranslationChangedEvent.updated(result));
+        return result;
     }
 
     public TranslationResponseDto getTranslationById(Long id) {
 
+        if (readModel.isServing()) {
+            return Optional.ofNullable(readModel.current().get(id))
+                    .orElseThrow(() -> new TranslationNotFoundException("Translation not found with id: " + id));
+        }
+        ColumnarTranslationStore store = columnarStore.getIfAvailable();
+        if (Objects.nonNull(store) && store.isReady()) {
+            TranslationResponseDto stored = store.get(id);
+            if (Objects.nonNull(stored)) {
+                return stored;
+            }
+        }
         Translation translation = translationRepository.findById(id)
                 .orElseThrow(() -> new TranslationNotFoundException("Translation not found with id: " + id));
         return translationMapper.toDto(translation);
     }
 
-    public Page<TranslationResponseDto> findTranslationsByTags(List<String> tags, int page, int size, String sortBy, String sortDir) {
+    /**
+     * Resolve a translation by its exact key and locale, from the key index when it has
+     * the entry and from the database otherwise.
+     */
+    public TranslationResponseDto getTranslationByKey(String key, String locale) {
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() :
-                Sort.by(sortBy).ascending();
+        if (readModel.isServing()) {
+            return Optional.ofNullable(readModel.current().get(key, locale))
+                    .orElseThrow(() -> new TranslationNotFoundException("Translation not found with key: " + key + " and locale: " + locale));
+        }
+        TranslationResponseDto indexed = translationKeyIndex.get(key, locale);
+        if (Objects.nonNull(indexed)) {
+            return indexed;
+        }
+        long indexGeneration = translationKeyIndex.generation();
+        Translation translation = translationRepository.findByTranslationKeyAndLocale(key, locale)
+                .orElseThrow(() -> new TranslationNotFoundException("Translation not found with key: " + key + " and locale: " + locale));
+        TranslationResponseDto result = translationMapper.toDto(translation);
+        translationKeyIndex.cache(result, indexGeneration);
+        return result;
+    }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Translation> translations = translationRepository.findByTagsIn(tags, pageable);
+    /**
+     * Load translations by id with one query, in request order; missing ids map to null.
+     */
+    public List<TranslationResponseDto> getTranslationsByIds(List<Long> ids) {
 
-        if (translations.isEmpty()) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (readModel.isServing()) {
+            TranslationSnapshot snapshot = readModel.current();
+            return ids.stream().map(snapshot::get).toList();
+        }
+        Map<Long, Translation> translations = translationRepository.findAllWithTagsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Translation::getId, Function.identity()));
+
+        return ids.stream()
+                .map(id -> translations.containsKey(id) ? translationMapper.toDto(translations.get(id)) : null)
+                .toList();
+    }
+
+    /**
+     * Resolve translations by (key, locale) in request order; missing pairs map to null. Pairs
+     * are taken from the read model or the key index first, and only the misses are loaded,
+     * with one query that matches each pair exactly.
+     */
+    public List<TranslationResponseDto> getTranslationsByKeys(List<TranslationKeyDto> keys) {
+
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (readModel.isServing()) {
+            TranslationSnapshot snapshot = readModel.current();
+            return keys.stream().map(key -> snapshot.get(key.key(), key.locale())).toList();
+        }
+        Map<TranslationKeyDto, TranslationResponseDto> found = new HashMap<>();
+        Set<TranslationKeyDto> misses = new LinkedHashSet<>();
+        for (TranslationKeyDto key : keys) {
+            TranslationResponseDto indexed = translationKeyIndex.get(key.key(), key.locale());
+            if (Objects.nonNull(indexed)) {
+                found.put(key, indexed);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long indexGeneration = translationKeyIndex.generation();
+            for (Translation translation : translationRepository.findAllWithTagsByNaturalKeys(misses)) {
+                TranslationResponseDto loaded = translationMapper.toDto(translation);
+                found.put(new TranslationKeyDto(translation.getTranslationKey(), translation.getLocale()), loaded);
+                translationKeyIndex.cache(loaded, indexGeneration);
+            }
+        }
+
+        return keys.stream().map(found::get).toList();
+    }
+
+    /**
+     * Page over distinct matching ids first, then batch-load the page rows with their full tag sets.
+     * Id order, the endpoint's default, is resolved from the tag bitmap index; any other sort
+     * needs the rows' sort column and goes to the database.
+     */
+    public Page<TranslationResponseDto> findTranslationsByTags(List<String> tags, TagMatch match, int page, int size, String sortBy, String sortDir) {
+
+        Pageable pageable = buildPageable(page, size, sortBy, sortDir);
+        if (tagBitmapIndex.isReady() && "id".equals(sortBy)) {
+            return findTranslationsByTagBitmap(tags, match, pageable);
+        }
+        List<String> distinctTags = tags.stream().distinct().toList();
+        Page<Long> ids = match == TagMatch.ALL
+                ? translationRepository.findIdsByAllTags(distinctTags, distinctTags.size(), pageable)
+                : translationRepository.findIdsByAnyTag(distinctTags, pageable);
+
+        if (ids.isEmpty()) {
             throw new TranslationNotFoundException("No translations found with tags: " + tags);
         }
 
-        return translations.map(translationMapper::toDto);
+        return loadPage(ids.getContent(), pageable, ids.getTotalElements());
     }
 
     public Page<TranslationResponseDto> findTranslationsByKey(String key, int page, int size, String sortBy, String sortDir) {
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() :
-                Sort.by(sortBy).ascending();
-
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = buildPageable(page, size, sortBy, sortDir);
         Page<Translation> translations = translationRepository.findByKeyContaining(key, pageable);
 
         if (translations.isEmpty()) {
@@ -84,11 +266,7 @@ public class TranslationServiceImpl implements TranslationService {
 
     public Page<TranslationResponseDto> findTranslationsByContent(String content, int page, int size, String sortBy, String sortDir) {
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() :
-                Sort.by(sortBy).ascending();
-
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = buildPageable(page, size, sortBy, sortDir);
         Page<Translation> translations = translationRepository.findByContentContainingIgnoreCase(content, pageable);
 
         if (translations.isEmpty()) {
@@ -100,11 +278,7 @@ public class TranslationServiceImpl implements TranslationService {
 
     public Page<TranslationResponseDto> searchTranslations(String key, String locale, String content, List<String> tags, int page, int size, String sortBy, String sortDir) {
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() :
-                Sort.by(sortBy).ascending();
-
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = buildPageable(page, size, sortBy, sortDir);
         Page<Translation> translations;
 
         if (tags != null && !tags.isEmpty()) {
@@ -122,11 +296,10 @@ public class TranslationServiceImpl implements TranslationService {
 
     public List<TranslationResponseDto> getTranslationsByLocale(String locale,  int page, int size, String sortBy, String sortDir) {
 
-       Sort sort = sortDir.equalsIgnoreCase("desc") ?
-               Sort.by(sortBy).descending() :
-               Sort.by(sortBy).ascending();
-
-       Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = buildPageable(page, size, sortBy, sortDir);
+        if (readModel.isServing() && READ_MODEL_LOCALE_SORTS.contains(sortBy)) {
+            return getTranslationsByLocaleFromReadModel(locale, sortBy, pageable);
+        }
         List<Translation> translations = translationRepository.findByLocale(locale, pageable);
         if(translations.isEmpty()){
             throw new TranslationNotFoundException("Translation not found with locale: " + locale);
@@ -139,9 +312,208 @@ public class TranslationServiceImpl implements TranslationService {
             throw new TranslationNotFoundException("Translation not found with id: " + id);
         }
         translationRepository.deleteById(id);
+        eventPublisher.publishEvent(TranslationChangedEvent.deleted(id));
+    }
+
+    /**
+     * Create or update each request by (key, locale) in one transaction. Used by the
+     * write-behind flush, which has already coalesced the requests to one per key.
+     */
+    public List<TranslationResponseDto> applyWriteBatch(List<TranslationRequestDto> requests) {
+        List<Translation> saved = translationRepository.upsertAll(requests.stream().map(translationMapper::toEntity).toList());
+        List<TranslationResponseDto> results = saved.stream().map(translationMapper::toDto).toList();
+        results.forEach(result -> eventPublisher.publishEvent(TranslationChangedEvent.updated(result)));
+        return results;
+    }
+
+    public BulkOperationResultDto bulkDelete(BulkTranslationRequestDto request, boolean dryRun) {
+        BulkFilter filter = BulkFilter.of(request);
+        long matched = translationRepository.countByBulkFilter(filter.keyPrefix(), filter.locale(), filter.tag());
+        if (dryRun || matched == 0) {
+            return new BulkOperationResultDto("delete", dryRun, matched, 0);
+        }
+
+        long affected = 0;
+        Long afterId = 0L;
+        List<Long> batch;
+        while (!(batch = nextBulkBatch(filter, afterId)).isEmpty()) {
+            affected += translationRepository.deleteBatch(batch);
+            batch.forEach(id -> eventPublisher.publishEvent(TranslationChangedEvent.deleted(id)));
+            afterId = batch.get(batch.size() - 1);
+        }
+        return new BulkOperationResultDto("delete", false, matched, affected);
+    }
+
+    public BulkOperationResultDto bulkRetag(BulkTranslationRequestDto request, boolean dryRun) {
+        BulkFilter filter = BulkFilter.of(request);
+        Set<String> addTags = Objects.nonNull(request.addTags()) ? request.addTags() : Set.of();
+        Set<String> removeTags = Objects.nonNull(request.removeTags()) ? request.removeTags() : Set.of();
+        if (addTags.isEmpty() && removeTags.isEmpty()) {
+            throw new InvalidTranslationRequestException("Retag requires add_tags or remove_tags");
+        }
+
+        long matched = translationRepository.countByBulkFilter(filter.keyPrefix(), filter.locale(), filter.tag());
+        if (dryRun || matched == 0) {
+            return new BulkOperationResultDto("retag", dryRun, matched, 0);
+        }
+
+        long affected = 0;
+        Long afterId = 0L;
+        List<Long> batch;
+        while (!(batch = nextBulkBatch(filter, afterId)).isEmpty()) {
+            affected += translationRepository.retagBatch(batch, addTags, removeTags);
+            translationRepository.findAllWithTagsByIdIn(batch).forEach(translation ->
+                    eventPublisher.publishEvent(TranslationChangedEvent.updated(translationMapper.toDto(translation))));
+            afterId = batch.get(batch.size() - 1);
+        }
+        return new BulkOperationResultDto("retag", false, matched, affected);
     }
 
     public List<String> getAvailableLocales() {
+        if (readModel.isServing()) {
+            return readModel.current().byLocale().keySet().stream().sorted().toList();
+        }
         return translationRepository.findDistinctLocales();
     }
+
+    public Page<TranslationResponseDto> findTranslationProjections(TranslationSearchCriteria criteria, Set<TranslationField> fields, int page, int size, String sortBy, String sortDir) {
+
+        Pageable pageable = buildPageable(page, size, sortBy, sortDir);
+        Page<TranslationResponseDto> translations = translationRepository.findProjected(criteria, fields, pageable);
+
+        if (translations.isEmpty()) {
+            throw new TranslationNotFoundException("No translations found with defined criteria");
+        }
+
+        return translations;
+    }
+
+    /**
+     * Id-ordered tag search served from the tag bitmap index: the filter, the page and
+     * the total count come from the bitmap, and only the page's rows are loaded.
+     */
+    private Page<TranslationResponseDto> findTranslationsByTagBitmap(List<String> tags, TagMatch match, Pageable pageable) {
+
+        RoaringBitmap matches = tagBitmapIndex.resolve(tags, match);
+        boolean descending = pageable.getSort().stream().anyMatch(Sort.Order::isDescending);
+        List<Long> pageIds = TagBitmapIndex.selectPage(matches, pageable.getOffset(), pageable.getPageSize(), descending);
+
+        if (pageIds.isEmpty()) {
+            throw new TranslationNotFoundException("No translations found with tags: " + tags);
+        }
+
+        return loadPage(pageIds, pageable, matches.getLongCardinality());
+    }
+
+    private List<TranslationResponseDto> getTranslationsByLocaleFromReadModel(String locale, String sortBy, Pageable pageable) {
+
+        TreePMap<?, TranslationResponseDto> translations = "id".equals(sortBy)
+                ? readModel.current().inLocale(locale)
+                : readModel.current().inLocaleByUpdatedAt(locale);
+        Collection<TranslationResponseDto> ordered = pageable.getSort().stream().anyMatch(Sort.Order::isDescending)
+                ? translations.descendingMap().values()
+                : translations.values();
+        List<TranslationResponseDto> result = ordered.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        if (result.isEmpty()) {
+            throw new TranslationNotFoundException("Translation not found with locale: " + locale);
+        }
+        return result;
+    }
+
+    private Page<TranslationResponseDto> loadPage(List<Long> pageIds, Pageable pageable, long total) {
+        List<TranslationResponseDto> content = getTranslationsByIds(pageIds).stream()
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private TranslationResponseDto updateTranslationIfVersionMatches(Long id, TranslationRequestDto requestDto, long expectedVersion) {
+
+        boolean updated;
+        try {
+            updated = translationRepository.updateIfVersionMatches(id, expectedVersion, requestDto.getTranslationKey(),
+                    requestDto.getLocale(), requestDto.getContent(), requestDto.getTags());
+        } catch (DataIntegrityViolationException e) {
+            if (!DuplicateTranslationException.isDuplicateKey(e)) {
+                throw e;
+            }
+            throw new DuplicateTranslationException("Translation already exists with key: "
+                    + requestDto.getTranslationKey() + " and locale: " + requestDto.getLocale());
+        }
+
+        if (!updated) {
+            if (!translationRepository.existsById(id)) {
+                throw new TranslationNotFoundException("Translation not found with id: " + id);
+            }
+            throw new TranslationVersionConflictException("Translation with id: " + id
+                    + " no longer has version: " + expectedVersion);
+        }
+
+        TranslationResponseDto result = translationRepository.findAllWithTagsByIdIn(List.of(id)).stream()
+                .findFirst()
+                .map(translationMapper::toDto)
+                .orElseThrow(() -> new TranslationNotFoundException("Translation not found with id: " + id));
+        eventPublisher.publishEvent(TranslationChangedEvent.updated(result));
+        return result;
+    }
+
+    private List<Long> nextBulkBatch(BulkFilter filter, Long afterId) {
+        return translationRepository.findIdsByBulkFilterAfter(filter.keyPrefix(), filter.locale(), filter.tag(),
+                afterId, PageRequest.of(0, BULK_BATCH_SIZE));
+    }
+
+    /**
+     * Normalized bulk filter: blanks become null and the key prefix is escaped for {@code LIKE ... ESCAPE '!'}.
+     */
+    private record BulkFilter(String keyPrefix, String locale, String tag) {
+
+        static BulkFilter of(BulkTranslationRequestDto request) {
+            String keyPrefix = StringUtils.trimToNull(request.keyPrefix());
+            String locale = StringUtils.trimToNull(request.locale());
+            String tag = StringUtils.trimToNull(request.tag());
+            if (Objects.isNull(keyPrefix) && Objects.isNull(locale) && Objects.isNull(tag)) {
+                throw new InvalidTranslationRequestException("Bulk operations require at least one of key_prefix, locale or tag");
+            }
+            if (Objects.nonNull(keyPrefix)) {
+                keyPrefix = keyPrefix.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+            }
+            return new BulkFilter(keyPrefix, locale, tag);
+        }
+    }
+
+    private void validatePatch(TranslationPatchDto patchDto) {
+        if (patchDto.isPresent(TranslationPatchDto.Field.KEY) && StringUtils.isBlank(patchDto.getTranslationKey())) {
+            throw new InvalidTranslationRequestException("Translation key cannot be removed or blank");
+        }
+        if (patchDto.isPresent(TranslationPatchDto.Field.LOCALE) && StringUtils.isBlank(patchDto.getLocale())) {
+            throw new InvalidTranslationRequestException("Locale cannot be removed or blank");
+        }
+        if (patchDto.isPresent(TranslationPatchDto.Field.CONTENT) && StringUtils.isBlank(patchDto.getContent())) {
+            throw new InvalidTranslationRequestException("Content cannot be removed or blank");
+        }
+    }
+
+    private Translation saveUnique(Translation translation) {
+        try {
+            return translationRepository.save(translation);
+        } catch (DataIntegrityViolationException e) {
+            if (!DuplicateTranslationException.isDuplicateKey(e)) {
+                throw e;
+            }
+            throw new DuplicateTranslationException("Translation already exists with key: "
+                    + translation.getTranslationKey() + " and locale: " + translation.getLocale());
+        }
+    }
+
+    private Pageable buildPageable(int page, int size, String sortBy, String sortDir) {
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(sortBy).descending() :
+                Sort.by(sortBy).ascending();
+
+        return PageRequest.of(page, size, sort);
+    }
 }
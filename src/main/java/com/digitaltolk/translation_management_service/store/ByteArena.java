@@ -0,0 +1,66 @@
+package com.digitaltolk.translation_management_service.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only UTF-8 byte buffer shared by many strings, each addressed by offset and length.
+ * Replaced strings are only counted as garbage; the owner compacts by copying live slices
+ * into a fresh arena.
+ */
+final class ByteArena {
+
+    private byte[] bytes;
+    private int length;
+    private long garbage;
+
+    ByteArena(int initialCapacity) {
+        this.bytes = new byte[Math.max(1024, initialCapacity)];
+    }
+
+    int append(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, bytes, length, value.length);
+        int offset = length;
+        length += value.length;
+        return offset;
+    }
+
+    int copyFrom(ByteArena source, int offset, int sliceLength) {
+        ensureCapacity(sliceLength);
+        System.arraycopy(source.bytes, offset, bytes, length, sliceLength);
+        int newOffset = length;
+        length += sliceLength;
+        return newOffset;
+    }
+
+    String read(int offset, int sliceLength) {
+        return new String(bytes, offset, sliceLength, StandardCharsets.UTF_8);
+    }
+
+    void release(int sliceLength) {
+        garbage += sliceLength;
+    }
+
+    int length() {
+        return length;
+    }
+
+    boolean needsCompaction() {
+        return garbage > (1 << 20) && garbage > length / 2;
+    }
+
+    long estimatedBytes() {
+        return bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            long grown = Math.max((long) bytes.length * 2, (long) length + extra);
+            if (grown > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Byte arena is full at " + length + " bytes");
+            }
+            bytes = Arrays.copyOf(bytes, (int) grown);
+        }
+    }
+}
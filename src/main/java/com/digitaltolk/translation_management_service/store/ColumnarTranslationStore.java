@@ -0,0 +1,297 @@
+package com.digitaltolk.translation_management_service.store;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-optimized, in-process copy of all translations in a columnar layout.
+ * <p>
+ * Every translation occupies one int row across parallel primitive arrays: key and content
+ * are slices of a shared UTF-8 {@link ByteArena}, locale is a short id into a locale
+ * dictionary, tags are a 64-bit bitset over a tag dictionary (with a {@link BitSet} overflow
+ * for rows using tag ids past 63), and timestamps are epoch millis read as UTC. DTOs are
+ * only materialized on read.
+ * <p>
+ * Enabled with {@code translation.columnar-store.enabled=true}; loaded once the application
+ * is ready and kept current from {@link TranslationChangedEvent}s.
+ */
+@Component
+@ConditionalOnProperty(name = "translation.columnar-store.enabled", havingValue = "true")
+public class ColumnarTranslationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarTranslationStore.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int INITIAL_ROWS = 1024;
+    private static final int NO_ROW = -1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final long NO_VERSION = -1L;
+
+    private final TranslationRepository translationRepository;
+    private final TranslationMapper translationMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<String> localeNames = new ArrayList<>();
+    private final Map<String, Short> localeIds = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private final Map<String, Integer> tagIds = new HashMap<>();
+
+    private LongIntHashMap rowsById = new LongIntHashMap(INITIAL_ROWS);
+    private ByteArena arena = new ByteArena(INITIAL_ROWS * 64);
+    private long[] ids = new long[INITIAL_ROWS];
+    private int[] keyOffsets = new int[INITIAL_ROWS];
+    private int[] keyLengths = new int[INITIAL_ROWS];
+    private int[] contentOffsets = new int[INITIAL_ROWS];
+    private int[] contentLengths = new int[INITIAL_ROWS];
+    private short[] locales = new short[INITIAL_ROWS];
+    private long[] tagBits = new long[INITIAL_ROWS];
+    private long[] createdAt = new long[INITIAL_ROWS];
+    private long[] updatedAt = new long[INITIAL_ROWS];
+    private long[] versions = new long[INITIAL_ROWS];
+    private final Map<Integer, BitSet> overflowTags = new HashMap<>();
+
+    private int[] freeRows = new int[16];
+    private int freeRowCount;
+    private int rowCount;
+    private volatile boolean ready;
+
+    public ColumnarTranslationStore(TranslationRepository translationRepository, TranslationMapper translationMapper) {
+        this.translationRepository = translationRepository;
+        this.translationMapper = translationMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            Long afterId = 0L;
+            List<Long> batch;
+            while (!(batch = translationRepository.findIdsAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE))).isEmpty()) {
+                translationRepository.findAllWithTagsByIdIn(batch).forEach(translation -> put(translationMapper.toDto(translation)));
+                afterId = batch.get(batch.size() - 1);
+            }
+            ready = true;
+            logger.info("Loaded columnar translation store with {} rows, ~{} bytes", rowsById.size(), estimatedBytes());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.type() == TranslationChangedEvent.Type.DELETED) {
+                remove(event.id());
+            } else {
+                put(event.translation());
+            }
+            if (arena.needsCompaction()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Materialize the translation with the given id, or null when the store has no such row.
+     */
+    public TranslationResponseDto get(Long id) {
+        lock.readLock().lock();
+        try {
+            int row = rowsById.get(id, NO_ROW);
+            return row == NO_ROW ? null : materialize(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate retained size of the columns, arena and id map, excluding the dictionaries.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long perRow = Long.BYTES * 5L + Integer.BYTES * 4L + Short.BYTES;
+            return ids.length * perRow + arena.estimatedBytes() + rowsById.estimatedBytes()
+                    + overflowTags.size() * 64L;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(TranslationResponseDto translation) {
+        int existingRow = rowsById.get(translation.getId(), NO_ROW);
+        int row;
+        if (existingRow == NO_ROW) {
+            row = allocateRow();
+            rowsById.put(translation.getId(), row);
+        } else {
+            row = existingRow;
+            arena.release(keyLengths[row] + contentLengths[row]);
+            overflowTags.remove(row);
+        }
+
+        byte[] key = translation.getTranslationKey().getBytes(StandardCharsets.UTF_8);
+        byte[] content = translation.getContent().getBytes(StandardCharsets.UTF_8);
+        ids[row] = translation.getId();
+        keyOffsets[row] = arena.append(key);
+        keyLengths[row] = key.length;
+        contentOffsets[row] = arena.append(content);
+        contentLengths[row] = content.length;
+        locales[row] = localeId(translation.getLocale());
+        tagBits[row] = 0L;
+        if (Objects.nonNull(translation.getTags())) {
+            translation.getTags().forEach(tag -> setTag(row, tagId(tag)));
+        }
+        createdAt[row] = toEpochMillis(translation.getCreatedAt());
+        updatedAt[row] = toEpochMillis(translation.getUpdatedAt());
+        versions[row] = Objects.nonNull(translation.getVersion()) ? translation.getVersion() : NO_VERSION;
+    }
+
+    private void remove(Long id) {
+        int row = rowsById.remove(id, NO_ROW);
+        if (row == NO_ROW) {
+            return;
+        }
+        arena.release(keyLengths[row] + contentLengths[row]);
+        overflowTags.remove(row);
+        ids[row] = 0L;
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    private TranslationResponseDto materialize(int row) {
+        Set<String> tags = new HashSet<>();
+        long bits = tagBits[row];
+        while (bits != 0L) {
+            tags.add(tagNames.get(Long.numberOfTrailingZeros(bits)));
+            bits &= bits - 1;
+        }
+        BitSet overflow = overflowTags.get(row);
+        if (Objects.nonNull(overflow)) {
+            overflow.stream().forEach(tagId -> tags.add(tagNames.get(tagId)));
+        }
+
+        TranslationResponseDto translation = new TranslationResponseDto(
+                ids[row],
+                arena.read(keyOffsets[row], keyLengths[row]),
+                localeNames.get(locales[row]),
+                arena.read(contentOffsets[row], contentLengths[row]),
+                tags,
+                toLocalDateTime(createdAt[row]),
+                toLocalDateTime(updatedAt[row])
+        );
+        translation.setVersion(versions[row] == NO_VERSION ? null : versions[row]);
+        return translation;
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+        if (rowCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+            keyLengths = Arrays.copyOf(keyLengths, capacity);
+            contentOffsets = Arrays.copyOf(contentOffsets, capacity);
+            contentLengths = Arrays.copyOf(contentLengths, capacity);
+            locales = Arrays.copyOf(locales, capacity);
+            tagBits = Arrays.copyOf(tagBits, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            updatedAt = Arrays.copyOf(updatedAt, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        return rowCount++;
+    }
+
+    private void compact() {
+        ByteArena compacted = new ByteArena(arena.length() / 2);
+        for (int row = 0; row < rowCount; row++) {
+            if (ids[row] != 0L) {
+                keyOffsets[row] = compacted.copyFrom(arena, keyOffsets[row], keyLengths[row]);
+                contentOffsets[row] = compacted.copyFrom(arena, contentOffsets[row], contentLengths[row]);
+            }
+        }
+        arena = compacted;
+        logger.debug("Compacted columnar translation store arena to {} bytes", compacted.length());
+    }
+
+    private void setTag(int row, int tagId) {
+        if (tagId < Long.SIZE) {
+            tagBits[row] |= 1L << tagId;
+        } else {
+            overflowTags.computeIfAbsent(row, k -> new BitSet()).set(tagId);
+        }
+    }
+
+    private short localeId(String locale) {
+        Short id = localeIds.get(locale);
+        if (Objects.isNull(id)) {
+            if (localeNames.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many locales for the columnar store: " + localeNames.size());
+            }
+            id = (short) localeNames.size();
+            localeNames.add(locale);
+            localeIds.put(locale, id);
+        }
+        return id;
+    }
+
+    private int tagId(String tag) {
+        return tagIds.computeIfAbsent(tag, k -> {
+            tagNames.add(k);
+            return tagNames.size() - 1;
+        });
+    }
+
+    private long toEpochMillis(LocalDateTime value) {
+        return Objects.isNull(value) ? NO_TIMESTAMP : value.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == NO_TIMESTAMP ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
@@ -5,10 +5,12 @@ import com.digitaltolk.translation_management_service.entity.Translation;
 import com.digitaltolk.translation_management_service.repository.TranslationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -18,7 +20,8 @@ public class DataInitializer implements CommandLineRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
     private final TranslationRepository translationRepository;
-    private final Random random = new Random();
+    private final int recordCount;
+    private final Random random;
     private final String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private final char[] charArray = chars.toCharArray();
 
@@ -26,26 +29,42 @@ public class DataInitializer implements CommandLineRunner {
     private final String[] tags = {"mobile", "desktop", "web", "app", "ui", "button", "message", "error", "success"};
     private final String[] keyPrefixes = {"app", "common", "user", "product", "order", "payment", "profile", "settings"};
 
-    public DataInitializer(TranslationRepository translationRepository) {
+    /**
+     * Data is generated from a fixed seed, so the same records and seed always produce the
+     * same dataset. Set the record count to 0 to start with an empty database.
+     */
+    public DataInitializer(TranslationRepository translationRepository,
+                           @Value("${translation.seed.records:100000}") int recordCount,
+                           @Value("${translation.seed.random-seed:42}") long randomSeed) {
         this.translationRepository = translationRepository;
+        this.recordCount = recordCount;
+        this.random = new Random(randomSeed);
     }
 
     @Override
     public void run(String... args) throws Exception {
-        if (translationRepository.count() == 0) {
-            logger.info("Populating database with test data...");
-            populateDatabase(100000);
+        if (recordCount > 0 && translationRepository.count() == 0) {
+            logger.info("Populating database with {} test records...", recordCount);
+            populateDatabase(recordCount);
             logger.info("Database population completed!");
         }
     }
 
     public void populateDatabase(int recordCount) {
         List<Translation> translations = new ArrayList<>();
+        Set<String> naturalKeys = new HashSet<>();
 
         for (int i = 0; i < recordCount; i++) {
+            String key;
+            String locale;
+            do {
+                key = generateRandomKey();
+                locale = locales[random.nextInt(locales.length)];
+            } while (!naturalKeys.add(key + "|" + locale));
+
             Translation translation = new Translation();
-            translation.setTranslationKey(generateRandomKey());
-            translation.setLocale(locales[random.nextInt(locales.length)]);
+            translation.setTranslationKey(key);
+            translation.setLocale(locale);
             translation.setContent(generateRandomContent());
             translation.setTags(generateRandomTags());
 
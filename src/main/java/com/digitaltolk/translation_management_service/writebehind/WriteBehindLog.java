@@ -0,0 +1,147 @@
+package com.digitaltolk.translation_management_service.writebehind;
+
+import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only JSON-lines log of accepted writes. Every append is forced to disk before it
+ * returns, so an acknowledged write survives a crash.
+ * <p>
+ * A separate checkpoint file holds the highest sequence whose writes, and all before it,
+ * are committed to the database. Replay returns the entries past the checkpoint; a torn
+ * last line from a crash mid-append is skipped. Writes that can never be applied are moved
+ * to a dead-letter file next to the log. Not thread-safe, callers serialize access.
+ */
+class WriteBehindLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindLog.class);
+    private static final String LOG_FILE = "translations.log";
+    private static final String CHECKPOINT_FILE = "translations.checkpoint";
+    private static final String DEAD_LETTER_FILE = "translations.dead-letter";
+
+    record Entry(long sequence, TranslationRequestDto translation) { }
+
+    record DeadLetter(long sequence, TranslationRequestDto translation, String error, Instant failedAt) { }
+
+    private final ObjectMapper objectMapper;
+    private final Path logFile;
+    private final Path checkpointFile;
+    private final Path deadLetterFile;
+    private final FileChannel channel;
+    private long checkpoint;
+    private long lastSequence;
+
+    WriteBehindLog(Path directory, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        Files.createDirectories(directory);
+        this.logFile = directory.resolve(LOG_FILE);
+        this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        this.deadLetterFile = directory.resolve(DEAD_LETTER_FILE);
+        this.checkpoint = Files.exists(checkpointFile)
+                ? Long.parseLong(Files.readString(checkpointFile, StandardCharsets.UTF_8).trim())
+                : 0L;
+        this.lastSequence = checkpoint;
+        this.channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Entries written after the last checkpoint, in append order.
+     */
+    List<Entry> replay() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Entry entry;
+                try {
+                    entry = objectMapper.readValue(line, Entry.class);
+                } catch (IOException e) {
+                    logger.warn("Skipping unreadable write-behind log line: {}", e.getMessage());
+                    continue;
+                }
+                lastSequence = Math.max(lastSequence, entry.sequence());
+                if (entry.sequence() > checkpoint) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    long append(TranslationRequestDto translation) throws IOException {
+        long sequence = lastSequence + 1;
+        writeLine(channel, objectMapper.writeValueAsBytes(new Entry(sequence, translation)));
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Durably record a write that will not be applied, so it can be inspected and resubmitted
+     * once it has been dropped from the log.
+     */
+    void deadLetter(long sequence, TranslationRequestDto translation, String error) throws IOException {
+        try (FileChannel deadLetters = FileChannel.open(deadLetterFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeLine(deadLetters, objectMapper.writeValueAsBytes(new DeadLetter(sequence, translation, error, Instant.now())));
+        }
+    }
+
+    /**
+     * Record that every entry up to {@code sequence} is in the database. When that covers
+     * the whole log it is truncated.
+     */
+    void checkpoint(long sequence) throws IOException {
+        if (sequence <= checkpoint) {
+            return;
+        }
+        Path temp = checkpointFile.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(sequence), StandardCharsets.UTF_8);
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = sequence;
+        if (checkpoint == lastSequence) {
+            channel.truncate(0);
+            channel.force(true);
+        }
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void writeLine(FileChannel target, byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(line.length + 1).put(line).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        target.force(false);
+    }
+}
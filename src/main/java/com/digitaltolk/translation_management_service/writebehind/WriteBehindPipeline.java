@@ -0,0 +1,331 @@
+package com.digitaltolk.translation_management_service.writebehind;
+
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
+import com.digitaltolk.translation_management_service.exception.DuplicateTranslationException;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import com.digitaltolk.translation_management_service.exception.WriteBehindUnavailableException;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind path for create-or-update by (key, locale).
+ * <p>
+ * A write is acknowledged once it is forced to the {@link WriteBehindLog}. Pending writes
+ * are coalesced per (key, locale), so only the latest one reaches the database, and a
+ * scheduled flush upserts them in batched transactions through
+ * {@link TranslationService#applyWriteBatch}. Once the pending set is full new keys are
+ * rejected until the flush catches up. On startup the log past the last checkpoint is
+ * replayed into the pending set.
+ * <p>
+ * A write that fails stays pending and is retried with exponential backoff, from
+ * {@code retry-initial-backoff} up to {@code retry-max-backoff}, so the checkpoint never
+ * passes an acknowledged write that is not in the database. Only writes that can never be
+ * applied (a broken constraint other than the (key, locale) key, or a validation failure)
+ * are moved to the dead-letter file and counted.
+ * <p>
+ * Enabled with {@code translation.write-behind.enabled=true}, which also requires
+ * {@code translation.write-behind.directory} to name persistent storage.
+ */
+@Component
+@ConditionalOnProperty(name = "translation.write-behind.enabled", havingValue = "true")
+public class WriteBehindPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindPipeline.class);
+
+    /**
+     * Latest write for a key. {@code firstSequence} is the oldest log entry for the key that
+     * is not yet in the database. A failed write is not retried before {@code retryAtNanos}.
+     */
+    private record Pending(long firstSequence, long lastSequence, TranslationRequestDto translation,
+                           int attempts, long retryAtNanos) {
+
+        Pending(long firstSequence, long lastSequence, TranslationRequestDto translation) {
+            this(firstSequence, lastSequence, translation, 0, 0L);
+        }
+
+        boolean isDue(long now) {
+            return attempts == 0 || now - retryAtNanos >= 0;
+        }
+    }
+
+    public record Stats(long accepted, long coalesced, long rejected, long flushedWrites, long flushedBatches,
+                        long failedWrites, long deadLettered, int pending, int retrying, long lastFlushMillis,
+                        long logBytes) { }
+
+    private final TranslationService translationService;
+    private final WriteBehindLog log;
+    private final int maxPending;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    private final LinkedHashMap<TranslationKeyDto, Pending> pending = new LinkedHashMap<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong flushedWrites = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private volatile long lastFlushMillis;
+
+    public WriteBehindPipeline(TranslationService translationService,
+                               ObjectMapper objectMapper,
+                               @Value("${translation.write-behind.directory:}") String directory,
+                               @Value("${translation.write-behind.max-pending:10000}") int maxPending,
+                               @Value("${translation.write-behind.batch-size:500}") int batchSize,
+                               @Value("${translation.write-behind.retry-initial-backoff:1s}") Duration initialBackoff,
+                               @Value("${translation.write-behind.retry-max-backoff:1m}") Duration maxBackoff) throws IOException {
+        if (StringUtils.isBlank(directory)) {
+            throw new IllegalStateException("translation.write-behind.directory must name a persistent directory " +
+                    "when translation.write-behind.enabled=true");
+        }
+        Path logDirectory = Paths.get(directory).toAbsolutePath();
+        if (logDirectory.startsWith(Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath())) {
+            logger.warn("Write-behind log is in the temp directory {}, acknowledged writes may not survive a reboot", logDirectory);
+        }
+        this.translationService = translationService;
+        this.log = new WriteBehindLog(logDirectory, objectMapper);
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        synchronized (lock) {
+            List<WriteBehindLog.Entry> entries = log.replay();
+            entries.forEach(entry -> enqueue(entry.sequence(), entry.translation()));
+            if (!entries.isEmpty()) {
+                logger.info("Replayed {} write-behind log entries into {} pending writes", entries.size(), pending.size());
+            }
+        }
+    }
+
+    /**
+     * Durably accept a write.
+     *
+     * @return log sequence of the write
+     * @throws WriteBehindUnavailableException when the pending set is full
+     */
+    public long submit(TranslationRequestDto translation) {
+        synchronized (lock) {
+            TranslationKeyDto key = new TranslationKeyDto(translation.getTranslationKey(), translation.getLocale());
+            if (!pending.containsKey(key) && pending.size() >= maxPending) {
+                rejected.incrementAndGet();
+                throw new WriteBehindUnavailableException("Write-behind queue is full, retry later");
+            }
+            long sequence;
+            try {
+                sequence = log.append(translation);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to write-behind log", e);
+            }
+            enqueue(sequence, translation);
+            accepted.incrementAndGet();
+            return sequence;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${translation.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        synchronized (flushLock) {
+            long flushStart = System.nanoTime();
+            List<Map.Entry<TranslationKeyDto, Pending>> batch;
+            while (!(batch = drain(flushStart)).isEmpty()) {
+                long start = System.nanoTime();
+                write(batch);
+                flushedBatches.incrementAndGet();
+                lastFlushMillis = (System.nanoTime() - start) / 1_000_000;
+                checkpoint();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flush();
+        log.close();
+    }
+
+    public Stats stats() {
+        synchronized (lock) {
+            long logBytes;
+            try {
+                logBytes = log.size();
+            } catch (IOException e) {
+                logBytes = -1;
+            }
+            int retrying = (int) pending.values().stream().filter(write -> write.attempts() > 0).count();
+            return new Stats(accepted.get(), coalesced.get(), rejected.get(), flushedWrites.get(), flushedBatches.get(),
+                    failedWrites.get(), deadLettered.get(), pending.size(), retrying, lastFlushMillis, logBytes);
+        }
+    }
+
+    private void enqueue(long sequence, TranslationRequestDto translation) {
+        TranslationKeyDto key = new TranslationKeyDto(translation.getTranslationKey(), translation.getLocale());
+        Pending previous = pending.get(key);
+        if (Objects.nonNull(previous)) {
+            coalesced.incrementAndGet();
+        }
+        pending.put(key, new Pending(Objects.nonNull(previous) ? previous.firstSequence() : sequence, sequence, translation));
+    }
+
+    /**
+     * Up to a batch of pending writes that are not waiting out a retry backoff. Writes that
+     * failed during this flush are left for the next one.
+     */
+    private List<Map.Entry<TranslationKeyDto, Pending>> drain(long now) {
+        synchronized (lock) {
+            List<Map.Entry<TranslationKeyDto, Pending>> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            Iterator<Map.Entry<TranslationKeyDto, Pending>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                Map.Entry<TranslationKeyDto, Pending> entry = iterator.next();
+                if (entry.getValue().isDue(now)) {
+                    batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Write a batch in one transaction. If that fails each write is retried on its own, so one
+     * bad row cannot hold back the rest. A write that still fails is dead-lettered when it can
+     * never succeed and otherwise stays pending for a later retry.
+     */
+    private void write(List<Map.Entry<TranslationKeyDto, Pending>> batch) {
+        try {
+            translationService.applyWriteBatch(batch.stream().map(entry -> entry.getValue().translation()).toList());
+            complete(batch);
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("Write-behind batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+        }
+        for (Map.Entry<TranslationKeyDto, Pending> entry : batch) {
+            try {
+                translationService.applyWriteBatch(List.of(entry.getValue().translation()));
+                complete(List.of(entry));
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                if (isPermanent(e)) {
+                    deadLetter(entry, e);
+                } else {
+                    scheduleRetry(entry, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether a write can never be applied as it stands. Unique (key, locale) violations come
+     * from a concurrent create of the same key and succeed as an update on retry; lock, timeout
+     * and connection failures are transient.
+     */
+    private static boolean isPermanent(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return !DuplicateTranslationException.isDuplicateKey(e);
+        }
+        return ExceptionUtils.indexOfType(e, ConstraintViolationException.class) >= 0
+                || e instanceof IllegalArgumentException
+                || e instanceof InvalidTranslationRequestException;
+    }
+
+    private void scheduleRetry(Map.Entry<TranslationKeyDto, Pending> entry, RuntimeException e) {
+        synchronized (lock) {
+            Pending failed = entry.getValue();
+            if (pending.get(entry.getKey()) != failed) {
+                // A newer write for the key replaced it and is due now
+                return;
+            }
+            int attempts = failed.attempts() + 1;
+            long backoffNanos = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempts - 1, 20));
+            pending.put(entry.getKey(), new Pending(failed.firstSequence(), failed.lastSequence(), failed.translation(),
+                    attempts, System.nanoTime() + backoffNanos));
+            logger.warn("Write-behind write for {} failed {} times, retrying in {} ms: {}", entry.getKey(), attempts,
+                    TimeUnit.NANOSECONDS.toMillis(backoffNanos), e.getMessage());
+        }
+    }
+
+    private void deadLetter(Map.Entry<TranslationKeyDto, Pending> entry, RuntimeException e) {
+        Pending failed = entry.getValue();
+        try {
+            log.deadLetter(failed.lastSequence(), failed.translation(), e.getMessage());
+        } catch (IOException io) {
+            logger.error("Failed to dead-letter write-behind write for {}, keeping it pending: {}", entry.getKey(), io.getMessage());
+            scheduleRetry(entry, e);
+            return;
+        }
+        synchronized (lock) {
+            if (pending.get(entry.getKey()) == failed) {
+                pending.remove(entry.getKey());
+            } else if (pending.containsKey(entry.getKey())) {
+                Pending current = pending.get(entry.getKey());
+                pending.put(entry.getKey(), new Pending(failed.lastSequence() + 1, current.lastSequence(), current.translation()));
+            }
+            deadLettered.incrementAndGet();
+        }
+        logger.error("Dead-lettered write-behind write for {}: {}", entry.getKey(), e.getMessage());
+    }
+
+    /**
+     * Remove flushed writes unless a newer write for the same key arrived meanwhile.
+     */
+    private void complete(List<Map.Entry<TranslationKeyDto, Pending>> written) {
+        synchronized (lock) {
+            for (Map.Entry<TranslationKeyDto, Pending> entry : written) {
+                Pending current = pending.get(entry.getKey());
+                if (current == entry.getValue()) {
+                    pending.remove(entry.getKey());
+                    flushedWrites.incrementAndGet();
+                } else if (Objects.nonNull(current)) {
+                    pending.put(entry.getKey(), new Pending(entry.getValue().lastSequence() + 1,
+                            current.lastSequence(), current.translation()));
+                    flushedWrites.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void checkpoint() {
+        synchronized (lock) {
+            long oldestPending = pending.values().stream().mapToLong(Pending::firstSequence).min().orElse(Long.MAX_VALUE);
+            try {
+                log.checkpoint(Math.min(oldestPending - 1, log.lastSequence()));
+            } catch (IOException e) {
+                logger.warn("Failed to checkpoint write-behind log: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.digitaltolk.translation_management_service.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final String HEAVY_SIZE = "10000";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * Heavy content searches hold their slots until released, like queries holding pool
+     * connections. Once they fill the expensive share further heavy searches are shed, while a
+     * cheap search is still admitted straight through.
+     */
+    @Test
+    void overload_ShedsHeavySearchesAndKeepsSlotsForCheapOnes() throws Exception {
+        AdmissionControlFilter filter = filter(new ClientRateLimiter("", Duration.ofMinutes(1)), limiter());
+        CountDownLatch heavyRunning = new CountDownLatch(POOL_SIZE / 2);
+        CountDownLatch releaseHeavy = new CountDownLatch(1);
+        FilterChain database = (request, response) -> {
+            if (HEAVY_SIZE.equals(request.getParameter("size"))) {
+                heavyRunning.countDown();
+                try {
+                    releaseHeavy.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE / 2);
+        try {
+            List<Future<MockHttpServletResponse>> heavy = new ArrayList<>();
+            for (int i = 0; i < POOL_SIZE / 2; i++) {
+                MockHttpServletRequest request = searchRequest("greedy-" + i, HEAVY_SIZE, "%");
+                heavy.add(executor.submit(() -> doFilter(filter, request, database)));
+            }
+            assertTrue(heavyRunning.await(10, TimeUnit.SECONDS));
+
+            MockHttpServletResponse shed = doFilter(filter, searchRequest("greedy-shed", HEAVY_SIZE, "%"), database);
+            MockHttpServletResponse polite = doFilter(filter, searchRequest("polite", "20", null), database);
+
+            assertEquals(503, shed.getStatus());
+            assertEquals("1", shed.getHeader("Retry-After"));
+            assertEquals(200, polite.getStatus());
+
+            releaseHeavy.countDown();
+            for (Future<MockHttpServletResponse> response : heavy) {
+                assertEquals(200, response.get(10, TimeUnit.SECONDS).getStatus());
+            }
+        } finally {
+            releaseHeavy.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(200, doFilter(filter, searchRequest("greedy-shed", HEAVY_SIZE, "%"), database).getStatus());
+        assertEquals(1.0, registry.get("translation.admission.rejected").tag("reason", "concurrency").counter().count());
+    }
+
+    @Test
+    void rateLimiter_RefillsAtConfiguredRate() {
+        ClientRateLimiter rateLimiter = new ClientRateLimiter("search=20/40", Duration.ofMinutes(1));
+        long start = 1_000_000_000L;
+
+        assertEquals(0L, rateLimiter.tryAcquire("alice", EndpointClass.SEARCH, 40, start));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.tryAcquire("alice", EndpointClass.SEARCH, 10, start), 1.0);
+        assertTrue(rateLimiter.tryAcquire("alice", EndpointClass.SEARCH, 10, start + TimeUnit.MILLISECONDS.toNanos(250)) > 0);
+        assertEquals(0L, rateLimiter.tryAcquire("alice", EndpointClass.SEARCH, 10, start + TimeUnit.MILLISECONDS.toNanos(501)));
+        // A request costing more than the burst drains the bucket rather than waiting forever
+        assertEquals(0L, rateLimiter.tryAcquire("bob", EndpointClass.SEARCH, 1000, start));
+        assertEquals(0L, rateLimiter.tryAcquire("alice", EndpointClass.WRITE, 1000, start));
+    }
+
+    @Test
+    void concurrencyLimit_NeverExceedsConnectionPool() {
+        assertEquals(5, new AdaptiveConcurrencyLimiter(0, 2, 0, 5, Duration.ofSeconds(1), 0.5, registry).getLimit());
+        assertEquals(5, new AdaptiveConcurrencyLimiter(8, 2, 20, 5, Duration.ofSeconds(1), 0.5, registry).getLimit());
+        assertEquals(3, new AdaptiveConcurrencyLimiter(3, 2, 0, 5, Duration.ofSeconds(1), 0.5, registry).getLimit());
+    }
+
+    @Test
+    void rateLimit_RejectsWithRetryAfter() throws Exception {
+        AdmissionControlFilter filter = filter(new ClientRateLimiter("search=1/5", Duration.ofMinutes(1)), limiter());
+
+        MockHttpServletResponse first = doFilter(filter, searchRequest("alice", "1000", "%"), (req, res) -> { });
+        MockHttpServletResponse second = doFilter(filter, searchRequest("alice", "250", null), (req, res) -> { });
+        MockHttpServletResponse otherClient = doFilter(filter, searchRequest("bob", "50", null), (req, res) -> { });
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals("5", second.getHeader("Retry-After"));
+        assertEquals(200, otherClient.getStatus());
+    }
+
+    @Test
+    void cost_WeighsPageSizeAndContentSearches() {
+        AdmissionControlFilter filter = filter(new ClientRateLimiter("", Duration.ofMinutes(1)), limiter());
+
+        assertEquals(1.0, filter.cost(EndpointClass.SEARCH, "/search/by-key", searchRequest("a", "50", null)));
+        assertEquals(200.0, filter.cost(EndpointClass.SEARCH, "", searchRequest("a", "10000", null)));
+        assertEquals(1000.0, filter.cost(EndpointClass.SEARCH, "", searchRequest("a", "10000", "%")));
+        assertEquals(10.0, filter.cost(EndpointClass.WRITE, "/bulk/delete", new MockHttpServletRequest()));
+        assertEquals(EndpointClass.READ, filter.classify("POST", "/batch", new MockHttpServletRequest()));
+        assertEquals(EndpointClass.EXPORT, filter.classify("GET", "/search/by-locale", new MockHttpServletRequest()));
+    }
+
+    @Test
+    void concurrencyLimit_BacksOffOnSlowResponsesAndGrowsOnFastOnes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, 20, Duration.ofMillis(100), 0.5, registry);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(false));
+        }
+        assertFalse(limiter.tryAcquire(false));
+        for (int i = 0; i < 10; i++) {
+            limiter.release(false, TimeUnit.MILLISECONDS.toNanos(500));
+        }
+        assertEquals(3, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(false);
+            limiter.tryAcquire(false);
+            limiter.release(false, TimeUnit.MILLISECONDS.toNanos(1));
+            limiter.release(false, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertTrue(limiter.getLimit() > 3);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private AdmissionControlFilter filter(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimiter limiter) {
+        return new AdmissionControlFilter(rateLimiter, limiter, new ObjectMapper().findAndRegisterModules(),
+                registry, true, 50, 5, 10);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(0, 2, 0, POOL_SIZE, Duration.ofSeconds(1), 0.5, new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest searchRequest(String client, String size, String content) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/translations");
+        request.setUserPrincipal(() -> client);
+        request.setParameter("size", size);
+        if (content != null) {
+            request.setParameter("content", content);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse doFilter(AdmissionControlFilter filter, MockHttpServletRequest request,
+                                                    FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (filter == null) {
+            chain.doFilter(request, response);
+        } else {
+            filter.doFilter(request, response, chain);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,81 @@
+package com.digitaltolk.translation_management_service.cache;
+
+import com.digitaltolk.translation_management_service.compression.CompressedPayload;
+import com.digitaltolk.translation_management_service.compression.ContentCoding;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedPayloadCacheTest {
+
+    private final CompressedPayloadCache cache = new CompressedPayloadCache(2);
+
+    @Test
+    void put_BeyondCapacity_EvictsLeastRecentlyUsed() {
+        put("en", "a");
+        put("en", "b");
+        cache.get("a");
+
+        put("fr", "c");
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    void invalidateLocale_EvictsOnlyThatLocale() {
+        put("en", "a");
+        put("fr", "b");
+
+        cache.invalidateLocale("en");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+    }
+
+    @Test
+    void put_AfterInvalidationOfItsGroup_IsDropped() {
+        long generation = cache.generation("en");
+        long otherGeneration = cache.generation("fr");
+
+        cache.invalidateLocale("en");
+        cache.put("en", "a", payload(), generation);
+        cache.put("fr", "b", payload(), otherGeneration);
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+    }
+
+    @Test
+    void put_AfterClear_IsDropped() {
+        long generation = cache.generation(CompressedPayloadCache.AVAILABLE_LOCALES_GROUP);
+
+        cache.clear();
+        cache.put(CompressedPayloadCache.AVAILABLE_LOCALES_GROUP, "locales", payload(), generation);
+
+        assertNull(cache.get("locales"));
+        put(CompressedPayloadCache.AVAILABLE_LOCALES_GROUP, "locales");
+        assertNotNull(cache.get("locales"));
+    }
+
+    @Test
+    void generation_NeverRepeatsAcrossClear() {
+        cache.invalidateLocale("en");
+        cache.invalidateLocale("en");
+        long beforeClear = cache.generation("en");
+
+        cache.clear();
+
+        assertTrue(cache.generation("en") > beforeClear);
+    }
+
+    private void put(String group, String key) {
+        cache.put(group, key, payload(), cache.generation(group));
+    }
+
+    private static CompressedPayload payload() {
+        return new CompressedPayload(ContentCoding.GZIP, "application/json", new byte[] {1, 2, 3});
+    }
+}
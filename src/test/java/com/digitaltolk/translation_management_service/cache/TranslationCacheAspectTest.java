@@ -0,0 +1,66 @@
+package com.digitaltolk.translation_management_service.cache;
+
+import com.digitaltolk.translation_management_service.dto.BulkOperationResultDto;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationCacheAspectTest {
+
+    @Mock
+    private TranslationCacheManager cacheManager;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private TranslationCacheAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new TranslationCacheAspect(cacheManager, ObservationRegistry.NOOP);
+    }
+
+    @Test
+    void bulkOperation_ClearsCachesOnceWhenRowsChanged() throws Throwable {
+        BulkOperationResultDto result = new BulkOperationResultDto("delete", false, 3, 3);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {null, false});
+        when(joinPoint.proceed()).thenReturn(result);
+
+        assertSame(result, aspect.aroundBulkOperation(joinPoint));
+        verify(cacheManager).clearAllCaches();
+    }
+
+    @Test
+    void bulkOperation_DryRunOrNoMatches_KeepsCaches() throws Throwable {
+        when(joinPoint.getArgs()).thenReturn(new Object[] {null, true}, new Object[] {null, false});
+        when(joinPoint.proceed()).thenReturn(new BulkOperationResultDto("delete", true, 3, 0),
+                new BulkOperationResultDto("retag", false, 0, 0));
+
+        aspect.aroundBulkOperation(joinPoint);
+        aspect.aroundBulkOperation(joinPoint);
+
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    void bulkOperation_FailingAfterEarlierBatches_StillClearsCaches() throws Throwable {
+        Signature signature = mock(Signature.class);
+        when(signature.getName()).thenReturn("bulkDelete");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {null, false});
+        when(joinPoint.proceed()).thenThrow(new QueryTimeoutException("deadline exceeded"));
+
+        assertThrows(QueryTimeoutException.class, () -> aspect.aroundBulkOperation(joinPoint));
+        verify(cacheManager).clearAllCaches();
+    }
+}
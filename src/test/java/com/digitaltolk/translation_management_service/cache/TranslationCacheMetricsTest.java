@@ -0,0 +1,59 @@
+package com.digitaltolk.translation_management_service.cache;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationCacheMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private TranslationCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager();
+        CompressedPayloadCache compressedPayloadCache = new CompressedPayloadCache(16);
+        cacheManager = new TranslationCacheManager(caches, compressedPayloadCache,
+                new TranslationCacheMetrics(registry, caches, compressedPayloadCache));
+    }
+
+    @Test
+    void lookups_CountHitsAndMissesPerCache() {
+        TranslationResponseDto translation = new TranslationResponseDto();
+        translation.setId(1L);
+        cacheManager.cacheTranslationById(1L, translation);
+
+        cacheManager.getCachedTranslationById(1L);
+        cacheManager.getCachedTranslationById(2L);
+        cacheManager.getCachedTranslationsByIds(List.of(1L, 2L, 3L));
+
+        assertEquals(2.0, gets(TranslationCacheManager.TRANSLATIONS_CACHE, "hit"));
+        assertEquals(3.0, gets(TranslationCacheManager.TRANSLATIONS_CACHE, "miss"));
+        assertEquals(1.0, registry.get("translation.cache.size")
+                .tag("cache", TranslationCacheManager.TRANSLATIONS_CACHE).gauge().value());
+    }
+
+    @Test
+    void invalidation_CountsEvictedEntries() {
+        cacheManager.cacheTranslationsByLocale("en", 0, 50, "id", "asc", List.of());
+        cacheManager.cacheTranslationsByLocale("en", 1, 50, "id", "asc", List.of());
+
+        cacheManager.invalidateLocaleCache("en");
+
+        assertEquals(2.0, registry.get("translation.cache.evictions")
+                .tag("cache", TranslationCacheManager.LOCALE_TRANSLATIONS_CACHE).counter().count());
+        assertNull(cacheManager.getCachedTranslationsByLocale("en", 0, 50, "id", "asc"));
+        assertEquals(1.0, gets(TranslationCacheManager.LOCALE_TRANSLATIONS_CACHE, "miss"));
+    }
+
+    private double gets(String cache, String result) {
+        return registry.get("translation.cache.gets").tag("cache", cache).tag("result", result).counter().count();
+    }
+}
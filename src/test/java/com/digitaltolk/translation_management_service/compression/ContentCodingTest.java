@@ -0,0 +1,55 @@
+package com.digitaltolk.translation_management_service.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentCodingTest {
+
+    private final ContentCoding preferred = ContentCoding.ZSTD.isAvailable() ? ContentCoding.ZSTD : ContentCoding.GZIP;
+
+    @Test
+    void negotiate_PrefersZstdWhenAvailable() {
+        assertEquals(preferred, ContentCoding.negotiate("gzip, deflate, br, zstd"));
+        assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("gzip"));
+        assertEquals(ContentCoding.GZIP, ContentCoding.negotiate(" GZIP ;q=0.5"));
+    }
+
+    @Test
+    void negotiate_NothingAcceptable_IsNull() {
+        assertNull(ContentCoding.negotiate(null));
+        assertNull(ContentCoding.negotiate(""));
+        assertNull(ContentCoding.negotiate("identity"));
+        assertNull(ContentCoding.negotiate("br, deflate"));
+    }
+
+    @Test
+    void negotiate_ZeroWeightRefusesCoding() {
+        assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("zstd;q=0, gzip"));
+        assertNull(ContentCoding.negotiate("gzip; q=0.000"));
+    }
+
+    @Test
+    void negotiate_MalformedWeight_CountsAsDefault() {
+        assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("gzip;q=high"));
+        assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("gzip;q="));
+        assertEquals(preferred, ContentCoding.negotiate("zstd;q=1.0.0, gzip"));
+    }
+
+    @Test
+    void gzip_RoundTrips() throws IOException {
+        byte[] data = "{\"content\":\"Hello\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        byte[] compressed = ContentCoding.GZIP.compress(data, 6);
+
+        assertTrue(compressed.length < data.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.digitaltolk.translation_management_service.compression;
+
+import com.digitaltolk.translation_management_service.cache.CompressedPayloadCache;
+import com.digitaltolk.translation_management_service.export.PageSizeLimits;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecompressedResponseFilterTest {
+
+    private static final String LOCALES_PATH = "/api/v1/translations/locales";
+    private static final String BODY = "[\"en\",\"fr\",\"de\"]".repeat(20);
+
+    private final CompressedPayloadCache payloadCache = new CompressedPayloadCache(16);
+    private final PrecompressedResponseFilter filter =
+            new PrecompressedResponseFilter(payloadCache, new PageSizeLimits(500, ""), 64, 3);
+    private final AtomicInteger rendered = new AtomicInteger();
+
+    @Test
+    void cacheableResponse_IsCompressedOnceAndServedFromCache() throws Exception {
+        MockHttpServletResponse first = execute(request(LOCALES_PATH, "gzip"), jsonChain(BODY));
+        MockHttpServletResponse second = execute(request(LOCALES_PATH, "gzip"), jsonChain(BODY));
+
+        assertEquals(1, rendered.get());
+        for (MockHttpServletResponse response : new MockHttpServletResponse[] {first, second}) {
+            assertEquals(200, response.getStatus());
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+            assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+        }
+    }
+
+    @Test
+    void clientWithoutSupportedCoding_GetsUncompressedBody() throws Exception {
+        MockHttpServletResponse response = execute(request(LOCALES_PATH, "br"), jsonChain(BODY));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY, response.getContentAsString());
+        assertEquals(0, payloadCache.size());
+    }
+
+    @Test
+    void smallResponse_IsPassedThroughUncached() throws Exception {
+        MockHttpServletResponse response = execute(request(LOCALES_PATH, "gzip"), jsonChain("[\"en\"]"));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("[\"en\"]", response.getContentAsString());
+        assertEquals(0, payloadCache.size());
+    }
+
+    @Test
+    void invalidationWhileRendering_IsNotUndoneByCaching() throws Exception {
+        FilterChain staleChain = (request, response) -> {
+            jsonChain(BODY).doFilter(request, response);
+            payloadCache.invalidateAvailableLocales();
+        };
+
+        MockHttpServletResponse response = execute(request(LOCALES_PATH, "gzip"), staleChain);
+
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+        assertEquals(0, payloadCache.size());
+        execute(request(LOCALES_PATH, "gzip"), jsonChain(BODY));
+        assertEquals(2, rendered.get());
+    }
+
+    @Test
+    void otherEndpointsAndOversizedExports_AreNotFiltered() throws Exception {
+        MockHttpServletRequest search = request("/api/v1/translations/search", "gzip");
+        MockHttpServletRequest oversized = request("/api/v1/translations/search/by-locale", "gzip");
+        oversized.setParameter("locale", "en");
+        oversized.setParameter("size", "100000");
+        MockHttpServletRequest post = request(LOCALES_PATH, "gzip");
+        post.setMethod("POST");
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {search, oversized, post}) {
+            MockHttpServletResponse response = execute(request, jsonChain(BODY));
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(BODY, response.getContentAsString());
+        }
+        assertEquals(0, payloadCache.size());
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain jsonChain(String body) {
+        return (request, response) -> {
+            rendered.incrementAndGet();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static MockHttpServletRequest request(String path, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
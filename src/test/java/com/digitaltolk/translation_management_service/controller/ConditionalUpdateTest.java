@@ -0,0 +1,77 @@
+package com.digitaltolk.translation_management_service.controller;
+
+import com.digitaltolk.translation_management_service.dto.BulkTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * If-Match on updates: only the current strong ETag lets a write through.
+ */
+@SpringBootTest(properties = "translation.seed.records=0")
+@AutoConfigureMockMvc
+@WithMockUser
+class ConditionalUpdateTest {
+
+    private static final String UPDATE = "{\"key\":\"conditional.title\",\"locale\":\"sv\",\"content\":\"Ny titel\",\"tags\":[\"web\"]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TranslationService translationService;
+
+    private Long id;
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        translationService.bulkDelete(new BulkTranslationRequestDto("conditional.", null, null, null, null), false);
+        TranslationResponseDto created = translationService.createTranslation(
+                new TranslationRequestDto("conditional.title", "sv", "Titel", Set.of("web")));
+        id = created.getId();
+        version = created.getVersion();
+    }
+
+    @Test
+    void update_CurrentStrongETag_SucceedsAndReturnsNextETag() throws Exception {
+        update("\"" + version + "\"")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""));
+    }
+
+    @Test
+    void update_StaleETag_IsPreconditionFailed() throws Exception {
+        update("\"" + version + "\"").andExpect(status().isOk());
+
+        update("\"" + version + "\"").andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void update_WeakETag_IsPreconditionFailedEvenWhenCurrent() throws Exception {
+        update("W/\"" + version + "\"").andExpect(status().isPreconditionFailed());
+    }
+
+    private ResultActions update(String ifMatch) throws Exception {
+        return mockMvc.perform(put("/api/v1/translations/" + id)
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(UPDATE));
+    }
+}
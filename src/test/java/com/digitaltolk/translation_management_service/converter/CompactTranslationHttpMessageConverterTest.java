@@ -0,0 +1,87 @@
+package com.digitaltolk.translation_management_service.converter;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactTranslationHttpMessageConverterTest {
+
+    private static final Type TRANSLATION_PAGE = new ParameterizedTypeReference<Page<TranslationResponseDto>>() {}.getType();
+    private static final Type TRANSLATION_LIST = new ParameterizedTypeReference<List<TranslationResponseDto>>() {}.getType();
+    private static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+    private final CborTranslationHttpMessageConverter cbor = new CborTranslationHttpMessageConverter();
+    private final MessagePackTranslationHttpMessageConverter msgpack = new MessagePackTranslationHttpMessageConverter();
+
+    @Test
+    void canWrite_OnlyTranslationPagesAndListsInItsMediaType() {
+        assertTrue(cbor.canWrite(TRANSLATION_PAGE, Page.class, MediaType.APPLICATION_CBOR));
+        assertTrue(cbor.canWrite(TRANSLATION_LIST, List.class, MediaType.APPLICATION_CBOR));
+        assertTrue(msgpack.canWrite(TRANSLATION_LIST, List.class, MessagePackTranslationHttpMessageConverter.APPLICATION_MSGPACK));
+        assertTrue(msgpack.canWrite(TRANSLATION_LIST, List.class, new MediaType("application", "msgpack")));
+
+        assertFalse(cbor.canWrite(STRING_LIST, List.class, MediaType.APPLICATION_CBOR));
+        assertFalse(cbor.canWrite(TranslationResponseDto.class, TranslationResponseDto.class, MediaType.APPLICATION_CBOR));
+        assertFalse(cbor.canWrite(Map.class, Map.class, MediaType.APPLICATION_CBOR));
+        assertFalse(cbor.canWrite(TRANSLATION_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(msgpack.canWrite(TRANSLATION_LIST, List.class, MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void cbor_WritesCompactBundle() throws IOException {
+        JsonNode bundle = write(cbor, new ObjectMapper(new CBORFactory()), MediaType.APPLICATION_CBOR, List.of(translation()));
+
+        assertEquals("en", bundle.get("locale").asText());
+        assertEquals("app.title", bundle.get("rows").get(0).get(1).asText());
+    }
+
+    @Test
+    void msgpack_WritesCompactPage() throws IOException {
+        JsonNode page = write(msgpack, new ObjectMapper(new MessagePackFactory()),
+                MessagePackTranslationHttpMessageConverter.APPLICATION_MSGPACK, new PageImpl<>(List.of(translation())));
+
+        assertEquals("en", page.get("locale").asText());
+        assertEquals(1, page.get("page").get("total_elements").asLong());
+        assertEquals("Title", page.get("rows").get(0).get(2).asText());
+    }
+
+    @Test
+    void read_IsRejected() {
+        assertFalse(cbor.canRead(TRANSLATION_LIST, null, MediaType.APPLICATION_CBOR));
+        assertThrows(HttpMessageNotReadableException.class, () -> cbor.read(TRANSLATION_LIST, null,
+                new MockHttpInputMessage(new byte[0])));
+    }
+
+    private static JsonNode write(AbstractCompactTranslationHttpMessageConverter converter, ObjectMapper reader,
+                                  MediaType mediaType, Object body) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, body instanceof Page<?> ? TRANSLATION_PAGE : TRANSLATION_LIST, mediaType, output);
+
+        assertEquals(mediaType, output.getHeaders().getContentType());
+        return reader.readTree(output.getBodyAsBytes());
+    }
+
+    private static TranslationResponseDto translation() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        return new TranslationResponseDto(1L, "app.title", "en", "Title", Set.of("web"), now, now);
+    }
+}
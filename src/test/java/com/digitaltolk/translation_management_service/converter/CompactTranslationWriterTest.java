@@ -0,0 +1,112 @@
+package com.digitaltolk.translation_management_service.converter;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactTranslationWriterTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+
+    private final CBORFactory factory = new CBORFactory();
+    private final ObjectMapper mapper = new ObjectMapper(factory);
+    private final CompactTranslationWriter writer = new CompactTranslationWriter();
+
+    @Test
+    void writeBundle_SharedLocale_IsHoistedIntoHeader() throws IOException {
+        JsonNode bundle = bundle(List.of(
+                translation(1L, "app.title", "en", "Title", "web", "mobile"),
+                translation(2L, "app.save", "en", "Save", "web")));
+
+        assertEquals(CompactTranslationWriter.FORMAT_VERSION, bundle.get("version").asInt());
+        assertEquals("en", bundle.get("locale").asText());
+        assertEquals(List.of("id", "key", "content", "tags", "created_at", "updated_at"), texts(bundle.get("fields")));
+        assertEquals(List.of("web", "mobile"), texts(bundle.get("tags")));
+        assertEquals(2, bundle.get("rows").size());
+    }
+
+    @Test
+    void writeBundle_MixedLocales_KeepsLocaleColumn() throws IOException {
+        JsonNode bundle = bundle(List.of(
+                translation(1L, "app.title", "en", "Title"),
+                translation(2L, "app.title", "sv", "Titel")));
+
+        assertNull(bundle.get("locale"));
+        assertEquals(List.of("id", "key", "locale", "content", "tags", "created_at", "updated_at"),
+                texts(bundle.get("fields")));
+        assertEquals("sv", bundle.get("rows").get(1).get(2).asText());
+    }
+
+    @Test
+    void writeBundle_RowsReferenceTagDictionaryAndEpochMillis() throws IOException {
+        JsonNode row = bundle(List.of(
+                translation(1L, "app.title", "en", "Title", "web"),
+                translation(2L, "app.save", "en", "Save", "mobile", "web"))).get("rows").get(1);
+
+        assertEquals(2L, row.get(0).asLong());
+        assertEquals("app.save", row.get(1).asText());
+        assertEquals("Save", row.get(2).asText());
+        assertEquals(1, row.get(3).get(0).asInt());
+        assertEquals(0, row.get(3).get(1).asInt());
+        assertEquals(CREATED.toInstant(ZoneOffset.UTC).toEpochMilli(), row.get(4).asLong());
+    }
+
+    @Test
+    void writeBundle_ColumnsNullOnEveryRow_AreLeftOut() throws IOException {
+        TranslationResponseDto projected = new TranslationResponseDto();
+        projected.setId(1L);
+        projected.setTranslationKey("app.title");
+        projected.setContent("Title");
+
+        JsonNode bundle = bundle(List.of(projected));
+
+        assertNull(bundle.get("locale"));
+        assertEquals(List.of("id", "key", "content"), texts(bundle.get("fields")));
+        assertTrue(bundle.get("tags").isEmpty());
+    }
+
+    @Test
+    void writePage_AddsPageMetadata() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            writer.writePage(generator, new PageImpl<>(List.of(translation(1L, "app.title", "en", "Title")),
+                    PageRequest.of(2, 1), 5));
+        }
+
+        JsonNode page = mapper.readTree(out.toByteArray()).get("page");
+        assertEquals(2, page.get("number").asInt());
+        assertEquals(1, page.get("size").asInt());
+        assertEquals(5, page.get("total_elements").asLong());
+        assertEquals(5, page.get("total_pages").asInt());
+    }
+
+    private JsonNode bundle(List<TranslationResponseDto> translations) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            writer.writeBundle(generator, translations);
+        }
+        return mapper.readTree(out.toByteArray());
+    }
+
+    private static TranslationResponseDto translation(Long id, String key, String locale, String content, String... tags) {
+        return new TranslationResponseDto(id, key, locale, content, new LinkedHashSet<>(List.of(tags)), CREATED, CREATED);
+    }
+
+    private static List<String> texts(JsonNode array) {
+        return array.valueStream().map(JsonNode::asText).toList();
+    }
+}
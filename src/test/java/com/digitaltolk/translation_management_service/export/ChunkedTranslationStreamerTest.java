@@ -0,0 +1,156 @@
+package com.digitaltolk.translation_management_service.export;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import com.digitaltolk.translation_management_service.jdbc.QueryCancellationWatchdog;
+import com.digitaltolk.translation_management_service.repository.TranslationProjectionRepository.Keyset;
+import com.digitaltolk.translation_management_service.repository.TranslationProjectionRepository.KeysetBatch;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.DelegatingServletOutputStream;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChunkedTranslationStreamerTest {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final List<Integer> rowsPerQuery = new ArrayList<>();
+    private final List<Integer> bytesWrittenBeforeQuery = new ArrayList<>();
+
+    private TranslationRepository translationRepository;
+    private QueryCancellationWatchdog queryCancellationWatchdog;
+    private ChunkedTranslationStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        List<TranslationResponseDto> table = LongStream.rangeClosed(1, ROWS).mapToObj(this::translation).toList();
+        translationRepository = mock(TranslationRepository.class);
+        when(translationRepository.findProjectedAfter(any(), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            Keyset after = invocation.getArgument(3);
+            long afterId = Objects.nonNull(after) ? after.id() : 0L;
+            int limit = invocation.getArgument(4);
+            List<TranslationResponseDto> rows = table.stream().filter(row -> row.getId() > afterId).limit(limit).toList();
+            rowsPerQuery.add(rows.size());
+            bytesWrittenBeforeQuery.add(out.size());
+            return new KeysetBatch(rows, rows.isEmpty() ? after : new Keyset(null, rows.get(rows.size() - 1).getId()));
+        });
+        queryCancellationWatchdog = mock(QueryCancellationWatchdog.class);
+        streamer = new ChunkedTranslationStreamer(translationRepository, queryCancellationWatchdog, objectMapper, BATCH_SIZE);
+    }
+
+    @Test
+    void write_ReadsEachBatchOnlyAfterFlushingThePreviousOne() throws Exception {
+        TranslationSearchCriteria criteria = new TranslationSearchCriteria(null, "en", null, null);
+
+        long written;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            written = streamer.write(generator, streamer.open(criteria, TranslationField.parse(null), Sort.Order.asc("id"), 0, 1_000_000));
+        }
+
+        assertEquals(ROWS, written);
+        assertEquals(ROWS, objectMapper.readTree(out.toByteArray()).size());
+        assertEquals(ROWS, rowsPerQuery.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(rowsPerQuery.stream().allMatch(rows -> rows <= BATCH_SIZE));
+        // Every batch after the first is read only once the previous one has been written out
+        for (int i = 1; i < bytesWrittenBeforeQuery.size(); i++) {
+            assertTrue(bytesWrittenBeforeQuery.get(i) > bytesWrittenBeforeQuery.get(i - 1),
+                    "batch " + i + " was read before batch " + (i - 1) + " was flushed");
+        }
+    }
+
+    @Test
+    void streamPage_SkipsEarlierPagesAndEndsWithPageMetadata() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        streamer.streamPage(new TranslationSearchCriteria("key", null, null, null),
+                Set.of(TranslationField.ID), 1, 3000, "id", "asc", response);
+
+        JsonNode page = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(3000, page.get("content").size());
+        assertEquals(3001, page.get("content").get(0).get("id").asLong());
+        assertEquals(3000, page.get("numberOfElements").asLong());
+        assertFalse(page.get("first").asBoolean());
+        assertFalse(page.get("last").asBoolean());
+        assertTrue(rowsPerQuery.stream().allMatch(rows -> rows <= BATCH_SIZE));
+    }
+
+    @Test
+    void streamPage_ContinuesEachBatchFromThePreviousPositionInRequestedSort() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        streamer.streamPage(new TranslationSearchCriteria("key", null, null, null),
+                Set.of(TranslationField.ID), 0, 1200, "updatedAt", "desc", response);
+
+        ArgumentCaptor<Keyset> positions = ArgumentCaptor.forClass(Keyset.class);
+        verify(translationRepository, times(3)).findProjectedAfter(any(), any(), eq(Sort.Order.desc("updatedAt")),
+                positions.capture(), anyInt());
+        assertNull(positions.getAllValues().get(0));
+        assertEquals(500L, positions.getAllValues().get(1).id());
+        assertEquals(1000L, positions.getAllValues().get(2).id());
+    }
+
+    @Test
+    void streamPage_BoundsEachStatementAndAbandonsRequestWhenClientDisconnects() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return new DelegatingServletOutputStream(OutputStream.nullOutputStream()) {
+                    @Override
+                    public void flush() throws IOException {
+                        throw new IOException("Broken pipe");
+                    }
+                };
+            }
+        };
+
+        assertThrows(IOException.class, () -> streamer.streamPage(new TranslationSearchCriteria("key", null, null, null),
+                Set.of(TranslationField.ID), 0, 3000, "id", "asc", response));
+        verify(queryCancellationWatchdog).deadlinePerStatement();
+        verify(queryCancellationWatchdog).abandon();
+        assertEquals(1, rowsPerQuery.size());
+    }
+
+    @Test
+    void streamList_PastTheEnd_IsNotFound() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(TranslationNotFoundException.class, () -> streamer.streamList(
+                new TranslationSearchCriteria(null, "en", null, null), TranslationField.parse(null), 1, ROWS, "id", "asc", response));
+        assertEquals(0, response.getContentAsByteArray().length);
+        verify(translationRepository, atLeastOnce()).findProjectedAfter(any(), eq(Set.of(TranslationField.ID)), any(), any(), anyInt());
+    }
+
+    private TranslationResponseDto translation(long id) {
+        TranslationResponseDto translation = new TranslationResponseDto();
+        translation.setId(id);
+        translation.setTranslationKey("key." + id);
+        translation.setLocale("en");
+        translation.setContent("Content " + id);
+        return translation;
+    }
+}
@@ -0,0 +1,158 @@
+package com.digitaltolk.translation_management_service.export;
+
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.entity.Translation;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocaleBundleFileStoreTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationCacheManager cacheManager;
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Translation> table = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        table.add(translation(1, "greeting", "en", "Hello"));
+        table.add(translation(2, "greeting", "fr", "Bonjour"));
+        table.add(translation(3, "farewell", "en", "Bye"));
+
+        lenient().when(cacheManager.getLocaleVersion(anyString())).thenReturn("0.0");
+        lenient().when(translationRepository.findIdsByLocaleAfter(anyString(), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> table.stream()
+                        .filter(t -> t.getLocale().equals(invocation.getArgument(0)) && t.getId() > invocation.getArgument(1, Long.class))
+                        .map(Translation::getId)
+                        .limit(invocation.getArgument(2, Pageable.class).getPageSize())
+                        .toList());
+        lenient().when(translationRepository.findAllWithTagsByIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    return table.stream().filter(t -> ids.contains(t.getId())).toList();
+                });
+    }
+
+    @Test
+    void getSnapshot_WritesBundleOnceAndReusesIt() throws IOException {
+        LocaleBundleFileStore store = store(Duration.ofMinutes(1));
+
+        Path first = store.getSnapshot("en");
+        clearInvocations(translationRepository);
+        Path second = store.getSnapshot("en");
+
+        assertEquals(first, second);
+        JsonNode bundle = objectMapper.readTree(first.toFile());
+        assertEquals(2, bundle.size());
+        assertEquals("Hello", bundle.get(0).get("content").asText());
+        verifyNoInteractions(translationRepository);
+    }
+
+    @Test
+    void getSnapshot_AfterRestart_DoesNotServeEarlierRunsFile() throws Exception {
+        Path beforeRestart = store(Duration.ofMinutes(1)).getSnapshot("en");
+        Files.writeString(directory.resolve("en-123.tmp"), "torn");
+        table.get(0).setContent("Hi");
+        // Next millisecond, so the restarted store gets its own generation
+        Thread.sleep(2);
+
+        LocaleBundleFileStore restarted = store(Duration.ofMinutes(1));
+
+        assertFalse(Files.exists(beforeRestart));
+        assertFalse(Files.exists(directory.resolve("en-123.tmp")));
+        Path afterRestart = restarted.getSnapshot("en");
+        assertNotEquals(beforeRestart, afterRestart);
+        assertEquals("Hi", objectMapper.readTree(afterRestart.toFile()).get(0).get("content").asText());
+    }
+
+    @Test
+    void getSnapshot_KeepsSupersededSnapshotForGracePeriod() {
+        LocaleBundleFileStore store = store(Duration.ofHours(1));
+        Path superseded = store.getSnapshot("en");
+
+        when(cacheManager.getLocaleVersion("en")).thenReturn("0.1");
+        Path current = store.getSnapshot("en");
+        store.deleteExpiredSnapshots();
+
+        assertNotEquals(superseded, current);
+        assertTrue(Files.exists(superseded), "a superseded snapshot may still be being sent");
+        assertTrue(Files.exists(current));
+    }
+
+    @Test
+    void deleteExpiredSnapshots_DeletesSupersededSnapshotAfterGracePeriod() throws IOException {
+        LocaleBundleFileStore store = store(Duration.ZERO);
+        Path superseded = store.getSnapshot("en");
+        Path otherLocale = store.getSnapshot("fr");
+
+        when(cacheManager.getLocaleVersion("en")).thenReturn("0.1");
+        Path current = store.getSnapshot("en");
+        store.deleteExpiredSnapshots();
+
+        assertFalse(Files.exists(superseded));
+        assertTrue(Files.exists(current));
+        assertTrue(Files.exists(otherLocale));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void getSnapshot_UnknownLocale_IsNotFoundAndLeavesNoFile() throws IOException {
+        LocaleBundleFileStore store = store(Duration.ofMinutes(1));
+
+        assertThrows(TranslationNotFoundException.class, () -> store.getSnapshot("de"));
+        assertThrows(InvalidTranslationRequestException.class, () -> store.getSnapshot("../etc"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private LocaleBundleFileStore store(Duration gracePeriod) {
+        try {
+            return new LocaleBundleFileStore(translationRepository, new TranslationMapper(), cacheManager, objectMapper,
+                    directory.toString(), 1, gracePeriod);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Translation translation(long id, String key, String locale, String content) {
+        Translation translation = new Translation(key, locale, content, Set.of("web"));
+        translation.setId(id);
+        translation.setVersion(0L);
+        return translation;
+    }
+}
@@ -0,0 +1,81 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationKeyChangedEvent;
+import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocaleFallbackResolverTest {
+
+    @Mock
+    private TranslationKeyIndex translationKeyIndex;
+
+    private LocaleFallbackResolver resolver;
+
+    private final Map<String, Map<String, TranslationResponseDto>> indexed = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        indexed.put("en", new HashMap<>(Map.of("greeting", dto("greeting", "en", "Hello"), "farewell", dto("farewell", "en", "Bye"))));
+        indexed.put("pt", new HashMap<>(Map.of("greeting", dto("greeting", "pt", "Olá"))));
+        indexed.put("pt-BR", new HashMap<>());
+
+        when(translationKeyIndex.locales()).thenReturn(indexed.keySet());
+        lenient().when(translationKeyIndex.entries(anyString()))
+                .thenAnswer(invocation -> indexed.getOrDefault(invocation.getArgument(0, String.class), Map.of()));
+        lenient().when(translationKeyIndex.get(anyString(), anyString()))
+                .thenAnswer(invocation -> indexed.getOrDefault(invocation.getArgument(1, String.class), Map.of())
+                        .get(invocation.getArgument(0, String.class)));
+
+        resolver = new LocaleFallbackResolver(translationKeyIndex, "en", "pt-BR>pt");
+        resolver.rebuild();
+    }
+
+    @Test
+    void chainOf_UsesConfiguredOrDerivedChain() {
+        assertEquals(List.of("pt-BR", "pt", "en"), resolver.chainOf("pt-BR"));
+        assertEquals(List.of("fr-CA", "fr", "en"), resolver.chainOf("fr-CA"));
+        assertEquals(List.of("en"), resolver.chainOf("en"));
+    }
+
+    @Test
+    void bundle_MergesChainWithFirstLocaleWinning() {
+        Map<String, String> bundle = resolver.bundle("pt-BR");
+
+        assertEquals(Map.of("greeting", "Olá", "farewell", "Bye"), bundle);
+    }
+
+    @Test
+    void onTranslationKeyChanged_UpdatesDependentViewsOnly() {
+        indexed.get("pt-BR").put("greeting", dto("greeting", "pt-BR", "Oi"));
+        resolver.onTranslationKeyChanged(new TranslationKeyChangedEvent("pt-BR", "greeting"));
+
+        assertEquals("Oi", resolver.resolve("greeting", "pt-BR").getContent());
+        assertEquals("Olá", resolver.resolve("greeting", "pt").getContent());
+
+        indexed.get("en").remove("farewell");
+        resolver.onTranslationKeyChanged(new TranslationKeyChangedEvent("en", "farewell"));
+
+        assertThrows(TranslationNotFoundException.class, () -> resolver.resolve("farewell", "pt-BR"));
+        assertEquals(Set.of("greeting"), resolver.bundle("pt-BR").keySet());
+    }
+
+    private TranslationResponseDto dto(String key, String locale, String content) {
+        return new TranslationResponseDto(null, key, locale, content, Set.of(), null, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class TagBitmapIndexTest {
+
+    @Mock
+    private TagDictionary tagDictionary;
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    private TagBitmapIndex index;
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(tagDictionary.intern(anyString()))
+                .thenAnswer(invocation -> tagIds.computeIfAbsent(invocation.getArgument(0), k -> tagIds.size() + 1));
+        lenient().when(tagDictionary.idOf(anyString()))
+                .thenAnswer(invocation -> tagIds.get(invocation.getArgument(0, String.class)));
+
+        index = new TagBitmapIndex(tagDictionary, translationRepository);
+        index.onTranslationChanged(TranslationChangedEvent.created(dto(1, "web")));
+        index.onTranslationChanged(TranslationChangedEvent.created(dto(2, "web", "mobile")));
+        index.onTranslationChanged(TranslationChangedEvent.created(dto(3, "mobile")));
+        index.onTranslationChanged(TranslationChangedEvent.created(dto(4, "web", "mobile", "error")));
+        index.onTranslationChanged(TranslationChangedEvent.created(dto(5)));
+    }
+
+    @Test
+    void resolve_All_IntersectsTagBitmaps() {
+        assertEquals(RoaringBitmap.bitmapOf(2, 4), index.resolve(List.of("web", "mobile"), TagMatch.ALL));
+        assertEquals(RoaringBitmap.bitmapOf(4), index.resolve(List.of("web", "mobile", "error"), TagMatch.ALL));
+    }
+
+    @Test
+    void resolve_Any_UnitesTagBitmaps() {
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 3, 4), index.resolve(List.of("web", "mobile"), TagMatch.ANY));
+        assertEquals(RoaringBitmap.bitmapOf(2, 3, 4), index.resolve(List.of("mobile"), TagMatch.ANY));
+    }
+
+    @Test
+    void resolve_EmptyTags_MatchesNothing() {
+        assertTrue(index.resolve(List.of(), TagMatch.ANY).isEmpty());
+        assertTrue(index.resolve(List.of(), TagMatch.ALL).isEmpty());
+    }
+
+    @Test
+    void resolve_UnknownTag_EmptiesAllButIsIgnoredByAny() {
+        assertTrue(index.resolve(List.of("web", "unknown"), TagMatch.ALL).isEmpty());
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 4), index.resolve(List.of("web", "unknown"), TagMatch.ANY));
+        assertTrue(index.resolve(List.of("unknown"), TagMatch.ANY).isEmpty());
+    }
+
+    @Test
+    void resolve_ReturnsCopyOwnedByCaller() {
+        RoaringBitmap resolved = index.resolve(List.of("error"), TagMatch.ANY);
+        resolved.add(99);
+
+        assertEquals(RoaringBitmap.bitmapOf(4), index.resolve(List.of("error"), TagMatch.ANY));
+    }
+
+    @Test
+    void onTranslationChanged_UpdateMovesIdAndDeleteRemovesIt() {
+        index.onTranslationChanged(TranslationChangedEvent.updated(dto(1, "mobile")));
+        index.onTranslationChanged(TranslationChangedEvent.deleted(4L));
+
+        assertEquals(RoaringBitmap.bitmapOf(2), index.resolve(List.of("web"), TagMatch.ANY));
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 3), index.resolve(List.of("mobile"), TagMatch.ANY));
+        assertTrue(index.resolve(List.of("error"), TagMatch.ANY).isEmpty());
+    }
+
+    @Test
+    void selectPage_PagesInIdOrderFromEitherEnd() {
+        RoaringBitmap matches = RoaringBitmap.bitmapOf(3, 7, 11, 20, 42);
+
+        assertEquals(List.of(3L, 7L), TagBitmapIndex.selectPage(matches, 0, 2, false));
+        assertEquals(List.of(11L, 20L), TagBitmapIndex.selectPage(matches, 2, 2, false));
+        assertEquals(List.of(42L, 20L), TagBitmapIndex.selectPage(matches, 0, 2, true));
+        assertEquals(List.of(3L), TagBitmapIndex.selectPage(matches, 4, 2, true));
+    }
+
+    @Test
+    void selectPage_PastTheEndOrEmpty_IsEmpty() {
+        assertEquals(List.of(), TagBitmapIndex.selectPage(RoaringBitmap.bitmapOf(1, 2), 2, 10, false));
+        assertEquals(List.of(), TagBitmapIndex.selectPage(new RoaringBitmap(), 0, 10, true));
+    }
+
+    private TranslationResponseDto dto(long id, String... tags) {
+        TranslationResponseDto translation = new TranslationResponseDto();
+        translation.setId(id);
+        translation.setTranslationKey("key." + id);
+        translation.setLocale("en");
+        translation.setContent("Content " + id);
+        translation.setTags(Set.of(tags));
+        return translation;
+    }
+}
@@ -0,0 +1,72 @@
+package com.digitaltolk.translation_management_service.index;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationKeyIndexTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationMapper translationMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TranslationKeyIndex translationKeyIndex;
+
+    @Test
+    void cache_UnchangedIndex_AddsTranslation() {
+        TranslationResponseDto loaded = dto(1L, "greeting", "Hello");
+
+        translationKeyIndex.cache(loaded, translationKeyIndex.generation());
+
+        assertSame(loaded, translationKeyIndex.get("greeting", "en"));
+    }
+
+    @Test
+    void cache_ReadBeforeDelete_DoesNotResurrectTranslation() {
+        long generation = translationKeyIndex.generation();
+        TranslationResponseDto loaded = dto(1L, "greeting", "Hello");
+
+        translationKeyIndex.onTranslationChanged(TranslationChangedEvent.deleted(1L));
+        translationKeyIndex.cache(loaded, generation);
+
+        assertNull(translationKeyIndex.get("greeting", "en"));
+        assertEquals(0, translationKeyIndex.size());
+    }
+
+    @Test
+    void cache_ReadBeforeUpdate_KeepsUpdatedTranslation() {
+        long generation = translationKeyIndex.generation();
+        TranslationResponseDto stale = dto(1L, "greeting", "Hello");
+        TranslationResponseDto updated = dto(1L, "greeting", "Hi");
+
+        translationKeyIndex.onTranslationChanged(TranslationChangedEvent.updated(updated));
+        translationKeyIndex.cache(stale, generation);
+
+        assertSame(updated, translationKeyIndex.get("greeting", "en"));
+    }
+
+    private static TranslationResponseDto dto(Long id, String key, String content) {
+        TranslationResponseDto dto = new TranslationResponseDto();
+        dto.setId(id);
+        dto.setTranslationKey(key);
+        dto.setLocale("en");
+        dto.setContent(content);
+        return dto;
+    }
+}
@@ -0,0 +1,175 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Slow searches sent through the HTTP stack, so {@link QueryDeadlineFilter} sets their
+ * deadline and the watchdog cancels them. The content search is stubbed with a query that
+ * never finishes on its own. Admission control is off so every search reaches the pool.
+ */
+@SpringBootTest(properties = {"translation.seed.records=0", "translation.admission.enabled=false"})
+@AutoConfigureMockMvc
+class QueryCancellationTest {
+
+    /**
+     * Ten billion joined rows: runs for minutes unless cancelled.
+     */
+    private static final String SLOW_SEARCH = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000) a, SYSTEM_RANGE(1, 100000) b " +
+            "WHERE MOD(a.X * b.X, 7) = 3";
+    private static final String CONTENT_SEARCH_PATH = "/api/v1/translations/search/by-content";
+    private static final String CLIENT_TIMEOUT_MILLIS = "300";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryCancellationWatchdog watchdog;
+
+    @Autowired
+    private QueryDeadlineFilter queryDeadlineFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private TranslationService translationService;
+
+    @BeforeEach
+    void setUp() {
+        when(translationService.findTranslationsByContent(anyString(), anyInt(), anyInt(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    jdbcTemplate.queryForObject(SLOW_SEARCH, Long.class);
+                    throw new AssertionError("slow search should have been cancelled");
+                });
+    }
+
+    @Test
+    void abandonedSlowSearches_HandConnectionsBackToThePool() throws Exception {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        int clients = pool.getMaximumPoolSize() * 2;
+        double cancelledBefore = meterRegistry.get("translation.sql.cancelled").counter().count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long start = System.nanoTime();
+        List<Future<Integer>> searches = new ArrayList<>();
+        try {
+            for (int i = 0; i < clients; i++) {
+                searches.add(executor.submit(() -> mockMvc.perform(get(CONTENT_SEARCH_PATH)
+                                .param("content", "a")
+                                .header("X-Request-Timeout", CLIENT_TIMEOUT_MILLIS)
+                                .with(user("client")))
+                        .andReturn().getResponse().getStatus()));
+            }
+            for (Future<Integer> search : searches) {
+                assertEquals(504, search.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        while (pool.getHikariPoolMXBean().getActiveConnections() > 0
+                && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30)) {
+            Thread.sleep(10);
+        }
+        long recoveryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+        assertTrue(recoveryMillis < 3000, "pool took " + recoveryMillis + " ms to recover");
+        assertTrue(meterRegistry.get("translation.sql.cancelled").counter().count() - cancelledBefore >= pool.getMaximumPoolSize());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+    }
+
+    @Test
+    void resolveTimeout_ClientHeaderCanOnlyShortenEndpointTimeout() {
+        MockHttpServletRequest contentSearch = new MockHttpServletRequest("GET", "/api/v1/translations/search/by-content");
+        MockHttpServletRequest impatient = new MockHttpServletRequest("GET", "/api/v1/translations");
+        impatient.addHeader("X-Request-Timeout", "250");
+        MockHttpServletRequest patient = new MockHttpServletRequest("GET", "/api/v1/translations/search/by-key");
+        patient.addHeader("X-Request-Timeout", "600000");
+
+        assertEquals(Duration.ofSeconds(3), queryDeadlineFilter.resolveTimeout(contentSearch));
+        assertEquals(Duration.ofMillis(250), queryDeadlineFilter.resolveTimeout(impatient));
+        assertEquals(Duration.ofSeconds(3), queryDeadlineFilter.resolveTimeout(patient));
+    }
+
+    @Test
+    void resolveTimeout_OnlyGetOnCollectionIsSearch() {
+        MockHttpServletRequest search = new MockHttpServletRequest("GET", "/api/v1/translations");
+        MockHttpServletRequest create = new MockHttpServletRequest("POST", "/api/v1/translations");
+
+        assertEquals(Duration.ofSeconds(5), queryDeadlineFilter.resolveTimeout(search));
+        assertEquals(Duration.ofSeconds(10), queryDeadlineFilter.resolveTimeout(create));
+    }
+
+    @Test
+    void perStatementDeadline_LetsEachStatementUseTheFullTimeout() throws Exception {
+        watchdog.begin(Duration.ofMillis(200));
+        try {
+            watchdog.deadlinePerStatement();
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            Thread.sleep(300);
+
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        } finally {
+            watchdog.end();
+        }
+    }
+
+    @Test
+    void requestDeadline_RefusesStatementsAfterIt() throws Exception {
+        watchdog.begin(Duration.ofMillis(200));
+        try {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            Thread.sleep(300);
+
+            assertThrows(QueryTimeoutException.class, () -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        } finally {
+            watchdog.end();
+        }
+    }
+
+    @Test
+    void abandon_RefusesLaterStatementsEvenWithPerStatementDeadline() {
+        watchdog.begin(Duration.ofSeconds(10));
+        try {
+            watchdog.deadlinePerStatement();
+            watchdog.abandon();
+
+            assertThrows(QueryTimeoutException.class, () -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+        } finally {
+            watchdog.end();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.digitaltolk.translation_management_service.jdbc;
+
+import com.digitaltolk.translation_management_service.cache.TranslationCacheManager;
+import com.digitaltolk.translation_management_service.dto.BulkTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements issued per endpoint with cold caches. A higher count here usually means
+ * a lost fetch join or a new lazy load.
+ */
+@SpringBootTest(properties = {"translation.seed.records=0", "translation.sql.statement-budget=1"})
+@AutoConfigureMockMvc
+@WithMockUser
+class SqlStatementBudgetTest {
+
+    private static final String BASE_PATH = "/api/v1/translations";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationCacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long welcomeId;
+    private Long goodbyeId;
+
+    @BeforeEach
+    void setUp() {
+        translationService.bulkDelete(new BulkTranslationRequestDto("sqlbudget.", null, null, null, null), false);
+        welcomeId = translationService.createTranslation(
+                new TranslationRequestDto("sqlbudget.welcome", "sv", "Välkommen", Set.of("web", "mobile"))).getId();
+        goodbyeId = translationService.createTranslation(
+                new TranslationRequestDto("sqlbudget.goodbye", "sv", "Hej då", Set.of("web"))).getId();
+        cacheManager.clearAllCaches();
+    }
+
+    @Test
+    void getById_LoadsRowThenTags_AndIsServedFromCacheAfterwards() throws Exception {
+        assertEquals(2, statements(get(BASE_PATH + "/" + welcomeId)));
+        assertEquals(0, statements(get(BASE_PATH + "/" + welcomeId)));
+    }
+
+    @Test
+    void overBudgetRequest_IsCountedPerRoute() throws Exception {
+        statements(get(BASE_PATH + "/" + goodbyeId));
+
+        assertTrue(meterRegistry.get("translation.sql.budget.exceeded")
+                .tag("uri", BASE_PATH + "/{id}").counter().count() >= 1.0);
+    }
+
+    @Test
+    void batchById_UsesOneFetchJoin() throws Exception {
+        assertEquals(1, statements(post(BASE_PATH + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + welcomeId + "," + goodbyeId + "]}")));
+    }
+
+    @Test
+    void searchByLocale_UsesOneFetchJoin() throws Exception {
+        assertEquals(1, statements(get(BASE_PATH + "/search/by-locale").param("locale", "sv")));
+    }
+
+    @Test
+    void searchByKey_SkipsCountQueryOnPartialFirstPage() throws Exception {
+        assertEquals(1, statements(get(BASE_PATH + "/search/by-key").param("key", "sqlbudget.")));
+    }
+
+    @Test
+    void availableLocales_UsesOneQuery() throws Exception {
+        assertEquals(1, statements(get(BASE_PATH + "/locales")));
+    }
+
+    @Test
+    void create_InsertsRowThenBatchesTags() throws Exception {
+        assertEquals(2, statements(post(BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key\":\"sqlbudget.created\",\"locale\":\"sv\",\"content\":\"Skapad\",\"tags\":[\"web\",\"mobile\"]}"),
+                201));
+    }
+
+    @Test
+    void searchByContent_UsesOneFetchJoin() throws Exception {
+        assertEquals(1, statements(get(BASE_PATH + "/search/by-content").param("content", "Välkommen")));
+    }
+
+    @Test
+    void searchByTags_LoadsPageIdsFromBitmapWithOneFetchJoin() throws Exception {
+        assertEquals(1, statements(get(BASE_PATH + "/search/by-tags").param("tags", "mobile")));
+    }
+
+    @Test
+    void update_ChecksVersionAndWritesInPlace() throws Exception {
+        assertEquals(4, statements(put(BASE_PATH + "/" + welcomeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key\":\"sqlbudget.welcome\",\"locale\":\"sv\",\"content\":\"Hej\",\"tags\":[\"web\"]}")));
+    }
+
+    @Test
+    void patch_LoadsOnceAndWritesOnlyChangedColumns() throws Exception {
+        assertEquals(2, statements(patch(BASE_PATH + "/" + welcomeId)
+                .contentType("application/merge-patch+json")
+                .content("{\"content\":\"Hej\"}")));
+    }
+
+    @Test
+    void delete_ChecksExistenceThenDeletesRowAndTags() throws Exception {
+        assertEquals(4, statements(delete(BASE_PATH + "/" + goodbyeId), 204));
+    }
+
+    @Test
+    void bulkDelete_RunsSetBasedStatementsPerBatch() throws Exception {
+        // count, ids, tag delete, row delete, then the empty id query that ends the walk
+        assertEquals(5, statements(post(BASE_PATH + "/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key_prefix\":\"sqlbudget.\"}")));
+    }
+
+    @Test
+    void bulkRetag_RunsSetBasedStatementsPerBatch() throws Exception {
+        // count, ids, tag delete, tag insert, version bump, reload for change events, new tag in the
+        // dictionary, then the empty id query that ends the walk
+        assertEquals(8, statements(post(BASE_PATH + "/bulk/retag")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key_prefix\":\"sqlbudget.\",\"add_tags\":[\"desktop\"],\"remove_tags\":[\"mobile\"]}")));
+    }
+
+    @Test
+    void exportSnapshot_ReadsLocaleInKeysetBatches() throws Exception {
+        assertEquals(3, statements(get(BASE_PATH + "/search/by-locale").param("locale", "sv").param("snapshot", "true")));
+    }
+
+    @Test
+    void streamedPage_ReadsOneProjectedBatchAndItsTags() throws Exception {
+        assertEquals(2, statements(get(BASE_PATH + "/search/by-locale").param("locale", "sv").param("size", "100000")));
+    }
+
+    private int statements(RequestBuilder request) throws Exception {
+        return statements(request, 200);
+    }
+
+    private int statements(RequestBuilder request, int expectedStatus) throws Exception {
+        SqlStatementStats stats = (SqlStatementStats) mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getRequest().getAttribute(SqlStatementBudgetFilter.STATS_ATTRIBUTE);
+        assertNotNull(stats);
+        return stats.getStatements();
+    }
+}
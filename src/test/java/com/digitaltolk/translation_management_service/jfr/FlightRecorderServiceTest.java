@@ -0,0 +1,80 @@
+package com.digitaltolk.translation_management_service.jfr;
+
+import com.digitaltolk.translation_management_service.exception.RecordingStateException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecorderService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    void stop_WritesServiceEventsToFile() throws IOException, ParseException {
+        service = service();
+        service.start();
+
+        CacheClearEvent.emit("translations", 3);
+        CacheLookupEvent.emit("localeTranslations", 0, 1);
+        RepositoryQueryEvent query = new RepositoryQueryEvent();
+        query.begin();
+        query.setQuery("findByLocale");
+        query.setRows(50);
+        query.commit();
+
+        Path file = service.stop();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.digitaltolk.translation."))
+                .toList();
+        RecordedEvent clear = single(events, "com.digitaltolk.translation.CacheClear");
+        assertEquals("translations", clear.getString("cache"));
+        assertEquals(3L, clear.getLong("keysEvicted"));
+        assertEquals(1, single(events, "com.digitaltolk.translation.CacheLookup").getInt("misses"));
+        assertEquals(50, single(events, "com.digitaltolk.translation.RepositoryQuery").getInt("rows"));
+        assertFalse(service.status().running());
+    }
+
+    @Test
+    void startTwice_AndStopWithoutRecording_AreRejected() throws IOException, ParseException {
+        service = service();
+
+        assertThrows(RecordingStateException.class, service::stop);
+        assertThrows(RecordingStateException.class, service::dump);
+        service.start();
+        assertThrows(RecordingStateException.class, service::start);
+        assertTrue(service.status().running());
+    }
+
+    private FlightRecorderService service() throws IOException, ParseException {
+        return new FlightRecorderService(directory.toString(), Duration.ofMinutes(5), DataSize.ofMegabytes(10),
+                false, true, "0 ms");
+    }
+
+    private RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
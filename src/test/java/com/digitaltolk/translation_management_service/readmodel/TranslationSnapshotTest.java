@@ -0,0 +1,49 @@
+package com.digitaltolk.translation_management_service.readmodel;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationSnapshotTest {
+
+    @Test
+    void with_ReplacesEntryInEveryIndexAndLeavesPreviousVersionIntact() {
+        TranslationSnapshot first = TranslationSnapshot.empty()
+                .with(dto(1L, "greeting", "en", Set.of("web")))
+                .with(dto(2L, "farewell", "en", Set.of("web", "mobile")));
+
+        TranslationSnapshot second = first.with(dto(1L, "greeting", "fr", Set.of("mobile")));
+
+        assertEquals(3, second.version());
+        assertEquals("fr", second.get(1L).getLocale());
+        assertNull(second.get("greeting", "en"));
+        assertNotNull(second.get("greeting", "fr"));
+        assertEquals(List.of(2L), List.copyOf(second.inLocale("en").keySet()));
+        assertEquals(List.of(2L), second.inLocaleByUpdatedAt("en").values().stream().map(TranslationResponseDto::getId).toList());
+        assertEquals(Set.of(2L), Set.copyOf(second.withTag("web")));
+        assertEquals(Set.of(1L, 2L), Set.copyOf(second.withTag("mobile")));
+
+        assertEquals("en", first.get(1L).getLocale());
+        assertEquals(Set.of(1L, 2L), Set.copyOf(first.withTag("web")));
+    }
+
+    @Test
+    void without_DropsEmptyLocalesAndTags() {
+        TranslationSnapshot snapshot = TranslationSnapshot.empty()
+                .with(dto(1L, "greeting", "de", Set.of("desktop")))
+                .without(1L);
+
+        assertNull(snapshot.get(1L));
+        assertFalse(snapshot.byLocale().containsKey("de"));
+        assertFalse(snapshot.byLocaleUpdatedAt().containsKey("de"));
+        assertFalse(snapshot.byTag().containsKey("desktop"));
+    }
+
+    private TranslationResponseDto dto(Long id, String key, String locale, Set<String> tags) {
+        return new TranslationResponseDto(id, key, locale, key + " content", tags, null, null);
+    }
+}
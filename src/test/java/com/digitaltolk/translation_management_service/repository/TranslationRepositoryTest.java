@@ -0,0 +1,231 @@
+package com.digitaltolk.translation_management_service.repository;
+
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
+import com.digitaltolk.translation_management_service.entity.Translation;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
+import com.digitaltolk.translation_management_service.repository.TranslationProjectionRepository.KeysetBatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TranslationRepositoryTest {
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long webAndMobile;
+    private Long webOnly;
+    private Long allThree;
+
+    @BeforeEach
+    void setUp() {
+        webAndMobile = persist("welcome.title", Set.of("web", "mobile"));
+        webOnly = persist("welcome.subtitle", Set.of("web"));
+        allThree = persist("login.button", Set.of("web", "mobile", "desktop"));
+        persist("logout.button", Set.of("desktop"));
+        persist("untagged.label", Set.of());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findIdsByAnyTag_ReturnsEachTranslationOnce() {
+        Page<Long> ids = translationRepository.findIdsByAnyTag(List.of("web", "mobile"), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(List.of(webAndMobile, webOnly, allThree), ids.getContent());
+        assertEquals(3, ids.getTotalElements());
+    }
+
+    @Test
+    void findIdsByAllTags_RequiresEveryTag() {
+        Page<Long> ids = translationRepository.findIdsByAllTags(List.of("web", "mobile"), 2, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(List.of(webAndMobile, allThree), ids.getContent());
+        assertEquals(2, ids.getTotalElements());
+    }
+
+    @Test
+    void findIdsByAllTags_UnknownTagMatchesNothing() {
+        Page<Long> ids = translationRepository.findIdsByAllTags(List.of("web", "tv"), 2, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertTrue(ids.isEmpty());
+    }
+
+    @Test
+    void findIdsByAnyTag_PagesOverDistinctIds() {
+        Page<Long> firstPage = translationRepository.findIdsByAnyTag(List.of("web", "mobile", "desktop"), PageRequest.of(0, 2, Sort.by("id")));
+        Page<Long> secondPage = translationRepository.findIdsByAnyTag(List.of("web", "mobile", "desktop"), PageRequest.of(1, 2, Sort.by("id")));
+
+        assertEquals(4, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getContent().size());
+        assertEquals(2, secondPage.getContent().size());
+        assertTrue(firstPage.getContent().stream().noneMatch(secondPage.getContent()::contains));
+    }
+
+    @Test
+    void findAllWithTagsByIdIn_LoadsFullTagSet() {
+        List<Translation> translations = translationRepository.findAllWithTagsByIdIn(List.of(allThree));
+
+        assertEquals(1, translations.size());
+        assertEquals(Set.of("web", "mobile", "desktop"), translations.get(0).getTags());
+    }
+
+    @Test
+    void findAllWithTagsByNaturalKeys_MatchesExactPairsOnly() {
+        Long loginFrench = persist("login.button", "fr", Set.of("web"));
+        persist("welcome.title", "fr", Set.of());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Translation> translations = translationRepository.findAllWithTagsByNaturalKeys(List.of(
+                new TranslationKeyDto("welcome.title", "en"), new TranslationKeyDto("login.button", "fr")));
+
+        assertEquals(Set.of(webAndMobile, loginFrench), translations.stream().map(Translation::getId).collect(Collectors.toSet()));
+        assertEquals(Set.of("web", "mobile"), translations.stream()
+                .filter(translation -> translation.getId().equals(webAndMobile)).findFirst().orElseThrow().getTags());
+    }
+
+    @Test
+    void findProjectedAfter_WalksMatchesInKeysetBatches() {
+        TranslationSearchCriteria webTagged = new TranslationSearchCriteria(null, null, null, List.of("web"));
+        Set<TranslationField> fields = EnumSet.of(TranslationField.ID, TranslationField.KEY, TranslationField.TAGS);
+
+        KeysetBatch first = translationRepository.findProjectedAfter(webTagged, fields, Sort.Order.asc("id"), null, 2);
+        KeysetBatch second = translationRepository.findProjectedAfter(webTagged, fields, Sort.Order.asc("id"), first.last(), 2);
+
+        assertEquals(List.of(webAndMobile, webOnly), ids(first));
+        assertEquals(List.of(allThree), ids(second));
+        assertEquals(Set.of("web", "mobile", "desktop"), second.rows().get(0).getTags());
+        assertNull(second.rows().get(0).getContent());
+    }
+
+    @Test
+    void findProjectedAfter_WalksRequestedSortWithIdBreakingTies() {
+        Long sameKeyAsWebOnly = persist("welcome.subtitle", "fr", Set.of());
+        entityManager.flush();
+        TranslationSearchCriteria all = new TranslationSearchCriteria(null, null, null, null);
+        Set<TranslationField> idOnly = EnumSet.of(TranslationField.ID);
+        Sort.Order byKeyDesc = Sort.Order.desc("translationKey");
+
+        KeysetBatch first = translationRepository.findProjectedAfter(all, idOnly, byKeyDesc, null, 2);
+        KeysetBatch second = translationRepository.findProjectedAfter(all, idOnly, byKeyDesc, first.last(), 2);
+        KeysetBatch third = translationRepository.findProjectedAfter(all, idOnly, byKeyDesc, second.last(), 2);
+
+        // welcome.title, welcome.subtitle (fr, then en), untagged.label, logout.button, login.button
+        assertEquals(List.of(webAndMobile, sameKeyAsWebOnly), ids(first));
+        assertEquals("welcome.subtitle", first.last().value());
+        assertNull(first.rows().get(0).getTranslationKey());
+        assertEquals(webOnly, ids(second).get(0));
+        assertEquals(allThree, ids(third).get(third.rows().size() - 1));
+        assertEquals(6, ids(first).size() + ids(second).size() + ids(third).size());
+    }
+
+    @Test
+    void findProjected_SelectsRequestedColumnsOnly() throws Exception {
+        TranslationSearchCriteria welcome = new TranslationSearchCriteria("welcome.", "en", null, null);
+        Set<TranslationField> fields = EnumSet.of(TranslationField.ID, TranslationField.KEY, TranslationField.TAGS);
+
+        Page<TranslationResponseDto> page = translationRepository.findProjected(welcome, fields,
+                PageRequest.of(0, 1, Sort.by("translationKey").descending()));
+
+        assertEquals(2, page.getTotalElements());
+        TranslationResponseDto row = page.getContent().get(0);
+        assertEquals(webAndMobile, row.getId());
+        assertEquals("welcome.title", row.getTranslationKey());
+        assertEquals(Set.of("web", "mobile"), row.getTags());
+        assertNull(row.getContent());
+        assertNull(row.getLocale());
+        assertNull(row.getCreatedAt());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        assertEquals("{\"id\":" + webAndMobile + ",\"key\":\"welcome.title\",\"tags\":[\"mobile\",\"web\"]}",
+                objectMapper.writeValueAsString(withSortedTags(row)));
+        // Full responses keep their nulls
+        assertTrue(objectMapper.writeValueAsString(new TranslationResponseDto()).contains("\"content\":null"));
+    }
+
+    @Test
+    void findProjected_FiltersByAllTagsAndContent() {
+        TranslationSearchCriteria webAndMobileTagged = new TranslationSearchCriteria(null, null, null,
+                List.of("web", "mobile"), TagMatch.ALL);
+        TranslationSearchCriteria buttons = new TranslationSearchCriteria(null, null, "BUTTON", null);
+        Set<TranslationField> fields = EnumSet.of(TranslationField.ID, TranslationField.CONTENT);
+
+        Page<TranslationResponseDto> tagged = translationRepository.findProjected(webAndMobileTagged, fields,
+                PageRequest.of(0, 10, Sort.by("id")));
+        Page<TranslationResponseDto> content = translationRepository.findProjected(buttons, fields,
+                PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(List.of(webAndMobile, allThree), tagged.getContent().stream().map(TranslationResponseDto::getId).toList());
+        assertEquals(2, content.getTotalElements());
+        assertEquals("login.button content", content.getContent().get(0).getContent());
+    }
+
+    @Test
+    void findProjected_UnknownSortProperty_IsRejected() {
+        TranslationSearchCriteria all = new TranslationSearchCriteria(null, null, null, null);
+
+        assertThrows(InvalidTranslationRequestException.class, () -> translationRepository.findProjected(all,
+                EnumSet.of(TranslationField.ID), PageRequest.of(0, 10, Sort.by("version"))));
+    }
+
+    @Test
+    void updateIfVersionMatches_UpdatesRowAndTagDiff() {
+        boolean updated = translationRepository.updateIfVersionMatches(webAndMobile, 0L, "welcome.heading", "en",
+                "Welcome", Set.of("web", "desktop"));
+        entityManager.clear();
+
+        Translation translation = translationRepository.findAllWithTagsByIdIn(List.of(webAndMobile)).get(0);
+        assertTrue(updated);
+        assertEquals("welcome.heading", translation.getTranslationKey());
+        assertEquals(1L, translation.getVersion());
+        assertEquals(Set.of("web", "desktop"), translation.getTags());
+    }
+
+    @Test
+    void updateIfVersionMatches_RejectsStaleVersion() {
+        boolean updated = translationRepository.updateIfVersionMatches(webOnly, 5L, "welcome.subtitle", "en",
+                "Stale", Set.of("web"));
+
+        assertFalse(updated);
+    }
+
+    private Long persist(String key, Set<String> tags) {
+        return persist(key, "en", tags);
+    }
+
+    private Long persist(String key, String locale, Set<String> tags) {
+        return entityManager.persist(new Translation(key, locale, key + " content", new HashSet<>(tags))).getId();
+    }
+
+    private static TranslationResponseDto withSortedTags(TranslationResponseDto row) {
+        row.setTags(new TreeSet<>(row.getTags()));
+        return row;
+    }
+
+    private static List<Long> ids(KeysetBatch batch) {
+        return batch.rows().stream().map(TranslationResponseDto::getId).toList();
+    }
+}
@@ -1,28 +1,53 @@
 package com.digitaltolk.translation_management_service.service;
 
+import com.digitaltolk.translation_management_service.dto.BulkOperationResultDto;
+import com.digitaltolk.translation_management_service.dto.BulkTranslationRequestDto;
+import com.digitaltolk.translation_management_service.dto.TranslationKeyDto;
+import com.digitaltolk.translation_management_service.dto.TranslationPatchDto;
 import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
 import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.dto.TranslationSearchCriteria;
 import com.digitaltolk.translation_management_service.entity.Translation;
+import com.digitaltolk.translation_management_service.enums.TagMatch;
+import com.digitaltolk.translation_management_service.enums.TranslationField;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.exception.DuplicateTranslationException;
+import com.digitaltolk.translation_management_service.exception.InvalidTranslationRequestException;
 import com.digitaltolk.translation_management_service.exception.TranslationNotFoundException;
+import com.digitaltolk.translation_management_service.exception.TranslationVersionConflictException;
+import com.digitaltolk.translation_management_service.index.TagBitmapIndex;
+import com.digitaltolk.translation_management_service.index.TranslationKeyIndex;
 import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.readmodel.TranslationReadModel;
+import com.digitaltolk.translation_management_service.readmodel.TranslationSnapshot;
 import com.digitaltolk.translation_management_service.repository.TranslationRepository;
 import com.digitaltolk.translation_management_service.service.impl.TranslationServiceImpl;
+import com.digitaltolk.translation_management_service.store.ColumnarTranslationStore;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,6 +62,21 @@ class TranslationServiceTest {
     @Mock
     private TranslationMapper translationMapper;
 
+    @Mock
+    private TagBitmapIndex tagBitmapIndex;
+
+    @Mock
+    private TranslationKeyIndex translationKeyIndex;
+
+    @Mock
+    private TranslationReadModel readModel;
+
+    @Mock
+    private ObjectProvider<ColumnarTranslationStore> columnarStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TranslationServiceImpl translationService;
 
@@ -84,6 +124,29 @@ class TranslationServiceTest {
         verify(translationMapper).toEntity(requestDto);
         verify(translationRepository).save(translation);
         verify(translationMapper).toDto(translation);
+        verify(eventPublisher).publishEvent(TranslationChangedEvent.created(responseDto));
+    }
+
+    @Test
+    void createTranslation_DuplicateKeyAndLocale() {
+        // Given
+        when(translationMapper.toEntity(requestDto)).thenReturn(translation);
+        when(translationRepository.save(translation)).thenThrow(constraintViolation("UK_KEY_LOCALE_INDEX_A"));
+
+        // When & Then
+        assertThrows(DuplicateTranslationException.class, () -> translationService.createTranslation(requestDto));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createTranslation_OtherConstraintViolation_IsNotReportedAsDuplicate() {
+        // Given
+        when(translationMapper.toEntity(requestDto)).thenReturn(translation);
+        when(translationRepository.save(translation)).thenThrow(constraintViolation(null));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> translationService.createTranslation(requestDto));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -123,6 +186,87 @@ class TranslationServiceTest {
         verifyNoMoreInteractions(translationMapper, translationRepository);
     }
 
+    @Test
+    void updateTranslation_WithExpectedVersion_UsesConditionalUpdate() {
+        // Given
+        Long id = 1L;
+        when(translationRepository.updateIfVersionMatches(id, 3L, requestDto.getTranslationKey(),
+                requestDto.getLocale(), requestDto.getContent(), requestDto.getTags())).thenReturn(true);
+        when(translationRepository.findAllWithTagsByIdIn(List.of(id))).thenReturn(List.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(responseDto);
+
+        // When
+        TranslationResponseDto result = translationService.updateTranslation(id, requestDto, 3L);
+
+        // Then
+        assertEquals(responseDto, result);
+        verify(translationRepository, never()).findById(any());
+        verify(translationRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(TranslationChangedEvent.updated(responseDto));
+    }
+
+    @Test
+    void updateTranslation_WithStaleVersion_Conflict() {
+        // Given
+        Long id = 1L;
+        when(translationRepository.updateIfVersionMatches(eq(id), eq(2L), any(), any(), any(), any())).thenReturn(false);
+        when(translationRepository.existsById(id)).thenReturn(true);
+
+        // When & Then
+        assertThrows(TranslationVersionConflictException.class,
+                () -> translationService.updateTranslation(id, requestDto, 2L));
+        verifyNoInteractions(translationMapper, eventPublisher);
+    }
+
+    @Test
+    void patchTranslation_WritesOnlyWhenSomethingChanged() {
+        // Given
+        Long id = 1L;
+        TranslationPatchDto patchDto = new TranslationPatchDto();
+        patchDto.setContent("Updated Content");
+        when(translationRepository.findWithTagsById(id)).thenReturn(Optional.of(translation));
+        when(translationMapper.applyPatch(patchDto, translation)).thenReturn(true);
+        when(translationRepository.save(translation)).thenReturn(translation);
+        when(translationMapper.toDto(translation)).thenReturn(responseDto);
+
+        // When
+        TranslationResponseDto result = translationService.patchTranslation(id, patchDto, null);
+
+        // Then
+        assertEquals(responseDto, result);
+        verify(translationRepository).save(translation);
+        verify(eventPublisher).publishEvent(TranslationChangedEvent.updated(responseDto));
+    }
+
+    @Test
+    void patchTranslation_NoChanges_SkipsWrite() {
+        // Given
+        Long id = 1L;
+        TranslationPatchDto patchDto = new TranslationPatchDto();
+        patchDto.setTags(Set.of("tag1"));
+        when(translationRepository.findWithTagsById(id)).thenReturn(Optional.of(translation));
+        when(translationMapper.applyPatch(patchDto, translation)).thenReturn(false);
+        when(translationMapper.toDto(translation)).thenReturn(responseDto);
+
+        // When
+        translationService.patchTranslation(id, patchDto, null);
+
+        // Then
+        verify(translationRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchTranslation_RemovingContent_Rejected() {
+        // Given
+        TranslationPatchDto patchDto = new TranslationPatchDto();
+        patchDto.setContent(null);
+
+        // When & Then
+        assertThrows(InvalidTranslationRequestException.class, () -> translationService.patchTranslation(1L, patchDto, null));
+        verifyNoInteractions(translationRepository);
+    }
+
     @Test
     void getTranslationById_Success() {
         // Given
@@ -156,58 +300,147 @@ class TranslationServiceTest {
         verifyNoInteractions(translationMapper);
     }
 
+    @Test
+    void getTranslationById_ServedFromReadModel() {
+        // Given
+        when(readModel.isServing()).thenReturn(true);
+        when(readModel.current()).thenReturn(TranslationSnapshot.empty().with(responseDto));
+
+        // When
+        TranslationResponseDto result = translationService.getTranslationById(responseDto.getId());
+
+        // Then
+        assertSame(responseDto, result);
+        verifyNoInteractions(translationRepository);
+        assertThrows(TranslationNotFoundException.class, () -> translationService.getTranslationById(404L));
+    }
+
+    @Test
+    void getTranslationByKey_IndexHit() {
+        // Given
+        when(translationKeyIndex.get("test.key", "en")).thenReturn(responseDto);
+
+        // When
+        TranslationResponseDto result = translationService.getTranslationByKey("test.key", "en");
+
+        // Then
+        assertSame(responseDto, result);
+        verifyNoInteractions(translationRepository);
+    }
+
+    @Test
+    void getTranslationByKey_IndexMissFallsBackToDatabase() {
+        // Given
+        when(translationKeyIndex.generation()).thenReturn(7L);
+        when(translationRepository.findByTranslationKeyAndLocale("test.key", "en")).thenReturn(Optional.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(responseDto);
+
+        // When
+        TranslationResponseDto result = translationService.getTranslationByKey("test.key", "en");
+
+        // Then
+        assertEquals(responseDto, result);
+        verify(translationKeyIndex).cache(responseDto, 7L);
+    }
+
     @Test
     void findTranslationsByTags_Success() {
         // Given
         List<String> tags = Arrays.asList("tag1", "tag2");
-        Page<Translation> translationPage = new PageImpl<>(Arrays.asList(translation));
-        when(translationRepository.findByTagsIn(eq(tags), any(Pageable.class))).thenReturn(translationPage);
+        Page<Long> idPage = new PageImpl<>(List.of(1L));
+        when(translationRepository.findIdsByAnyTag(eq(tags), any(Pageable.class))).thenReturn(idPage);
+        when(translationRepository.findAllWithTagsByIdIn(List.of(1L))).thenReturn(List.of(translation));
         when(translationMapper.toDto(translation)).thenReturn(responseDto);
 
         // When
-        Page<TranslationResponseDto> result = translationService.findTranslationsByTags(tags, 0, 10, "id", "asc");
+        Page<TranslationResponseDto> result = translationService.findTranslationsByTags(tags, TagMatch.ANY, 0, 10, "id", "asc");
 
         // Then
         assertNotNull(result);
         assertFalse(result.isEmpty());
         assertEquals(1, result.getContent().size());
-        verify(translationRepository).findByTagsIn(eq(tags), any(Pageable.class));
+        verify(translationRepository).findIdsByAnyTag(eq(tags), any(Pageable.class));
         verify(translationMapper).toDto(translation);
     }
 
+    @Test
+    void findTranslationsByTags_MatchAll_UsesDistinctTagCount() {
+        // Given
+        List<String> tags = Arrays.asList("tag1", "tag2", "tag1");
+        Page<Long> idPage = new PageImpl<>(List.of(1L));
+        when(translationRepository.findIdsByAllTags(eq(List.of("tag1", "tag2")), eq(2L), any(Pageable.class))).thenReturn(idPage);
+        when(translationRepository.findAllWithTagsByIdIn(List.of(1L))).thenReturn(List.of(translation));
+        when(translationMapper.toDto(translation)).thenReturn(responseDto);
+
+        // When
+        Page<TranslationResponseDto> result = translationService.findTranslationsByTags(tags, TagMatch.ALL, 0, 10, "updatedAt", "desc");
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        verify(translationRepository, never()).findIdsByAnyTag(any(), any(Pageable.class));
+    }
+
     @Test
     void findTranslationsByTags_NoResults() {
         // Given
         List<String> tags = Arrays.asList("tag1", "tag2");
-        Page<Translation> emptyPage = new PageImpl<>(Collections.emptyList());
-        when(translationRepository.findByTagsIn(eq(tags), any(Pageable.class))).thenReturn(emptyPage);
+        Page<Long> emptyPage = new PageImpl<>(Collections.emptyList());
+        when(translationRepository.findIdsByAnyTag(eq(tags), any(Pageable.class))).thenReturn(emptyPage);
 
         // When & Then
         TranslationNotFoundException exception = assertThrows(
                 TranslationNotFoundException.class,
-                () -> translationService.findTranslationsByTags(tags, 0, 10, "id", "asc")
+                () -> translationService.findTranslationsByTags(tags, TagMatch.ANY, 0, 10, "id", "asc")
         );
         assertEquals("No translations found with tags: " + tags, exception.getMessage());
-        verify(translationRepository).findByTagsIn(eq(tags), any(Pageable.class));
+        verify(translationRepository).findIdsByAnyTag(eq(tags), any(Pageable.class));
     }
 
     @Test
     void findTranslationsByTags_DescendingSort() {
         // Given
         List<String> tags = Arrays.asList("tag1", "tag2");
-        Page<Translation> translationPage = new PageImpl<>(Arrays.asList(translation));
-        when(translationRepository.findByTagsIn(eq(tags), any(Pageable.class))).thenReturn(translationPage);
+        Page<Long> idPage = new PageImpl<>(List.of(1L));
+        when(translationRepository.findIdsByAnyTag(eq(tags), any(Pageable.class))).thenReturn(idPage);
+        when(translationRepository.findAllWithTagsByIdIn(List.of(1L))).thenReturn(List.of(translation));
         when(translationMapper.toDto(translation)).thenReturn(responseDto);
 
         // When
-        Page<TranslationResponseDto> result = translationService.findTranslationsByTags(tags, 0, 10, "id", "desc");
+        Page<TranslationResponseDto> result = translationService.findTranslationsByTags(tags, TagMatch.ANY, 0, 10, "id", "desc");
 
         // Then
         assertNotNull(result);
-        verify(translationRepository).findByTagsIn(eq(tags), argThat(p ->
+        verify(translationRepository).findIdsByAnyTag(eq(tags), argThat(p ->
                 p.getSort().equals(Sort.by("id").descending())));
     }
 
+    @Test
+    void findTranslationsByTags_SortedById_UsesTagBitmap() {
+        // Given
+        List<String> tags = Arrays.asList("tag1", "tag2");
+        Translation newest = new Translation("test.key9", "en", "Content 9", Set.of("tag1"));
+        newest.setId(9L);
+        Translation older = new Translation("test.key5", "en", "Content 5", Set.of("tag2"));
+        older.setId(5L);
+        TranslationResponseDto newestDto = new TranslationResponseDto();
+        newestDto.setId(9L);
+        TranslationResponseDto olderDto = new TranslationResponseDto();
+        olderDto.setId(5L);
+        when(tagBitmapIndex.isReady()).thenReturn(true);
+        when(tagBitmapIndex.resolve(tags, TagMatch.ANY)).thenReturn(RoaringBitmap.bitmapOf(1, 5, 9));
+        when(translationRepository.findAllWithTagsByIdIn(List.of(9L, 5L))).thenReturn(List.of(older, newest));
+        when(translationMapper.toDto(newest)).thenReturn(newestDto);
+        when(translationMapper.toDto(older)).thenReturn(olderDto);
+
+        // When
+        Page<TranslationResponseDto> result = translationService.findTranslationsByTags(tags, TagMatch.ANY, 0, 2, "id", "desc");
+
+        // Then
+        assertEquals(3, result.getTotalElements());
+        assertEquals(List.of(9L, 5L), result.getContent().stream().map(TranslationResponseDto::getId).toList());
+        verify(translationRepository, never()).findIdsByAnyTag(any(), any(Pageable.class));
+    }
+
     @Test
     void findTranslationsByKey_Success() {
         // Given
@@ -357,6 +590,23 @@ class TranslationServiceTest {
         verify(translationRepository).findByLocale(eq(locale), any(Pageable.class));
     }
 
+    @Test
+    void getTranslationsByLocale_DefaultSortServedFromReadModel() {
+        // Given
+        TranslationResponseDto older = new TranslationResponseDto(3L, "a", "en", "A", Set.of(), null, LocalDateTime.of(2024, 1, 1, 0, 0));
+        TranslationResponseDto newer = new TranslationResponseDto(2L, "b", "en", "B", Set.of(), null, LocalDateTime.of(2024, 2, 1, 0, 0));
+        TranslationResponseDto sameTime = new TranslationResponseDto(1L, "c", "en", "C", Set.of(), null, LocalDateTime.of(2024, 2, 1, 0, 0));
+        when(readModel.isServing()).thenReturn(true);
+        when(readModel.current()).thenReturn(TranslationSnapshot.empty().with(older).with(newer).with(sameTime));
+
+        // When
+        List<TranslationResponseDto> result = translationService.getTranslationsByLocale("en", 0, 2, "updatedAt", "desc");
+
+        // Then
+        assertEquals(List.of(newer, sameTime), result);
+        verifyNoInteractions(translationRepository);
+    }
+
     @Test
     void deleteTranslationById_Success() {
         // Given
@@ -370,6 +620,7 @@ class TranslationServiceTest {
         // Then
         verify(translationRepository).existsById(id);
         verify(translationRepository).deleteById(id);
+        verify(eventPublisher).publishEvent(TranslationChangedEvent.deleted(id));
     }
 
     @Test
@@ -417,4 +668,158 @@ class TranslationServiceTest {
         assertTrue(result.isEmpty());
         verify(translationRepository).findDistinctLocales();
     }
+
+    @Test
+    void findTranslationProjections_Success() {
+        // Given
+        TranslationSearchCriteria criteria = new TranslationSearchCriteria("test", null, null, null);
+        Set<TranslationField> fields = EnumSet.of(TranslationField.ID, TranslationField.KEY);
+        TranslationResponseDto keyOnly = new TranslationResponseDto();
+        keyOnly.setId(1L);
+        keyOnly.setTranslationKey("test.key");
+        when(translationRepository.findProjected(eq(criteria), eq(fields), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(keyOnly)));
+
+        // When
+        Page<TranslationResponseDto> result = translationService.findTranslationProjections(criteria, fields, 0, 10, "id", "asc");
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getContent().get(0).getContent());
+        verify(translationRepository).findProjected(eq(criteria), eq(fields), any(Pageable.class));
+        verifyNoInteractions(translationMapper);
+    }
+
+    @Test
+    void findTranslationProjections_NoResults() {
+        // Given
+        TranslationSearchCriteria criteria = new TranslationSearchCriteria(null, "en", null, null);
+        when(translationRepository.findProjected(eq(criteria), anySet(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        // When & Then
+        TranslationNotFoundException exception = assertThrows(
+                TranslationNotFoundException.class,
+                () -> translationService.findTranslationProjections(criteria, TranslationField.parse("key"), 0, 10, "id", "asc")
+        );
+        assertEquals("No translations found with defined criteria", exception.getMessage());
+    }
+
+    @Test
+    void getTranslationsByIds_ReturnsRequestOrderWithNullForMissing() {
+        // Given
+        Translation other = new Translation();
+        other.setId(2L);
+        TranslationResponseDto otherDto = new TranslationResponseDto();
+        otherDto.setId(2L);
+        when(translationRepository.findAllWithTagsByIdIn(List.of(2L, 3L, 1L))).thenReturn(List.of(translation, other));
+        when(translationMapper.toDto(translation)).thenReturn(responseDto);
+        when(translationMapper.toDto(other)).thenReturn(otherDto);
+
+        // When
+        List<TranslationResponseDto> result = translationService.getTranslationsByIds(List.of(2L, 3L, 1L));
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertNull(result.get(1));
+        assertEquals(1L, result.get(2).getId());
+        verify(translationRepository).findAllWithTagsByIdIn(List.of(2L, 3L, 1L));
+    }
+
+    @Test
+    void getTranslationsByKeys_LoadsOnlyIndexMissesInRequestOrder() {
+        // Given
+        Translation french = new Translation("test.key", "fr", "Contenu", null);
+        TranslationResponseDto frenchDto = new TranslationResponseDto();
+        frenchDto.setLocale("fr");
+        TranslationResponseDto indexedDto = new TranslationResponseDto();
+        indexedDto.setLocale("de");
+        when(translationKeyIndex.get(anyString(), anyString())).thenReturn(null);
+        when(translationKeyIndex.get("test.key", "de")).thenReturn(indexedDto);
+        when(translationKeyIndex.generation()).thenReturn(3L);
+        when(translationRepository.findAllWithTagsByNaturalKeys(anyCollection())).thenReturn(List.of(french));
+        when(translationMapper.toDto(french)).thenReturn(frenchDto);
+
+        // When
+        List<TranslationResponseDto> result = translationService.getTranslationsByKeys(List.of(
+                new TranslationKeyDto("test.key", "fr"),
+                new TranslationKeyDto("other.key", "en"),
+                new TranslationKeyDto("test.key", "de")));
+
+        // Then
+        assertEquals(3, result.size());
+        assertSame(frenchDto, result.get(0));
+        assertNull(result.get(1));
+        assertSame(indexedDto, result.get(2));
+        verify(translationRepository).findAllWithTagsByNaturalKeys(
+                Set.of(new TranslationKeyDto("test.key", "fr"), new TranslationKeyDto("other.key", "en")));
+        verify(translationKeyIndex).cache(frenchDto, 3L);
+    }
+
+    @Test
+    void getTranslationsByKeys_AllIndexed_SkipsDatabase() {
+        // Given
+        when(translationKeyIndex.get("test.key", "en")).thenReturn(responseDto);
+
+        // When
+        List<TranslationResponseDto> result = translationService.getTranslationsByKeys(List.of(new TranslationKeyDto("test.key", "en")));
+
+        // Then
+        assertEquals(List.of(responseDto), result);
+        verifyNoInteractions(translationRepository);
+    }
+
+    @Test
+    void bulkDelete_DryRunOnlyCounts() {
+        // Given
+        BulkTranslationRequestDto request = new BulkTranslationRequestDto("app.", "en", null, null, null);
+        when(translationRepository.countByBulkFilter("app.", "en", null)).thenReturn(42L);
+
+        // When
+        BulkOperationResultDto result = translationService.bulkDelete(request, true);
+
+        // Then
+        assertTrue(result.dryRun());
+        assertEquals(42L, result.matched());
+        assertEquals(0L, result.affected());
+        verify(translationRepository, never()).deleteBatch(anyCollection());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void bulkDelete_DeletesInKeysetBatchesWithEscapedPrefix() {
+        // Given
+        BulkTranslationRequestDto request = new BulkTranslationRequestDto("app_1", null, null, null, null);
+        when(translationRepository.countByBulkFilter("app!_1", null, null)).thenReturn(3L);
+        when(translationRepository.findIdsByBulkFilterAfter(eq("app!_1"), isNull(), isNull(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(translationRepository.findIdsByBulkFilterAfter(eq("app!_1"), isNull(), isNull(), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(5L));
+        when(translationRepository.findIdsByBulkFilterAfter(eq("app!_1"), isNull(), isNull(), eq(5L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(translationRepository.deleteBatch(List.of(1L, 2L))).thenReturn(2);
+        when(translationRepository.deleteBatch(List.of(5L))).thenReturn(1);
+
+        // When
+        BulkOperationResultDto result = translationService.bulkDelete(request, false);
+
+        // Then
+        assertEquals(3L, result.affected());
+        verify(eventPublisher, times(3)).publishEvent(any(TranslationChangedEvent.class));
+    }
+
+    @Test
+    void bulkRetag_RequiresFilterAndTagChanges() {
+        assertThrows(InvalidTranslationRequestException.class, () -> translationService.bulkRetag(
+                new BulkTranslationRequestDto(" ", null, null, Set.of("web"), null), false));
+        assertThrows(InvalidTranslationRequestException.class, () -> translationService.bulkRetag(
+                new BulkTranslationRequestDto(null, "en", null, null, Set.of()), false));
+        verifyNoInteractions(translationRepository);
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("constraint violated", new SQLException(), constraintName));
+    }
 }
@@ -0,0 +1,95 @@
+package com.digitaltolk.translation_management_service.store;
+
+import com.digitaltolk.translation_management_service.dto.TranslationResponseDto;
+import com.digitaltolk.translation_management_service.event.TranslationChangedEvent;
+import com.digitaltolk.translation_management_service.mapper.TranslationMapper;
+import com.digitaltolk.translation_management_service.repository.TranslationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarTranslationStoreTest {
+
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationMapper translationMapper;
+
+    private ColumnarTranslationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarTranslationStore(translationRepository, translationMapper);
+    }
+
+    @Test
+    void get_MaterializesStoredColumns() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_000_000);
+        TranslationResponseDto translation = new TranslationResponseDto(
+                7L, "welcome.title", "ja", "ようこそ", Set.of("web", "mobile"), createdAt, null);
+
+        store.onTranslationChanged(TranslationChangedEvent.created(translation));
+
+        TranslationResponseDto stored = store.get(7L);
+        assertEquals("welcome.title", stored.getTranslationKey());
+        assertEquals("ja", stored.getLocale());
+        assertEquals("ようこそ", stored.getContent());
+        assertEquals(Set.of("web", "mobile"), stored.getTags());
+        assertEquals(createdAt, stored.getCreatedAt());
+        assertNull(stored.getUpdatedAt());
+    }
+
+    @Test
+    void onTranslationChanged_UpdatesAndDeletesRows() {
+        store.onTranslationChanged(TranslationChangedEvent.created(dto(1L, "a", Set.of("web"))));
+        store.onTranslationChanged(TranslationChangedEvent.created(dto(2L, "b", Set.of())));
+        store.onTranslationChanged(TranslationChangedEvent.updated(dto(1L, "a2", Set.of("desktop"))));
+        store.onTranslationChanged(TranslationChangedEvent.deleted(2L));
+
+        assertEquals(1, store.size());
+        assertEquals("a2", store.get(1L).getTranslationKey());
+        assertEquals(Set.of("desktop"), store.get(1L).getTags());
+        assertNull(store.get(2L));
+    }
+
+    @Test
+    void onTranslationChanged_KeepsTagsBeyondTheInlineBitset() {
+        Set<String> tags = IntStream.range(0, 70).mapToObj(i -> "tag" + i).collect(Collectors.toSet());
+
+        store.onTranslationChanged(TranslationChangedEvent.created(dto(1L, "many.tags", tags)));
+
+        assertEquals(tags, store.get(1L).getTags());
+    }
+
+    @Test
+    void longIntHashMap_RemoveKeepsCollidingEntriesReachable() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        for (long key = 1; key <= 1000; key++) {
+            map.put(key, (int) key * 2);
+        }
+        for (long key = 1; key <= 1000; key += 2) {
+            assertEquals((int) key * 2, map.remove(key, -1));
+        }
+
+        assertEquals(500, map.size());
+        for (long key = 1; key <= 1000; key++) {
+            assertEquals(key % 2 == 0 ? (int) key * 2 : -1, map.get(key, -1));
+        }
+    }
+
+    private TranslationResponseDto dto(Long id, String key, Set<String> tags) {
+        return new TranslationResponseDto(id, key, "en", key + " content", new HashSet<>(tags), null, null);
+    }
+}
@@ -0,0 +1,177 @@
+package com.digitaltolk.translation_management_service.writebehind;
+
+import com.digitaltolk.translation_management_service.dto.TranslationRequestDto;
+import com.digitaltolk.translation_management_service.exception.WriteBehindUnavailableException;
+import com.digitaltolk.translation_management_service.service.TranslationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindPipelineTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void flush_CoalescesWritesPerKeyAndTruncatesLog() throws IOException {
+        WriteBehindPipeline pipeline = pipeline(10);
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "First", Set.of("web")));
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "Second", Set.of("web")));
+        pipeline.submit(new TranslationRequestDto("app.title", "fr", "Titre", null));
+
+        pipeline.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TranslationRequestDto>> batch = ArgumentCaptor.forClass(List.class);
+        verify(translationService).applyWriteBatch(batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertEquals("Second", batch.getValue().get(0).getContent());
+        WriteBehindPipeline.Stats stats = pipeline.stats();
+        assertEquals(3, stats.accepted());
+        assertEquals(1, stats.coalesced());
+        assertEquals(0, stats.pending());
+        assertEquals(0, Files.size(directory.resolve("translations.log")));
+    }
+
+    @Test
+    void recover_ReplaysUnflushedWritesAfterRestart() throws IOException {
+        WriteBehindPipeline crashed = pipeline(10);
+        crashed.submit(new TranslationRequestDto("app.title", "en", "Title", null));
+
+        WriteBehindPipeline restarted = pipeline(10);
+        restarted.recover();
+        restarted.flush();
+
+        verify(translationService).applyWriteBatch(argThat(requests ->
+                requests.size() == 1 && "Title".equals(requests.get(0).getContent())));
+        assertEquals(2, restarted.submit(new TranslationRequestDto("app.title", "en", "Next", null)));
+    }
+
+    @Test
+    void submit_RejectsNewKeysWhenPendingIsFull() throws IOException {
+        WriteBehindPipeline pipeline = pipeline(1);
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "Title", null));
+
+        assertDoesNotThrow(() -> pipeline.submit(new TranslationRequestDto("app.title", "en", "Newer", null)));
+        assertThrows(WriteBehindUnavailableException.class,
+                () -> pipeline.submit(new TranslationRequestDto("app.other", "en", "Other", null)));
+        assertEquals(1, pipeline.stats().rejected());
+    }
+
+    @Test
+    void flush_KeepsFailedWritePendingUntilRetrySucceeds() throws IOException {
+        WriteBehindPipeline pipeline = pipeline(10, Duration.ZERO);
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "Title", null));
+        pipeline.submit(new TranslationRequestDto("app.other", "en", "Other", null));
+        when(translationService.applyWriteBatch(anyList()))
+                .thenThrow(new IllegalStateException("batch failed"))
+                .thenThrow(new CannotAcquireLockException("row failed"))
+                .thenReturn(List.of());
+
+        pipeline.flush();
+
+        verify(translationService, times(3)).applyWriteBatch(anyList());
+        assertEquals(1, pipeline.stats().failedWrites());
+        assertEquals(1, pipeline.stats().pending());
+        assertEquals(1, pipeline.stats().retrying());
+        assertTrue(Files.size(directory.resolve("translations.log")) > 0);
+
+        pipeline.flush();
+
+        verify(translationService, times(2)).applyWriteBatch(argThat(requests ->
+                requests.size() == 1 && "Title".equals(requests.get(0).getContent())));
+        assertEquals(0, pipeline.stats().pending());
+        assertEquals(0, pipeline.stats().deadLettered());
+        assertEquals(0, Files.size(directory.resolve("translations.log")));
+    }
+
+    @Test
+    void flush_WaitsOutRetryBackoff() throws IOException {
+        WriteBehindPipeline pipeline = pipeline(10, Duration.ofMinutes(1));
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "Title", null));
+        when(translationService.applyWriteBatch(anyList())).thenThrow(new CannotAcquireLockException("locked"));
+
+        pipeline.flush();
+        pipeline.flush();
+
+        verify(translationService, times(2)).applyWriteBatch(anyList());
+        assertEquals(1, pipeline.stats().retrying());
+    }
+
+    @Test
+    void flush_RetriesDuplicateKeyFromConcurrentCreate() throws IOException {
+        WriteBehindPipeline pipeline = pipeline(10, Duration.ofMinutes(1));
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "Title", null));
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        "PUBLIC.UK_KEY_LOCALE_INDEX_4 ON PUBLIC.TRANSLATIONS(TRANSLATION_KEY, LOCALE)"));
+        when(translationService.applyWriteBatch(anyList())).thenThrow(duplicate);
+
+        pipeline.flush();
+
+        assertEquals(1, pipeline.stats().pending());
+        assertEquals(0, pipeline.stats().deadLettered());
+        assertFalse(Files.exists(directory.resolve("translations.dead-letter")));
+    }
+
+    @Test
+    void flush_DeadLettersWritesThatCanNeverSucceed() throws IOException {
+        WriteBehindPipeline pipeline = pipeline(10, Duration.ZERO);
+        pipeline.submit(new TranslationRequestDto("app.title", "en", "Title", null));
+        pipeline.submit(new TranslationRequestDto("app.other", "en", "Other", null));
+        when(translationService.applyWriteBatch(anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenReturn(List.of());
+
+        pipeline.flush();
+
+        assertEquals(1, pipeline.stats().deadLettered());
+        assertEquals(0, pipeline.stats().pending());
+        assertEquals(0, Files.size(directory.resolve("translations.log")));
+        List<String> deadLetters = Files.readAllLines(directory.resolve("translations.dead-letter"));
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).contains("\"key\":\"app.title\""));
+        assertTrue(deadLetters.get(0).contains("value too long"));
+    }
+
+    @Test
+    void constructor_RequiresLogDirectory() {
+        assertThrows(IllegalStateException.class, () -> new WriteBehindPipeline(translationService, objectMapper, " ",
+                10, 100, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    }
+
+    private WriteBehindPipeline pipeline(int maxPending) throws IOException {
+        return pipeline(maxPending, Duration.ofSeconds(1));
+    }
+
+    private WriteBehindPipeline pipeline(int maxPending, Duration retryBackoff) throws IOException {
+        return new WriteBehindPipeline(translationService, objectMapper, directory.toString(), maxPending, 100,
+                retryBackoff, Duration.ofMinutes(1));
+    }
+}